@@ -0,0 +1,71 @@
+package com.jooyeon.app.common.config;
+
+import com.jooyeon.app.common.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 커넥션 지연 획득 설정
+ * 트랜잭션이 시작되어도 첫 SQL 실행 전까지는 커넥션 풀에서 커넥션을 빌리지 않는다
+ * (readOnly, 격리 수준 설정은 프록시가 기억했다가 실제 커넥션에 적용)
+ *
+ * 애플리케이션이 쓰는 기본 dataSource 빈만 감싼다 (다른 DataSource 빈은 그대로 둔다)
+ */
+@Configuration
+public class DataSourceConfig {
+
+    static final String PRIMARY_DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor lazyConnectionDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (PRIMARY_DATA_SOURCE_BEAN.equals(beanName)
+                        && bean instanceof DataSource dataSource && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                    return new LazyConnectionDataSourceProxy(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * primary 풀이 auto-commit 해제 상태(spring.datasource.hikari.auto-commit=false)일 때만 Hibernate 에 알린다
+     * 그래야 Hibernate 가 트랜잭션 시작 시 setAutoCommit(false) 를 위해 커넥션을 꺼내지 않는다
+     * auto-commit 커넥션에 이 설정을 켜면 트랜잭션 없이 문장마다 커밋되므로 풀 설정을 직접 확인한다
+     *
+     * 기본값(auto-commit=true)에서는 아무것도 바꾸지 않는다
+     * auto-commit 을 끄면 트랜잭션 밖의 쓰기(JdbcTemplate 등)는 반납 시 롤백되므로 모두 트랜잭션 안에서 실행해야 한다
+     */
+    @Bean
+    public HibernatePropertiesCustomizer providerDisablesAutocommitCustomizer(DataSource dataSource) {
+        return properties -> {
+            HikariDataSource hikari = primaryPool(dataSource);
+            if (hikari != null && !hikari.isAutoCommit()) {
+                properties.put(AvailableSettings.CONNECTION_PROVIDER_DISABLES_AUTOCOMMIT, true);
+            }
+        };
+    }
+
+    /**
+     * replica 라우팅이 켜져 있으면 라우팅 DataSource 의 기본 대상(primary 풀)을 꺼낸다
+     * (라우팅 DataSource 는 unwrap 시점의 조회 키에 따라 대상이 바뀌므로 직접 꺼낸다)
+     */
+    private static HikariDataSource primaryPool(DataSource dataSource) {
+        ReplicaRoutingDataSource routing = DataSourceUnwrapper.unwrap(dataSource, ReplicaRoutingDataSource.class);
+        DataSource primary = routing != null ? routing.getResolvedDefaultDataSource() : dataSource;
+        return primary != null
+                ? DataSourceUnwrapper.unwrap(primary, HikariConfigMXBean.class, HikariDataSource.class)
+                : null;
+    }
+}
@@ -0,0 +1,117 @@
+package com.jooyeon.app.common.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.HibernateMetrics;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Caffeine)
+ * 인증 요청마다 읽는 Member 의 반복 조회를 DB 대신 캐시에서 처리한다
+ * (상품은 ProductCatalogCache 가 조회 화면을 맡고 주문은 가격을 DB 에서 읽으므로 2차 캐시 대상이 아니다)
+ *
+ * - region 별 크기/TTL 은 app.hibernate-cache 로 지정하며, 여기 정의되지 않은 region 을 쓰는 엔티티가 있으면 시작 시 실패한다
+ * - Caffeine CacheManager 는 컨텍스트마다 따로 만든다 (기본 CacheManager 는 JVM 전역이라 테스트 컨텍스트끼리 섞인다)
+ * - 2차 캐시 설정은 모두 여기서 적용하므로, 이 설정을 읽지 않는 @DataJpaTest 슬라이스에서는 캐시가 꺼져 있다
+ * - 캐시 통계는 /actuator/metrics/hibernate.second.level.cache.requests (region, result 태그) 등으로 노출
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.hibernate-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(HibernateCacheProperties.class)
+@Slf4j
+public class HibernateCacheConfig {
+
+    public static final String MEMBER_REGION = "member";
+    public static final String MEMBER_QUERY_REGION = "member-query";
+
+    private CacheManager cacheManager;
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(HibernateCacheProperties properties) {
+        cacheManager = createCacheManager(properties);
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, properties.isQueryCache());
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    /**
+     * Hibernate 통계(2차 캐시/쿼리 캐시 적중, put 수 등)를 Micrometer 로 노출
+     * MeterBinder 로 등록하면 MeterRegistry 를 쓰는 DataSource 와 순환 의존이 생기므로 초기화가 끝난 뒤 연결한다
+     */
+    @Bean
+    public SmartInitializingSingleton hibernateCacheMetrics(EntityManagerFactory entityManagerFactory,
+                                                            MeterRegistry meterRegistry) {
+        return () -> new HibernateMetrics(entityManagerFactory.unwrap(SessionFactory.class),
+                "entityManagerFactory", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    @PreDestroy
+    public void closeCacheManager() {
+        if (cacheManager != null) {
+            cacheManager.close();
+        }
+    }
+
+    private static CacheManager createCacheManager(HibernateCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-l2-" + UUID.randomUUID()), HibernateCacheConfig.class.getClassLoader());
+
+        Map<String, HibernateCacheProperties.Region> regions = new LinkedHashMap<>();
+        regions.put(MEMBER_REGION, new HibernateCacheProperties.Region());
+        regions.put(MEMBER_QUERY_REGION, new HibernateCacheProperties.Region());
+        regions.put(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, new HibernateCacheProperties.Region());
+        regions.putAll(properties.getRegions());
+
+        regions.forEach((name, region) -> {
+            Long maxSize = region.getMaxSize() != null ? region.getMaxSize() : properties.getDefaults().getMaxSize();
+            Duration ttl = region.getTtl() != null ? region.getTtl() : properties.getDefaults().getTtl();
+            cacheManager.createCache(name, configuration(maxSize, ttl));
+            log.info("[HIBERNATE_CACHE] region={}, maxSize={}, ttl={}", name, maxSize, ttl);
+        });
+        // 쿼리 캐시 무효화 기준 - 쿼리 결과보다 먼저 사라지면 오래된 결과를 반환할 수 있으므로 크기/만료 제한 없음
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, configuration(null, null));
+        return cacheManager;
+    }
+
+    private static CaffeineConfiguration<Object, Object> configuration(Long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate 캐시 항목은 불변 분해 상태이므로 직렬화 복사 없이 참조로 저장
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        if (maxSize != null) {
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+        }
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        return configuration;
+    }
+}
@@ -0,0 +1,55 @@
+package com.jooyeon.app.common.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 설정 (app.hibernate-cache)
+ * region 별 크기/TTL 을 지정하며, 지정하지 않은 항목은 defaults 값을 쓴다
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.hibernate-cache")
+public class HibernateCacheProperties {
+
+    /**
+     * false 면 2차 캐시/쿼리 캐시 모두 사용하지 않음
+     */
+    private boolean enabled = true;
+
+    /**
+     * 쿼리 캐시 사용 여부 (HINT_CACHEABLE 이 지정된 쿼리만 대상)
+     */
+    private boolean queryCache = true;
+
+    private Region defaults = new Region(10_000L, Duration.ofMinutes(10));
+
+    /**
+     * region 이름별 설정 (member, member-query ...)
+     */
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+
+        /**
+         * 최대 항목 수
+         */
+        private Long maxSize;
+
+        /**
+         * 저장 후 만료 시간
+         */
+        private Duration ttl;
+    }
+}
@@ -0,0 +1,21 @@
+package com.jooyeon.app.common.config;
+
+import com.jooyeon.app.common.id.SnowflakeIdGenerator;
+import com.jooyeon.app.common.id.SnowflakeIdentifierGenerator;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @SnowflakeId 엔티티 식별자 생성기에 Spring 빈 SnowflakeIdGenerator 를 넘겨준다
+ * (정적 인스턴스를 쓰지 않으므로 테스트 등에서 따로 만든 생성기가 노드 ID 를 바꾸지 않는다)
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer snowflakeIdGeneratorCustomizer(SnowflakeIdGenerator snowflakeIdGenerator) {
+        return hibernateProperties ->
+                hibernateProperties.put(SnowflakeIdentifierGenerator.GENERATOR_SETTING, snowflakeIdGenerator);
+    }
+}
@@ -2,6 +2,8 @@ package com.jooyeon.app.common.config;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 /**
  * 분산락 설정
@@ -11,11 +13,25 @@ import org.springframework.context.annotation.EnableAspectJAutoProxy;
  * - RedissonClient 빈 등록
  * - Redis 연결 설정
  * - 락 타임아웃 및 재시도 설정
+ *
+ * 어드바이스 순서: @Lock 이 @Transactional 보다 바깥에서 실행되어야 한다
+ * 트랜잭션(커넥션)을 먼저 잡으면 락 대기 시간 동안 커넥션 풀을 점유하게 된다
  */
 @Configuration
 @EnableAspectJAutoProxy
+@EnableTransactionManagement(proxyTargetClass = true, order = LockConfig.TRANSACTION_ADVICE_ORDER)
 public class LockConfig {
 
+    /**
+     * 락 어드바이스 순서 (값이 작을수록 바깥)
+     */
+    public static final int LOCK_ADVICE_ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+    /**
+     * 트랜잭션 어드바이스 순서 - 항상 락 안쪽
+     */
+    public static final int TRANSACTION_ADVICE_ORDER = LOCK_ADVICE_ORDER + 100;
+
     // 실제 Redis 환경에서는 다음과 같은 설정이 필요:
     // 현재는 로컬 구현이지만, 분산 환경에서는 Redis 분산락이 필요합니다
 
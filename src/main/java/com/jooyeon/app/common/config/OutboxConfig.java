@@ -0,0 +1,22 @@
+package com.jooyeon.app.common.config;
+
+import com.jooyeon.app.common.outbox.ApplicationEventOutboxSink;
+import com.jooyeon.app.common.outbox.OutboxEventSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * outbox 발행 대상 설정
+ * 다른 OutboxEventSink 빈(메시지 브로커 등)이 등록되면 기본 프로세스 내부 sink 는 생성되지 않는다
+ */
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxEventSink.class)
+    public OutboxEventSink applicationEventOutboxSink(ApplicationEventPublisher eventPublisher) {
+        return new ApplicationEventOutboxSink(eventPublisher);
+    }
+}
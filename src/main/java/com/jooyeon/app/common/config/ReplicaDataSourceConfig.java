@@ -0,0 +1,100 @@
+package com.jooyeon.app.common.config;
+
+import com.jooyeon.app.common.datasource.ReplicaHealthChecker;
+import com.jooyeon.app.common.datasource.ReplicaNode;
+import com.jooyeon.app.common.datasource.ReplicaProperties;
+import com.jooyeon.app.common.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 replica 라우팅 설정 (app.datasource.replica.enabled=true 일 때만)
+ * primary 는 spring.datasource.*, replica 는 app.datasource.replica.nodes 로 구성하며
+ * 모든 풀은 spring.datasource.hikari.* 설정을 공유한다
+ *
+ * 이 DataSource 도 DataSourceConfig 의 LazyConnectionDataSourceProxy 로 감싸져 첫 SQL 시점에 라우팅된다
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+@Slf4j
+public class ReplicaDataSourceConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    public ReplicaRoutingDataSource dataSource(DataSourceProperties dataSourceProperties,
+                                               ReplicaProperties replicaProperties,
+                                               Environment environment,
+                                               MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = createPool(dataSourceProperties.initializeDataSourceBuilder(),
+                "primary", false, binder, meterRegistry);
+
+        List<ReplicaNode> replicas = new ArrayList<>();
+        List<ReplicaProperties.Node> nodes = replicaProperties.getNodes();
+        for (int i = 0; i < nodes.size(); i++) {
+            ReplicaProperties.Node node = nodes.get(i);
+            String name = node.getName() != null ? node.getName() : "replica-" + (i + 1);
+            DataSourceBuilder<?> builder = DataSourceBuilder.create()
+                    .url(node.getUrl())
+                    .username(node.getUsername())
+                    .password(node.getPassword());
+            replicas.add(new ReplicaNode(name, createPool(builder, name, true, binder, meterRegistry), node.getLagQuery()));
+        }
+
+        log.info("[DATASOURCE] replica 라우팅 활성화: replicas={}, selection={}, maxLag={}",
+                replicas.stream().map(ReplicaNode::getName).toList(),
+                replicaProperties.getSelection(), replicaProperties.getMaxLag());
+
+        return new ReplicaRoutingDataSource(primary, replicas, replicaProperties.getSelection(),
+                replicaProperties.getMaxLag(), meterRegistry);
+    }
+
+    /**
+     * dataSource 빈은 지연 프록시로 감싸져 있으므로 unwrap 으로 라우팅 DataSource 를 꺼낸다
+     */
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(DataSource dataSource) throws SQLException {
+        return new ReplicaHealthChecker(dataSource.unwrap(ReplicaRoutingDataSource.class));
+    }
+
+    /**
+     * 라우팅 DataSource 빈은 지연 프록시로 감싸져 close 가 추론되지 않으므로 풀을 직접 닫는다
+     */
+    @PreDestroy
+    public void closePools() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private HikariDataSource createPool(DataSourceBuilder<?> builder, String poolName, boolean readOnly,
+                                        Binder binder, MeterRegistry meterRegistry) {
+        HikariDataSource pool = builder.type(HikariDataSource.class).build();
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(pool));
+        pool.setPoolName(poolName);
+        pool.setReadOnly(readOnly);
+        // 라우팅 DataSource 는 Boot 의 Hikari 메트릭 자동 등록 대상이 아니므로 풀마다 직접 연결 (pool 태그로 구분)
+        pool.setMetricRegistry(meterRegistry);
+        pools.add(pool);
+        return pool;
+    }
+}
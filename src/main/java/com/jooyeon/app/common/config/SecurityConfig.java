@@ -47,7 +47,11 @@ public class SecurityConfig {
                     .requestMatchers("/v3/api-docs/**").permitAll()
                     .requestMatchers("/swagger-resources/**").permitAll()
                     .requestMatchers("/webjars/**").permitAll()
-                    .requestMatchers("/actuator/**").permitAll()
+                    .requestMatchers("/actuator/health/**", "/actuator/info").permitAll()
+                    // 메트릭 등 나머지 actuator 엔드포인트는 관리자 회원만
+                    .requestMatchers("/actuator/**").hasRole("ADMIN")
+                    // 전사 매출/주문 집계는 관리자 회원만 (app.security.admin-user-ids)
+                    .requestMatchers("/api/analytics/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .headers(headers -> headers
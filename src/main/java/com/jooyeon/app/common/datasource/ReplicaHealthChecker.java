@@ -0,0 +1,18 @@
+package com.jooyeon.app.common.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * replica 상태/복제 지연 주기 확인
+ */
+@RequiredArgsConstructor
+public class ReplicaHealthChecker {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.health-check-interval:PT1S}")
+    public void check() {
+        routingDataSource.checkReplicas();
+    }
+}
@@ -0,0 +1,79 @@
+package com.jooyeon.app.common.datasource;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * replica DataSource 와 최근 상태 확인 결과
+ * 상태 확인 스레드가 갱신하고 요청 스레드가 읽으므로 상태 필드는 volatile
+ */
+@Getter
+@Slf4j
+public class ReplicaNode {
+
+    private static final double LATENCY_SMOOTHING = 0.3;
+
+    private final String name;
+    private final DataSource dataSource;
+    private final String lagQuery;
+
+    private volatile boolean healthy = true;
+    private volatile long lagMillis;
+    private volatile double latencyMillis;
+
+    public ReplicaNode(String name, DataSource dataSource, String lagQuery) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.lagQuery = lagQuery;
+    }
+
+    public boolean isAvailable(Duration maxLag) {
+        return healthy && lagMillis <= maxLag.toMillis();
+    }
+
+    /**
+     * 연결 확인과 복제 지연 측정
+     * 응답 시간은 지수 이동 평균으로 기록해 일시적인 튐에 덜 민감하게 한다
+     * 실패 원인은 정상에서 실패로 바뀔 때만 warn, 실패가 이어지는 동안은 debug 로 남긴다
+     */
+    public void check() {
+        long started = System.nanoTime();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            long lag = 0;
+            if (lagQuery != null && !lagQuery.isBlank()) {
+                try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                    lag = rs.next() ? Math.round(rs.getDouble(1) * 1000) : 0;
+                }
+            } else {
+                statement.execute("SELECT 1");
+            }
+            recordSuccess(lag, (System.nanoTime() - started) / 1_000_000.0);
+        } catch (Exception e) {
+            if (healthy) {
+                log.warn("[DATASOURCE] replica 상태 확인 실패: {} - {}", name, e.getMessage(), e);
+            } else {
+                log.debug("[DATASOURCE] replica 상태 확인 실패 지속: {} - {}", name, e.getMessage());
+            }
+            healthy = false;
+        }
+    }
+
+    void recordSuccess(long lagMillis, double elapsedMillis) {
+        this.lagMillis = lagMillis;
+        this.latencyMillis = latencyMillis == 0
+                ? elapsedMillis
+                : latencyMillis + LATENCY_SMOOTHING * (elapsedMillis - latencyMillis);
+        this.healthy = true;
+    }
+
+    void markUnhealthy() {
+        this.healthy = false;
+    }
+}
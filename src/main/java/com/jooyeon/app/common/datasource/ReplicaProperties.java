@@ -0,0 +1,52 @@
+package com.jooyeon.app.common.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 replica 설정 (app.datasource.replica)
+ * replica 목록처럼 구조가 있는 설정이라 @Value 대신 바인딩 클래스로 받는다
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaProperties {
+
+    /**
+     * false 면 라우팅 없이 단일 primary DataSource 사용
+     */
+    private boolean enabled = false;
+
+    /**
+     * replica 선택 방식
+     */
+    private ReplicaSelection selection = ReplicaSelection.ROUND_ROBIN;
+
+    /**
+     * 허용 복제 지연 - 초과한 replica 는 선택에서 제외
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    private List<Node> nodes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Node {
+
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+
+        /**
+         * 복제 지연(초)을 반환하는 쿼리 - 비어 있으면 지연 0 으로 간주
+         * PostgreSQL 예: SELECT COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+         */
+        private String lagQuery;
+    }
+}
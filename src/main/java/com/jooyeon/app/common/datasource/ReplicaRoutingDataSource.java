@@ -0,0 +1,135 @@
+package com.jooyeon.app.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 읽기 전용 트랜잭션을 replica 로 보내는 라우팅 DataSource
+ * 사용 가능한 replica 가 없으면 (장애, 허용 지연 초과) primary 로 대체한다
+ *
+ * 트랜잭션의 readOnly 플래그는 트랜잭션 시작 이후에 설정되므로
+ * 반드시 LazyConnectionDataSourceProxy 뒤에 두어 첫 SQL 시점에 라우팅되도록 해야 한다 (DataSourceConfig)
+ *
+ * 쓰기 직후 무효화된 캐시를 다시 채우는 조회는 지연된 replica 를 읽으면 오래된 값이 TTL 동안 고정되므로
+ * readFromPrimary 로 감싸 읽기 전용 트랜잭션이라도 primary 로 보낸다
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private final List<ReplicaNode> replicas;
+    private final ReplicaSelection selection;
+    private final Duration maxLag;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+
+    private final Map<String, Counter> routedCounters = new HashMap<>();
+    private final Counter fallbackCounter;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<ReplicaNode> replicas, ReplicaSelection selection,
+                                    Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+        this.maxLag = maxLag;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        targets.putAll(this.replicas.stream().collect(Collectors.toMap(ReplicaNode::getName, ReplicaNode::getDataSource)));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        routedCounters.put(PRIMARY, routedCounter(meterRegistry, PRIMARY));
+        this.replicas.forEach(replica -> routedCounters.put(replica.getName(), routedCounter(meterRegistry, replica.getName())));
+        this.fallbackCounter = Counter.builder("datasource.routing.fallback")
+                .description("사용 가능한 replica 가 없어 primary 로 보낸 읽기 전용 트랜잭션 수")
+                .register(meterRegistry);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String target = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !Boolean.TRUE.equals(PRIMARY_PINNED.get())
+                ? selectReplica()
+                : PRIMARY;
+        routedCounters.get(target).increment();
+        return target;
+    }
+
+    /**
+     * reader 안에서 처음 얻는 커넥션을 primary 로 고정 (캐시 로더용)
+     * 지연 프록시는 첫 SQL 시점에 라우팅하므로 트랜잭션에서 이미 SQL 을 실행했다면 기존 커넥션을 그대로 사용한다
+     * replica 라우팅이 꺼져 있으면 아무 효과 없이 reader 를 실행한다
+     */
+    public static <T> T readFromPrimary(Supplier<T> reader) {
+        boolean nested = Boolean.TRUE.equals(PRIMARY_PINNED.get());
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        try {
+            return reader.get();
+        } finally {
+            if (!nested) {
+                PRIMARY_PINNED.remove();
+            }
+        }
+    }
+
+    private String selectReplica() {
+        List<ReplicaNode> available = replicas.stream()
+                .filter(replica -> replica.isAvailable(maxLag))
+                .collect(Collectors.toList());
+        if (available.isEmpty()) {
+            fallbackCounter.increment();
+            log.debug("[DATASOURCE] 사용 가능한 replica 없음, primary 로 대체");
+            return PRIMARY;
+        }
+
+        ReplicaNode selected = switch (selection) {
+            case ROUND_ROBIN -> available.get(Math.floorMod(roundRobin.getAndIncrement(), available.size()));
+            case LEAST_LATENCY -> available.stream()
+                    .min(Comparator.comparingDouble(ReplicaNode::getLatencyMillis))
+                    .orElseThrow();
+        };
+        return selected.getName();
+    }
+
+    /**
+     * 모든 replica 상태/지연 확인 (ReplicaHealthChecker 에서 주기 실행)
+     */
+    public void checkReplicas() {
+        for (ReplicaNode replica : replicas) {
+            boolean wasAvailable = replica.isAvailable(maxLag);
+            replica.check();
+            boolean available = replica.isAvailable(maxLag);
+            if (wasAvailable != available) {
+                log.warn("[DATASOURCE] replica 상태 변경: {} available={}, healthy={}, lag={}ms",
+                        replica.getName(), available, replica.isHealthy(), replica.getLagMillis());
+            }
+        }
+    }
+
+    public List<ReplicaNode> getReplicas() {
+        return replicas;
+    }
+
+    private static Counter routedCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.routing")
+                .description("라우팅된 커넥션 요청 수")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,15 @@
+package com.jooyeon.app.common.datasource;
+
+/**
+ * replica 선택 방식
+ */
+public enum ReplicaSelection {
+    /**
+     * 사용 가능한 replica 를 순서대로 선택
+     */
+    ROUND_ROBIN,
+    /**
+     * 최근 상태 확인 응답 시간이 가장 짧은 replica 선택
+     */
+    LEAST_LATENCY
+}
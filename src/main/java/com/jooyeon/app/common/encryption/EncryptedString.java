@@ -0,0 +1,142 @@
+package com.jooyeon.app.common.encryption;
+
+import org.hibernate.annotations.Immutable;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 암호화 컬럼 값 (암호문 + 지연 복호화된 평문)
+ *
+ * - DB 에서 읽은 값은 암호문만 가진 채로 생성되고, 처음 getValue() 할 때 한 번 복호화해 보관한다
+ * - 애플리케이션에서 만든 값은 평문만 가지며, 처음 저장될 때 한 번 암호화해 보관한다
+ * - 불변 값이므로 Hibernate 는 스냅샷을 복사하지 않고 같은 인스턴스를 비교한다
+ *   (setter 로 바꾸지 않은 속성은 같은 인스턴스라 변경 감지 시에도 복호화/재암호화가 없다)
+ */
+@Immutable
+public final class EncryptedString implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private volatile String ciphertext;
+    private transient volatile String plaintext;
+
+    private EncryptedString(String ciphertext, String plaintext) {
+        this.ciphertext = ciphertext;
+        this.plaintext = plaintext;
+    }
+
+    /**
+     * 평문으로 생성 (null 이면 null)
+     */
+    public static EncryptedString of(String plaintext) {
+        return plaintext == null ? null : new EncryptedString(null, plaintext);
+    }
+
+    /**
+     * DB 에서 읽은 암호문으로 생성 (null 이면 null)
+     */
+    public static EncryptedString fromCiphertext(String ciphertext) {
+        return ciphertext == null ? null : new EncryptedString(ciphertext, null);
+    }
+
+    /**
+     * null 을 허용하는 평문 조회
+     */
+    public static String valueOf(EncryptedString encrypted) {
+        return encrypted == null ? null : encrypted.getValue();
+    }
+
+    /**
+     * 여러 값을 한 번에 복호화해 둔다 (이미 평문이 있는 값은 제외, EncryptionUtil.decryptAll 로 병렬 처리)
+     * 이후 getValue() 는 복호화 없이 평문을 돌려준다
+     */
+    public static void decryptAll(Collection<EncryptedString> values) {
+        List<EncryptedString> pending = values.stream()
+                .filter(value -> value != null && value.plaintext == null)
+                .toList();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<String> plaintexts = EncryptionUtil.getInstance()
+                .decryptAll(pending.stream().map(value -> value.ciphertext).toList());
+        for (int i = 0; i < pending.size(); i++) {
+            pending.get(i).plaintext = plaintexts.get(i);
+        }
+    }
+
+    /**
+     * 평문 - 처음 호출될 때만 복호화
+     */
+    public String getValue() {
+        String value = plaintext;
+        if (value == null) {
+            value = EncryptionUtil.getInstance().decrypt(ciphertext);
+            plaintext = value;
+        }
+        return value;
+    }
+
+    /**
+     * 암호문 - 처음 호출될 때만 암호화
+     */
+    public String getCiphertext() {
+        String value = ciphertext;
+        if (value == null) {
+            value = EncryptionUtil.getInstance().encrypt(plaintext);
+            ciphertext = value;
+        }
+        return value;
+    }
+
+    /**
+     * 평문이 이미 준비되어 있는지 (복호화 여부 확인용)
+     */
+    public boolean isDecrypted() {
+        return plaintext != null;
+    }
+
+    /**
+     * 같은 암호문이면 복호화 없이 같다고 판단하고, 그 외에는 평문으로 비교한다
+     * (GCM 은 IV 가 매번 달라 같은 평문도 암호문이 다르다)
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EncryptedString other)) {
+            return false;
+        }
+        if (ciphertext != null && ciphertext.equals(other.ciphertext)) {
+            return true;
+        }
+        return getValue().equals(other.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
+    }
+
+    /**
+     * 로그 등에 평문이 노출되지 않도록 마스킹
+     */
+    @Override
+    public String toString() {
+        return "EncryptedString[****]";
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // 직렬화 형태는 항상 암호문 (평문은 transient)
+        getCiphertext();
+        out.defaultWriteObject();
+    }
+}
@@ -0,0 +1,23 @@
+package com.jooyeon.app.common.encryption;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * EncryptedString 컨버터 - 암호문을 그대로 주고받고 복호화/암호화는 EncryptedString 이 필요할 때 수행
+ */
+@Converter
+@Immutable
+public class EncryptedStringConverter implements AttributeConverter<EncryptedString, String> {
+
+    @Override
+    public String convertToDatabaseColumn(EncryptedString attribute) {
+        return attribute == null ? null : attribute.getCiphertext();
+    }
+
+    @Override
+    public EncryptedString convertToEntityAttribute(String dbData) {
+        return EncryptedString.fromCiphertext(dbData);
+    }
+}
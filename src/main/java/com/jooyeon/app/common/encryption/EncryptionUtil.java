@@ -1,16 +1,43 @@
 package com.jooyeon.app.common.encryption;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
+import javax.crypto.Mac;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * AES-256-GCM 암복호화
+ *
+ * Cipher.getInstance(프로바이더 조회)와 SecureRandom 생성(시딩)이 호출당 비용의 대부분이라
+ * Cipher + IV 생성기 한 쌍(CipherEngine)을 풀에 두고 재사용한다
+ * - ThreadLocal 대신 풀을 쓰므로 가상 스레드가 많아도 엔진 수는 동시 실행 수만큼만 늘어난다
+ * - 풀이 비어 있으면 기다리지 않고 새로 만들고, 반납 시 풀이 가득 차면 버린다
+ *
+ * 여러 값을 한 번에 복호화할 때는 decryptAll 이 코어 수만큼의 전용 스레드로 나눠 처리한다
+ * (스레드 풀은 decryptAll 이 처음 여러 구간으로 나눌 때 만든다)
+ */
 @Component
 public class EncryptionUtil {
 
@@ -18,13 +45,32 @@ public class EncryptionUtil {
     private static final String TRANSFORMATION = "AES/GCM/NoPadding";
     private static final int GCM_IV_LENGTH = 12;
     private static final int GCM_TAG_LENGTH = 16;
+    private static final String BLIND_INDEX_ALGORITHM = "HmacSHA256";
+
+    /**
+     * 일괄 복호화 시 스레드 하나가 맡는 최소 건수 (이보다 적으면 나누는 비용이 더 크다)
+     */
+    static final int MIN_BATCH_CHUNK_SIZE = 256;
 
     private static EncryptionUtil INSTANCE;
 
     @Value("${app.encryption.key:AbcDefGhijkLmnoPqrsTuvWxYz123456}")
     private String encryptionKey;
 
+    @Value("${app.encryption.max-idle-ciphers:0}")
+    private int maxIdleCiphers;
+
+    @Value("${app.encryption.blind-index-key:BlindIndexKeyForSearchableFields}")
+    private String blindIndexKey;
+
+    @Value("${app.encryption.batch-parallelism:0}")
+    private int batchParallelism;
+
     private SecretKeySpec secretKey;
+    private Mac blindIndexPrototype;
+    private int batchThreads;
+    private volatile ExecutorService batchExecutor;
+    private BlockingQueue<CipherEngine> idleEngines;
 
     @PostConstruct
     public void init() {
@@ -33,9 +79,21 @@ public class EncryptionUtil {
             throw new IllegalArgumentException("AES key length must be 16/24/32 bytes, but was " + keyBytes.length);
         }
         this.secretKey = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.idleEngines = new ArrayBlockingQueue<>(maxIdleCiphers > 0
+                ? maxIdleCiphers
+                : Runtime.getRuntime().availableProcessors() * 2);
+        this.blindIndexPrototype = newBlindIndexMac();
+        this.batchThreads = batchParallelism > 0 ? batchParallelism : Runtime.getRuntime().availableProcessors();
         INSTANCE = this;
     }
 
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (batchExecutor != null) {
+            batchExecutor.shutdownNow();
+        }
+    }
+
     public static EncryptionUtil getInstance() {
         if (INSTANCE == null) {
             throw new IllegalStateException("EncryptionUtil not initialized");
@@ -44,52 +102,189 @@ public class EncryptionUtil {
     }
 
     public String encrypt(String plainText) {
-        try {
-            if (plainText == null || plainText.isEmpty()) {
-                return plainText;
-            }
+        if (plainText == null || plainText.isEmpty()) {
+            return plainText;
+        }
 
+        CipherEngine engine = borrowEngine();
+        try {
+            byte[] plainBytes = plainText.getBytes(StandardCharsets.UTF_8);
             byte[] iv = new byte[GCM_IV_LENGTH];
-            new SecureRandom().nextBytes(iv);
-
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH * 8, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, parameterSpec);
+            engine.random.nextBytes(iv);
+            engine.cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_LENGTH * 8, iv));
 
-            byte[] encryptedData = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
-
-            byte[] encryptedWithIv = new byte[iv.length + encryptedData.length];
-            System.arraycopy(iv, 0, encryptedWithIv, 0, iv.length);
-            System.arraycopy(encryptedData, 0, encryptedWithIv, iv.length, encryptedData.length);
+            // IV 뒤에 바로 암호문을 쓰도록 출력 배열을 한 번만 할당
+            byte[] encryptedWithIv = new byte[GCM_IV_LENGTH + engine.cipher.getOutputSize(plainBytes.length)];
+            System.arraycopy(iv, 0, encryptedWithIv, 0, GCM_IV_LENGTH);
+            engine.cipher.doFinal(plainBytes, 0, plainBytes.length, encryptedWithIv, GCM_IV_LENGTH);
 
             return Base64.getEncoder().encodeToString(encryptedWithIv);
         } catch (Exception e) {
             throw new RuntimeException("Error encrypting data", e);
+        } finally {
+            returnEngine(engine);
         }
     }
 
     public String decrypt(String encryptedText) {
-        try {
-            if (encryptedText == null || encryptedText.isEmpty()) {
-                return encryptedText;
-            }
+        if (encryptedText == null || encryptedText.isEmpty()) {
+            return encryptedText;
+        }
 
+        CipherEngine engine = borrowEngine();
+        try {
             byte[] decodedData = Base64.getDecoder().decode(encryptedText);
 
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            System.arraycopy(decodedData, 0, iv, 0, iv.length);
-
-            byte[] encryptedData = new byte[decodedData.length - GCM_IV_LENGTH];
-            System.arraycopy(decodedData, GCM_IV_LENGTH, encryptedData, 0, encryptedData.length);
-
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH * 8, iv);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, parameterSpec);
+            // IV/암호문을 복사하지 않고 offset 으로 넘긴다
+            engine.cipher.init(Cipher.DECRYPT_MODE, secretKey,
+                    new GCMParameterSpec(GCM_TAG_LENGTH * 8, decodedData, 0, GCM_IV_LENGTH));
+            byte[] decryptedData = engine.cipher.doFinal(decodedData, GCM_IV_LENGTH, decodedData.length - GCM_IV_LENGTH);
 
-            byte[] decryptedData = cipher.doFinal(encryptedData);
             return new String(decryptedData, StandardCharsets.UTF_8);
         } catch (Exception e) {
             throw new RuntimeException("Error decrypting data", e);
+        } finally {
+            returnEngine(engine);
+        }
+    }
+
+    /**
+     * 일괄 복호화 - 입력과 같은 순서로 평문을 돌려준다 (null/빈 값은 그대로)
+     * MIN_BATCH_CHUNK_SIZE 단위로 나눠 batch-parallelism 개 스레드에서 동시에 복호화하며,
+     * 호출 스레드도 첫 구간을 직접 처리한다. 하나라도 실패하면 그 예외를 던진다
+     */
+    public List<String> decryptAll(List<String> encryptedTexts) {
+        String[] input = encryptedTexts.toArray(new String[0]);
+        String[] output = new String[input.length];
+
+        int chunks = Math.min(batchThreads, (input.length + MIN_BATCH_CHUNK_SIZE - 1) / MIN_BATCH_CHUNK_SIZE);
+        if (chunks <= 1) {
+            decryptRange(input, output, 0, input.length);
+            return Arrays.asList(output);
+        }
+
+        int chunkSize = (input.length + chunks - 1) / chunks;
+        List<CompletableFuture<Void>> futures = new ArrayList<>(chunks - 1);
+        for (int from = chunkSize; from < input.length; from += chunkSize) {
+            int start = from;
+            int end = Math.min(input.length, from + chunkSize);
+            futures.add(CompletableFuture.runAsync(() -> decryptRange(input, output, start, end), batchExecutor()));
+        }
+        decryptRange(input, output, 0, chunkSize);
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return Arrays.asList(output);
+    }
+
+    private void decryptRange(String[] input, String[] output, int from, int to) {
+        for (int i = from; i < to; i++) {
+            output[i] = decrypt(input[i]);
+        }
+    }
+
+    private ExecutorService batchExecutor() {
+        ExecutorService executor = batchExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = batchExecutor;
+                if (executor == null) {
+                    executor = Executors.newFixedThreadPool(batchThreads, batchThreadFactory());
+                    batchExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private static ThreadFactory batchThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "decrypt-batch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 검색용 blind index - HMAC-SHA256(hex 64자)
+     * 암호문은 IV 가 매번 달라 같은 값끼리 비교할 수 없으므로, 동등 비교/유니크 제약은 이 값으로 한다
+     * 암호화 키와 별도의 키를 쓰며, 키를 바꾸면 기존 색인 값을 모두 다시 계산해야 한다
+     */
+    public String blindIndex(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        Mac mac;
+        try {
+            mac = (Mac) blindIndexPrototype.clone();
+        } catch (CloneNotSupportedException e) {
+            mac = newBlindIndexMac();
+        }
+        return HexFormat.of().formatHex(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Mac newBlindIndexMac() {
+        try {
+            Mac mac = Mac.getInstance(BLIND_INDEX_ALGORITHM);
+            mac.init(new SecretKeySpec(blindIndexKey.getBytes(StandardCharsets.UTF_8), BLIND_INDEX_ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Blind index MAC not available: " + BLIND_INDEX_ALGORITHM, e);
+        }
+    }
+
+    /**
+     * 유휴 엔진을 꺼내고, 없으면 새로 만든다 (대기하지 않음)
+     */
+    private CipherEngine borrowEngine() {
+        CipherEngine engine = idleEngines.poll();
+        return engine != null ? engine : new CipherEngine();
+    }
+
+    /**
+     * 다 쓴 엔진 반납 - 풀이 가득 차면 버린다
+     */
+    private void returnEngine(CipherEngine engine) {
+        idleEngines.offer(engine);
+    }
+
+    /**
+     * Cipher 와 IV 생성기 한 쌍
+     * 한 번에 한 스레드만 사용하므로 Cipher 상태와 SecureRandom 을 다른 스레드와 공유하지 않는다
+     * 매 호출마다 새 IV 로 init 하므로 GCM 의 (키, IV) 재사용 제약을 지킨다
+     */
+    private static final class CipherEngine {
+
+        private final Cipher cipher;
+        private final SecureRandom random;
+
+        private CipherEngine() {
+            try {
+                this.cipher = Cipher.getInstance(TRANSFORMATION);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Cipher not available: " + TRANSFORMATION, e);
+            }
+            this.random = ivRandom();
+        }
+
+        /**
+         * DRBG 는 인스턴스 단위로만 동기화되므로 엔진마다 하나씩 두면 경합이 없다
+         * (기본 NativePRNG 는 /dev/urandom 읽기를 전역 잠금으로 직렬화)
+         */
+        private static SecureRandom ivRandom() {
+            try {
+                return SecureRandom.getInstance("DRBG");
+            } catch (NoSuchAlgorithmException e) {
+                return new SecureRandom();
+            }
         }
     }
 }
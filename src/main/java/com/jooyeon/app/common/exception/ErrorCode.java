@@ -34,11 +34,16 @@ public enum ErrorCode {
     ORDER_CANCELLATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "O007", "주문 취소에 실패했습니다."),
     ORDER_ACCESS_DENIED(HttpStatus.FORBIDDEN, "O008", "주문 접근 권한이 없습니다."),
     INVALID_ORDER_ITEMS(HttpStatus.BAD_REQUEST, "O009", "유효하지 않은 주문 항목입니다."),
+    INVALID_ORDER_CURSOR(HttpStatus.BAD_REQUEST, "O010", "유효하지 않은 주문 커서입니다."),
+    INVALID_ORDER_EXPORT_RANGE(HttpStatus.BAD_REQUEST, "O011", "유효하지 않은 주문 내보내기 기간입니다."),
+    INVALID_ROLLUP_RANGE(HttpStatus.BAD_REQUEST, "O012", "유효하지 않은 주문 집계 조회 기간입니다."),
 
     // Product Errors
     PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "P001", "상품을 찾을 수 없습니다."),
     PRODUCT_OUT_OF_STOCK(HttpStatus.BAD_REQUEST, "P002", "재고가 부족합니다."),
     PRODUCT_NOT_AVAILABLE(HttpStatus.BAD_REQUEST, "P003", "판매 중단된 상품입니다."),
+    INVALID_SEARCH_KEYWORD(HttpStatus.BAD_REQUEST, "P004", "유효하지 않은 검색어입니다."),
+    INVALID_PRICE_RANGE(HttpStatus.BAD_REQUEST, "P005", "최소 가격이 최대 가격보다 클 수 없습니다."),
 
     // Payment Errors
     PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "Y001", "결제 정보를 찾을 수 없습니다."),
@@ -0,0 +1,18 @@
+package com.jooyeon.app.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 식별자를 SnowflakeIdGenerator 로 생성 (@GeneratedValue 대신 사용)
+ * persist 시점에 DB 왕복 없이 ID 가 할당되므로 JDBC insert batching 과 함께 동작한다
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
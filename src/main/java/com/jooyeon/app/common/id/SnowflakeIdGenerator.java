@@ -0,0 +1,148 @@
+package com.jooyeon.app.common.id;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식 64비트 ID 생성기
+ * - 41비트 타임스탬프(epoch 이후 ms) | 10비트 노드 ID | 12비트 시퀀스
+ * - 시간 순으로 증가하므로 B-tree 인덱스 끝에만 삽입되고, DB 왕복 없이 노드 간 중복 없는 ID 를 만든다
+ * - 마지막 (타임스탬프, 시퀀스)를 AtomicLong 하나에 담아 CAS 로 갱신하므로 락이 없다
+ * - 시계가 뒤로 가거나 같은 ms 의 시퀀스를 모두 쓰면 논리 시계를 마지막 값 이후로 진행시켜 단조 증가를 유지한다
+ */
+@Component
+@Slf4j
+public class SnowflakeIdGenerator {
+
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_ID_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_ID_BITS + SEQUENCE_BITS;
+
+    private static final HexFormat HEX = HexFormat.of().withUpperCase();
+
+    /**
+     * 노드 ID 를 호스트 이름으로 정해도 되는 프로필 (노드가 하나뿐인 개발/테스트 환경)
+     */
+    static final String[] DERIVED_NODE_ID_PROFILES = {"dev", "test"};
+
+    @Value("${app.id.node-id:-1}")
+    private long configuredNodeId = -1;
+
+    private final LongSupplier clock;
+    private final boolean derivedNodeIdAllowed;
+    private final AtomicLong lastState = new AtomicLong();
+    private final AtomicLong clockRegressions = new AtomicLong();
+    private long nodeBits;
+
+    @Autowired
+    public SnowflakeIdGenerator(Environment environment) {
+        this.clock = System::currentTimeMillis;
+        this.derivedNodeIdAllowed = environment.acceptsProfiles(Profiles.of(DERIVED_NODE_ID_PROFILES));
+    }
+
+    SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        this(nodeId, clock, false);
+    }
+
+    SnowflakeIdGenerator(long nodeId, LongSupplier clock, boolean derivedNodeIdAllowed) {
+        this.clock = clock;
+        this.derivedNodeIdAllowed = derivedNodeIdAllowed;
+        this.configuredNodeId = nodeId;
+        init();
+    }
+
+    /**
+     * 노드 ID 미설정(-1) 은 dev/test 프로필에서만 허용 - 호스트 이름 해시는 노드 간 충돌 가능성이 있어
+     * 운영에서는 시작 시 실패시킨다
+     */
+    @PostConstruct
+    public void init() {
+        if (configuredNodeId < 0 && !derivedNodeIdAllowed) {
+            throw new IllegalStateException("app.id.node-id must be set (0~" + MAX_NODE_ID
+                    + ", unique per node) outside the dev/test profiles");
+        }
+        long nodeId = configuredNodeId >= 0 ? configuredNodeId : deriveNodeId();
+        if (nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node id must be between 0 and " + MAX_NODE_ID + ", but was " + nodeId);
+        }
+        this.nodeBits = nodeId << SEQUENCE_BITS;
+        log.info("[ID] Snowflake ID 생성기 초기화: nodeId={}", nodeId);
+    }
+
+    public long nextId() {
+        while (true) {
+            long last = lastState.get();
+            long lastTimestamp = last >>> SEQUENCE_BITS;
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+
+            long next;
+            if (now > lastTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                if (now < lastTimestamp) {
+                    clockRegressions.incrementAndGet();
+                }
+                // 같은 ms 이거나 시계가 뒤로 간 경우 - 마지막 값 다음 시퀀스, 소진 시 다음 ms 로 넘어간다
+                next = last + 1;
+            }
+
+            if (lastState.compareAndSet(last, next)) {
+                return ((next >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT) | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * 고정 길이(16자리) 대문자 16진수 ID - 문자열 정렬 순서가 생성 순서와 같다
+     */
+    public String nextHexId() {
+        return HEX.toHexDigits(nextId());
+    }
+
+    /**
+     * 시계 역행이 감지된 횟수
+     */
+    public long getClockRegressions() {
+        return clockRegressions.get();
+    }
+
+    static long timestampOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS;
+    }
+
+    static long nodeIdOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+
+    static long sequenceOf(long id) {
+        return id & SEQUENCE_MASK;
+    }
+
+    /**
+     * 노드 ID 미설정 시 호스트 이름으로 결정 (dev/test 전용)
+     */
+    private static long deriveNodeId() {
+        try {
+            String hostName = InetAddress.getLocalHost().getHostName();
+            return (hostName.hashCode() & Integer.MAX_VALUE) % (MAX_NODE_ID + 1);
+        } catch (Exception e) {
+            log.warn("[ID] 호스트 이름으로 노드 ID를 결정할 수 없어 0을 사용합니다: {}", e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.jooyeon.app.common.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+
+/**
+ * Hibernate 식별자 생성기 - Spring 빈 SnowflakeIdGenerator 에 위임
+ * 빈은 IdGeneratorConfig 가 Hibernate 설정(GENERATOR_SETTING)으로 넘겨주며, 생성기 인스턴스마다 시작 시 한 번 찾아 둔다
+ * (설정이 없는 @DataJpaTest 슬라이스에서는 Snowflake ID 엔티티를 저장할 때 실패한다)
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String GENERATOR_SETTING = "app.id.snowflake-id-generator";
+
+    private final SnowflakeIdGenerator generator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeId config, Member idMember, CustomIdGeneratorCreationContext context) {
+        Object setting = context.getServiceRegistry().getService(ConfigurationService.class)
+                .getSettings().get(GENERATOR_SETTING);
+        this.generator = setting instanceof SnowflakeIdGenerator snowflakeIdGenerator ? snowflakeIdGenerator : null;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        if (generator == null) {
+            throw new IllegalStateException("SnowflakeIdGenerator is not registered as " + GENERATOR_SETTING);
+        }
+        return generator.nextId();
+    }
+}
@@ -49,6 +49,7 @@ public class MemberStatusInterceptor implements HandlerInterceptor {
 
             Long memberId = jwtUtil.getMemberIdFromToken(token);
 
+            // 회원 상태 캐시로 판단 (캐시에 없을 때만 DB 조회)
             if (!memberService.isMemberActive(memberId)) {
                 log.warn("[멤버_상태_인터셉터] 비활성 멤버: memberId={}, requestURI={}", memberId, requestURI);
                 writeErrorResponse(response, "Member account is not active", "MEMBER_NOT_ACTIVE", HttpStatus.FORBIDDEN);
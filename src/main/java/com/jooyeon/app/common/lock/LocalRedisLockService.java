@@ -5,6 +5,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 로컬 메모리 기반 분산락 구현체
@@ -16,7 +17,7 @@ import java.util.concurrent.*;
  *
  * Redis 분산락의 주요 특징들을 모방:
  * - SET key value PX milliseconds NX (Redis 명령어 모방)
- * - Lua 스크립트를 통한 원자적 연산 (로컬에서는 synchronized 블록으로 구현)
+ * - Lua 스크립트를 통한 원자적 연산 (로컬에서는 ReentrantLock 으로 구현 - 가상 스레드 pinning 방지)
  * - 락 만료 시간 관리
  * - 재시도 메커니즘
  */
@@ -33,6 +34,10 @@ public class LocalRedisLockService implements RedisLockService {
     // In real Redis implementation, Redis handles TTL automatically
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
 
+    // Redis 단일 스레드 명령 처리를 모방하는 락 저장소 임계 구역
+    // synchronized 는 가상 스레드를 캐리어 스레드에 고정(pinning)시키므로 ReentrantLock 사용
+    private final ReentrantLock storeLock = new ReentrantLock();
+
     static class LockInfo {
         private final String threadId;
         private final long expirationTime;
@@ -88,7 +93,16 @@ public class LocalRedisLockService implements RedisLockService {
      * Redis의 원자적 연산을 모방하는 락 획득 메서드
      * Atomic lock acquisition mimicking Redis Lua script behavior
      */
-    private synchronized boolean acquireLock(String lockKey, String threadId, long leaseTimeMs) {
+    private boolean acquireLock(String lockKey, String threadId, long leaseTimeMs) {
+        storeLock.lock();
+        try {
+            return acquireLockInternal(lockKey, threadId, leaseTimeMs);
+        } finally {
+            storeLock.unlock();
+        }
+    }
+
+    private boolean acquireLockInternal(String lockKey, String threadId, long leaseTimeMs) {
         // Redis Lua 스크립트와 동일한 로직:
         // if redis.call('exists', lockKey) == 0 then
         //     redis.call('set', lockKey, threadId, 'px', leaseTimeMs)
@@ -142,7 +156,8 @@ public class LocalRedisLockService implements RedisLockService {
         String currentThreadId = getCurrentThreadId();
         log.debug("[REDIS-락] 락 해제 시도: key={}, thread={}", lockKey, currentThreadId);
 
-        synchronized (this) {
+        storeLock.lock();
+        try {
             LockInfo lockInfo = lockStore.get(lockKey);
             if (lockInfo != null && currentThreadId.equals(lockInfo.getThreadId())) {
                 if (lockInfo.getExpirationTask() != null) {
@@ -154,6 +169,8 @@ public class LocalRedisLockService implements RedisLockService {
                 log.warn("[REDIS-락] 현재 스레드가 소유하지 않은 락 해제 시도: key={}, thread={}",
                            lockKey, currentThreadId);
             }
+        } finally {
+            storeLock.unlock();
         }
     }
 
@@ -168,11 +185,14 @@ public class LocalRedisLockService implements RedisLockService {
     public void forceUnlock(String lockKey) {
         // Redis의 DEL 명령어와 동일한 동작 (관리자용)
         log.warn("[REDIS-락] 강제 락 해제: {}", lockKey);
-        synchronized (this) {
+        storeLock.lock();
+        try {
             LockInfo lockInfo = lockStore.remove(lockKey);
             if (lockInfo != null && lockInfo.getExpirationTask() != null) {
                 lockInfo.getExpirationTask().cancel(false);
             }
+        } finally {
+            storeLock.unlock();
         }
     }
 
@@ -184,12 +204,15 @@ public class LocalRedisLockService implements RedisLockService {
     private void expireLock(String lockKey, LockInfo lockInfo) {
         // Redis의 자동 만료 기능을 모방
         // Mimic Redis automatic expiration
-        synchronized (this) {
+        storeLock.lock();
+        try {
             LockInfo currentLock = lockStore.get(lockKey);
             if (currentLock == lockInfo) { // 동일한 락인지 확인
                 lockStore.remove(lockKey);
                 log.debug("[REDIS-락] 락 만료되어 제거됨: key={}", lockKey);
             }
+        } finally {
+            storeLock.unlock();
         }
     }
 
@@ -1,11 +1,13 @@
 package com.jooyeon.app.common.lock;
 
+import com.jooyeon.app.common.config.LockConfig;
 import com.jooyeon.app.common.lock.exception.LockTimeoutException;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
@@ -19,9 +21,11 @@ import java.lang.reflect.Parameter;
 /**
  * 분산락 AOP Aspect
  * 현재는 로컬 구현이지만, 분산 환경에서는 Redis 분산락이 필요합니다
+ * 트랜잭션 어드바이스보다 먼저 실행되어 락을 얻은 뒤에 트랜잭션이 시작된다 (LockConfig 참고)
  */
 @Aspect
 @Component
+@Order(LockConfig.LOCK_ADVICE_ORDER)
 @Slf4j
 public class LockAspect {
 
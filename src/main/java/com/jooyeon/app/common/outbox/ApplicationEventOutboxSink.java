@@ -0,0 +1,20 @@
+package com.jooyeon.app.common.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+/**
+ * 프로세스 내부 sink - 각 메시지를 Spring 애플리케이션 이벤트로 전달 (@EventListener(OutboxMessage.class) 로 수신)
+ */
+@RequiredArgsConstructor
+public class ApplicationEventOutboxSink implements OutboxEventSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        messages.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,16 @@
+package com.jooyeon.app.common.outbox;
+
+import java.util.List;
+
+/**
+ * outbox 이벤트 발행 대상
+ * 현재는 애플리케이션 이벤트로 전달하지만, 운영 환경에서는 Kafka 등 메시지 브로커 구현으로 교체합니다
+ */
+public interface OutboxEventSink {
+
+    /**
+     * id 오름차순으로 정렬된 배치를 발행
+     * 예외를 던지면 배치 전체가 미발행 상태로 남아 다음 주기에 재시도된다
+     */
+    void publish(List<OutboxMessage> messages);
+}
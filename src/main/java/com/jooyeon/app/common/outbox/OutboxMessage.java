@@ -0,0 +1,28 @@
+package com.jooyeon.app.common.outbox;
+
+import com.jooyeon.app.domain.entity.common.OutboxEvent;
+import com.jooyeon.app.domain.entity.common.OutboxEventType;
+
+import java.time.LocalDateTime;
+
+/**
+ * sink 로 전달되는 발행 메시지 - 소비자는 id 로 중복 수신을 걸러낸다 (at-least-once)
+ */
+public record OutboxMessage(Long id,
+                            String aggregateType,
+                            Long aggregateId,
+                            OutboxEventType eventType,
+                            String payload,
+                            LocalDateTime createdAt) {
+
+    public static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(
+            event.getId(),
+            event.getAggregateType(),
+            event.getAggregateId(),
+            event.getEventType(),
+            event.getPayload(),
+            event.getCreatedAt()
+        );
+    }
+}
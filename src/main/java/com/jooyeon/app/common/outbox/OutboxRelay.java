@@ -0,0 +1,129 @@
+package com.jooyeon.app.common.outbox;
+
+import com.jooyeon.app.domain.entity.common.OutboxEvent;
+import com.jooyeon.app.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * outbox relay - 미발행 이벤트를 id 순서의 배치로 sink 에 전달
+ * - 배치 발행과 발행 표시가 같은 트랜잭션이므로 표시 전에 실패하면 다음 주기에 재발행된다 (at-least-once)
+ * - 배치당 SELECT 1회 + bulk UPDATE 1회이며, 배치가 가득 차 있으면 한 주기 안에서 연속으로 비운다
+ * - 단일 인스턴스 relay 기준, 다중 인스턴스에서는 리더 선출 또는 분산락이 필요합니다
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventSink outboxEventSink;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Timer publishLag;
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+
+    @Value("${app.outbox.relay.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Value("${app.outbox.relay.max-batches-per-run:50}")
+    private int maxBatchesPerRun = 50;
+
+    @Value("${app.outbox.retention-days:7}")
+    private int retentionDays = 7;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxEventSink outboxEventSink,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxEventSink = outboxEventSink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.publishLag = Timer.builder("outbox.publish.lag")
+                .description("outbox 이벤트 기록부터 발행까지의 지연")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("outbox.events.published")
+                .description("발행된 outbox 이벤트 수")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("outbox.relay.failures")
+                .description("outbox 배치 발행 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.fixed-delay:100}")
+    public void relay() {
+        try {
+            int published = drain();
+            if (published > 0) {
+                log.debug("[OUTBOX] 이벤트 발행: {}건", published);
+            }
+        } catch (Exception e) {
+            failureCounter.increment();
+            log.error("[OUTBOX] 이벤트 발행 실패, 다음 주기에 재시도: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 미발행 이벤트를 배치 단위로 발행
+     * @return 발행된 이벤트 수
+     */
+    public int drain() {
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer published = transactionTemplate.execute(status -> dispatchBatch());
+            int count = published != null ? published : 0;
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private int dispatchBatch() {
+        List<OutboxEvent> events = outboxEventRepository.findUnpublished(PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<OutboxMessage> messages = events.stream()
+                .map(OutboxMessage::from)
+                .collect(Collectors.toList());
+        outboxEventSink.publish(messages);
+
+        LocalDateTime publishedAt = LocalDateTime.now();
+        List<Long> ids = messages.stream().map(OutboxMessage::id).collect(Collectors.toList());
+        outboxEventRepository.markPublished(ids, publishedAt);
+
+        for (OutboxMessage message : messages) {
+            publishLag.record(Duration.between(message.createdAt(), publishedAt));
+        }
+        publishedCounter.increment(messages.size());
+        return messages.size();
+    }
+
+    /**
+     * 매일 오전 4시에 보관 기간이 지난 발행 완료 이벤트 삭제
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void purgePublishedEvents() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(cutoff));
+        log.info("[OUTBOX] 발행 완료 이벤트 정리: {}건 삭제 ({}일 이전)", deleted, retentionDays);
+    }
+}
@@ -0,0 +1,43 @@
+package com.jooyeon.app.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jooyeon.app.domain.entity.common.OutboxEvent;
+import com.jooyeon.app.domain.entity.common.OutboxEventType;
+import com.jooyeon.app.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * outbox 이벤트 기록 서비스
+ * 상태 변경과 같은 트랜잭션에서만 기록되어, 커밋된 변경만 발행되고 롤백된 변경은 발행되지 않는다
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType eventType, Long aggregateId, Object payload) {
+        OutboxEvent event = new OutboxEvent(eventType, aggregateId, serialize(payload), LocalDateTime.now());
+        outboxEventRepository.save(event);
+
+        log.debug("[OUTBOX] 이벤트 기록: type={}, aggregateId={}", eventType, aggregateId);
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox 이벤트 직렬화 실패", e);
+        }
+    }
+}
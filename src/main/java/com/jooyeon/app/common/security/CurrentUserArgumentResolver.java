@@ -2,8 +2,6 @@ package com.jooyeon.app.common.security;
 
 import com.jooyeon.app.common.exception.ErrorCode;
 import com.jooyeon.app.common.exception.MemberException;
-import com.jooyeon.app.repository.MemberRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.MethodParameter;
 import org.springframework.security.core.Authentication;
@@ -14,14 +12,13 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+/**
+ * @CurrentUser 파라미터에 JwtAuthenticationFilter 가 인증한 회원을 주입 (추가 조회 없음)
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
 
-    private final MemberRepository memberRepository;
-    private final JwtUtil jwtUtil;
-
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.hasParameterAnnotation(CurrentUser.class);
@@ -36,26 +33,11 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
             throw new MemberException(ErrorCode.ACCESS_DENIED);
         }
 
-        String token = getTokenFromRequest(webRequest);
-        if (token == null) {
-            throw new MemberException(ErrorCode.INVALID_TOKEN);
-        }
-
-        try {
-            Long memberId = jwtUtil.extractMemberId(token);
-            return memberRepository.findById(memberId)
-                    .orElseThrow(() -> new MemberException(ErrorCode.MEMBER_NOT_FOUND));
-        } catch (Exception e) {
-            log.error("토큰 파싱 오류", e);
-            throw new MemberException(ErrorCode.INVALID_TOKEN);
-        }
-    }
-
-    private String getTokenFromRequest(NativeWebRequest webRequest) {
-        String bearerToken = webRequest.getHeader("Authorization");
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
+        return MemberUserDetails.current()
+                .map(MemberUserDetails::getMember)
+                .orElseThrow(() -> {
+                    log.warn("[CURRENT_USER] 인증 회원 principal 없음: {}", authentication.getPrincipal().getClass().getSimpleName());
+                    return new MemberException(ErrorCode.INVALID_TOKEN);
+                });
     }
-}
\ No newline at end of file
+}
@@ -2,24 +2,47 @@ package com.jooyeon.app.common.security;
 
 import com.jooyeon.app.domain.entity.member.Member;
 import com.jooyeon.app.domain.entity.member.MemberStatus;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
+/**
+ * 인증 회원 principal
+ * JwtAuthenticationFilter 가 요청당 한 번 조회해 SecurityContext 에 저장하며,
+ * 같은 요청의 CurrentUserArgumentResolver 는 다시 조회하지 않고 이 회원을 쓴다
+ * (MemberStatusInterceptor 는 조회 시 채워진 MemberStatusCache 로 상태만 확인)
+ */
 public class MemberUserDetails implements UserDetails {
 
+    private static final List<GrantedAuthority> USER_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+
     private final Member member;
+    private final List<GrantedAuthority> authorities;
 
     public MemberUserDetails(Member member) {
+        this(member, false);
+    }
+
+    /**
+     * @param admin 관리자 회원 여부 (ROLE_ADMIN 추가 - 전사 매출/집계 등 관리자 API 접근)
+     */
+    public MemberUserDetails(Member member, boolean admin) {
         this.member = member;
+        this.authorities = admin ? ADMIN_AUTHORITIES : USER_AUTHORITIES;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+        return authorities;
     }
 
     @Override
@@ -30,7 +53,8 @@ public class MemberUserDetails implements UserDetails {
 
     @Override
     public String getUsername() {
-        return member.getPhoneNumber();
+        // loadUserByUsername 과 같은 로그인 아이디 (개인정보 복호화 없이 Authentication.getName() 에 쓰인다)
+        return member.getUserId();
     }
 
     @Override
@@ -60,4 +84,15 @@ public class MemberUserDetails implements UserDetails {
     public Long getMemberId() {
         return member.getId();
     }
+
+    /**
+     * 현재 요청의 인증 회원 (인증되지 않았거나 다른 principal 이면 empty)
+     */
+    public static Optional<MemberUserDetails> current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof MemberUserDetails memberUserDetails) {
+            return Optional.of(memberUserDetails);
+        }
+        return Optional.empty();
+    }
 }
\ No newline at end of file
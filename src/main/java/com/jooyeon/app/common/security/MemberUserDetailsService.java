@@ -2,6 +2,8 @@ package com.jooyeon.app.common.security;
 
 import com.jooyeon.app.domain.entity.member.Member;
 import com.jooyeon.app.repository.MemberRepository;
+import com.jooyeon.app.service.member.MemberStatusCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -9,12 +11,20 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class MemberUserDetailsService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
+    private final MemberStatusCache memberStatusCache;
+
+    /**
+     * ROLE_ADMIN 을 부여할 회원 로그인 아이디 목록 (쉼표 구분, 기본값 없음)
+     */
+    @Value("${app.security.admin-user-ids:}")
+    private Set<String> adminUserIds = Set.of();
 
     @Override
     public UserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
@@ -24,6 +34,10 @@ public class MemberUserDetailsService implements UserDetailsService {
             throw new UsernameNotFoundException("Member not found with userId: " + userId);
         }
 
-        return new MemberUserDetails(memberOpt.get());
+        // 같은 요청의 MemberStatusInterceptor 가 다시 조회하지 않도록 방금 읽은 상태로 캐시를 채운다
+        // (이미 있으면 덮어쓰지 않는다 - 2차 캐시의 오래된 상태가 커밋된 상태 변경을 덮지 않도록)
+        Member member = memberOpt.get();
+        memberStatusCache.putIfAbsent(member.getId(), member.getMemberStatus());
+        return new MemberUserDetails(member, adminUserIds.contains(member.getUserId()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.jooyeon.app.controller;
+
+import com.jooyeon.app.domain.dto.analytics.OrderRollupResponseDto;
+import com.jooyeon.app.domain.dto.analytics.RevenueBucketResponseDto;
+import com.jooyeon.app.domain.dto.common.ApiResponse;
+import com.jooyeon.app.domain.entity.order.RollupGranularity;
+import com.jooyeon.app.service.analytics.OrderRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics")
+@Tag(name = "Analytics", description = "Pre-aggregated order and revenue APIs (admin only)")
+@SecurityRequirement(name = "bearerAuth")
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsController {
+
+    private final OrderRollupService orderRollupService;
+
+    @GetMapping("/rollups")
+    @Operation(summary = "상품별 주문 집계 조회", description = "시간/일 단위 상품별, 주문 상태별 주문 수, 수량, 매출을 조회합니다")
+    public ResponseEntity<ApiResponse<List<OrderRollupResponseDto>>> getRollups(
+            @Parameter(description = "HOUR 또는 DAY") @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @Parameter(description = "시작일 (yyyy-MM-dd, 포함)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (yyyy-MM-dd, 포함)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "상품 ID (생략 시 전체 상품)") @RequestParam(required = false) Long productId) {
+
+        List<OrderRollupResponseDto> rollups = orderRollupService.getRollups(granularity, from, to, productId);
+        return ResponseEntity.ok(ApiResponse.success(rollups));
+    }
+
+    @GetMapping("/revenue")
+    @Operation(summary = "구간별 매출 조회", description = "시간/일 단위 주문 상태별 전체 상품 매출 합계를 조회합니다")
+    public ResponseEntity<ApiResponse<List<RevenueBucketResponseDto>>> getRevenue(
+            @Parameter(description = "HOUR 또는 DAY") @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @Parameter(description = "시작일 (yyyy-MM-dd, 포함)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (yyyy-MM-dd, 포함)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        List<RevenueBucketResponseDto> revenue = orderRollupService.getRevenue(granularity, from, to);
+        return ResponseEntity.ok(ApiResponse.success(revenue));
+    }
+}
@@ -3,9 +3,14 @@ package com.jooyeon.app.controller;
 import com.jooyeon.app.common.security.CurrentUser;
 import com.jooyeon.app.domain.dto.common.ApiResponse;
 import com.jooyeon.app.domain.dto.order.OrderCreateRequestDto;
+import com.jooyeon.app.domain.dto.order.OrderExportFormat;
 import com.jooyeon.app.domain.dto.order.OrderResponseDto;
+import com.jooyeon.app.domain.dto.order.OrderSliceResponseDto;
+import com.jooyeon.app.domain.dto.order.OrderSummaryResponseDto;
 import com.jooyeon.app.domain.entity.member.Member;
+import com.jooyeon.app.service.order.OrderExportService;
 import com.jooyeon.app.service.order.OrderService;
+import com.jooyeon.app.service.order.OrderSummaryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -16,8 +21,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/api/orders")
@@ -28,6 +39,8 @@ import org.springframework.web.bind.annotation.*;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderSummaryService orderSummaryService;
+    private final OrderExportService orderExportService;
 
     @PostMapping
     @Operation(summary = "주문 생성", description = "결제 처리와 함께 새로운 주문을 생성합니다")
@@ -49,6 +62,46 @@ public class OrderController {
         return ResponseEntity.ok(ApiResponse.success(orders));
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "내 주문 목록 커서 조회", description = "커서 기반으로 주문 목록을 조회합니다. 응답의 nextCursor로 다음 페이지를 요청합니다")
+    public ResponseEntity<ApiResponse<OrderSliceResponseDto>> getOrdersByMemberCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size,
+            @CurrentUser Member currentMember) {
+
+        OrderSliceResponseDto orders = orderService.getOrdersByMemberCursor(currentMember.getId(), cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(orders));
+    }
+
+    @GetMapping("/summaries")
+    @Operation(summary = "내 주문 요약 목록 조회", description = "주문 요약 read model에서 상품 요약이 포함된 주문 목록을 조회합니다")
+    public ResponseEntity<ApiResponse<Page<OrderSummaryResponseDto>>> getOrderSummariesByMember(
+            @PageableDefault(size = 20) Pageable pageable,
+            @CurrentUser Member currentMember) {
+
+        Page<OrderSummaryResponseDto> summaries = orderSummaryService.getOrderSummariesByMember(currentMember.getId(), pageable);
+        return ResponseEntity.ok(ApiResponse.success(summaries));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "내 주문 내보내기", description = "기간 내 주문을 주문 항목 단위로 NDJSON 또는 CSV 스트림으로 내보냅니다")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @Parameter(description = "시작일 (yyyy-MM-dd, 포함)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (yyyy-MM-dd, 포함)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "NDJSON 또는 CSV") @RequestParam(defaultValue = "NDJSON") OrderExportFormat format,
+            @CurrentUser Member currentMember) {
+
+        orderExportService.validateRange(from, to);
+        Long memberId = currentMember.getId();
+        String fileName = "orders-" + from + "-" + to + "." + format.getFileExtension();
+
+        StreamingResponseBody body = out -> orderExportService.exportOrders(memberId, from, to, format, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .body(body);
+    }
+
     @GetMapping("/{orderId}")
     @Operation(summary = "주문 상세 조회", description = "주문 ID로 주문 상세 정보를 조회합니다")
     public ResponseEntity<ApiResponse<OrderResponseDto>> getOrderById(
@@ -27,6 +27,28 @@ public class ProductController {
 
     private final ProductService productService;
 
+    @GetMapping
+    @Operation(summary = "상품 목록 조회", description = "상태별 상품을 상품명 순으로 조회합니다 (sort=name,desc 로 역순)")
+    public ResponseEntity<ApiResponse<Page<ProductResponseDto>>> getProducts(
+            @Parameter(description = "상품 상태") @RequestParam(defaultValue = "AVAILABLE") ProductStatus status,
+            @PageableDefault(size = 20, sort = "name") Pageable pageable) {
+
+        Page<ProductResponseDto> products = productService.getProducts(status, pageable);
+        return ResponseEntity.ok(ApiResponse.success(products));
+    }
+
+    @GetMapping("/price-range")
+    @Operation(summary = "가격 범위 상품 조회", description = "가격 범위 내 상품을 가격 순으로 조회합니다 (sort=price,desc 로 비싼 순)")
+    public ResponseEntity<ApiResponse<Page<ProductResponseDto>>> getProductsByPriceRange(
+            @Parameter(description = "상품 상태") @RequestParam(defaultValue = "AVAILABLE") ProductStatus status,
+            @Parameter(description = "최소 가격") @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "최대 가격") @RequestParam(required = false) BigDecimal maxPrice,
+            @PageableDefault(size = 20, sort = "price") Pageable pageable) {
+
+        Page<ProductResponseDto> products = productService.getProductsByPriceRange(status, minPrice, maxPrice, pageable);
+        return ResponseEntity.ok(ApiResponse.success(products));
+    }
+
     @GetMapping("/{productId}")
     @Operation(summary = "상품 상세 조회", description = "상품 ID로 상세 정보를 조회합니다")
     public ResponseEntity<ApiResponse<ProductResponseDto>> getProductById(
@@ -36,4 +58,15 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success(product));
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "상품 검색", description = "상품명/설명에 검색어가 포함된 상품을 관련도 순으로 조회합니다")
+    public ResponseEntity<ApiResponse<List<ProductResponseDto>>> searchProducts(
+            @Parameter(description = "검색어 (공백 무시, 최대 50자)") @RequestParam String keyword,
+            @Parameter(description = "상품 상태") @RequestParam(defaultValue = "AVAILABLE") ProductStatus status,
+            @Parameter(description = "최대 결과 수 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+
+        List<ProductResponseDto> products = productService.searchProducts(keyword, status, size);
+        return ResponseEntity.ok(ApiResponse.success(products));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.jooyeon.app.domain.dto.analytics;
+
+import com.jooyeon.app.domain.entity.order.OrderRollup;
+import com.jooyeon.app.domain.entity.order.OrderStatus;
+import com.jooyeon.app.domain.entity.order.RollupGranularity;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderRollupResponseDto {
+
+    private RollupGranularity granularity;
+    private LocalDateTime bucketStart;
+    private Long productId;
+    private OrderStatus status;
+    private Long orderCount;
+    private Long units;
+    private BigDecimal revenue;
+
+    public static OrderRollupResponseDto convertToResponseDto(OrderRollup rollup) {
+        return new OrderRollupResponseDto(
+            rollup.getGranularity(),
+            rollup.getBucketStart(),
+            rollup.getProductId(),
+            rollup.getStatus(),
+            rollup.getOrderCount(),
+            rollup.getUnits(),
+            rollup.getRevenue()
+        );
+    }
+}
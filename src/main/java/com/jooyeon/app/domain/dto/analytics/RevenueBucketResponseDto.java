@@ -0,0 +1,23 @@
+package com.jooyeon.app.domain.dto.analytics;
+
+import com.jooyeon.app.domain.entity.order.OrderStatus;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 구간별 전체 상품 합계
+ * orderLineCount 는 상품별 주문 수의 합이므로 여러 상품을 담은 주문은 상품 수만큼 집계된다
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenueBucketResponseDto {
+
+    private LocalDateTime bucketStart;
+    private OrderStatus status;
+    private Long orderLineCount;
+    private Long units;
+    private BigDecimal revenue;
+}
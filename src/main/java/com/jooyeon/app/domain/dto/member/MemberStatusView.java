@@ -0,0 +1,25 @@
+package com.jooyeon.app.domain.dto.member;
+
+import com.jooyeon.app.domain.entity.member.MemberStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 상태 projection - 암호화된 개인정보 컬럼을 읽지 않으므로 복호화가 일어나지 않는다
+ * 상태 확인/상태 변경처럼 개인정보가 필요 없는 경로에서 엔티티 대신 사용
+ */
+@Getter
+@AllArgsConstructor
+public class MemberStatusView {
+
+    private Long id;
+    private MemberStatus memberStatus;
+    private Long version;
+    private LocalDateTime withdrawnAt;
+
+    public boolean isActive() {
+        return memberStatus == MemberStatus.ACTIVE;
+    }
+}
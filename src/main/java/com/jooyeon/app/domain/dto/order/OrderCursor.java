@@ -0,0 +1,42 @@
+package com.jooyeon.app.domain.dto.order;
+
+import com.jooyeon.app.common.exception.ErrorCode;
+import com.jooyeon.app.common.exception.OrderException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 주문 목록 커서 - 마지막으로 조회한 주문의 (createdAt, id)
+ * 클라이언트에는 Base64 URL-safe 문자열로만 노출한다
+ */
+@Getter
+@AllArgsConstructor
+public class OrderCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long orderId;
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new OrderCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new OrderException(ErrorCode.INVALID_ORDER_CURSOR, e);
+        }
+    }
+}
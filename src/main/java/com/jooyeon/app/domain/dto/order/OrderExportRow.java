@@ -0,0 +1,27 @@
+package com.jooyeon.app.domain.dto.order;
+
+import com.jooyeon.app.domain.entity.order.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내보내기 행 (주문 항목 단위)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderExportRow {
+
+    private Long orderId;
+    private LocalDateTime orderedAt;
+    private OrderStatus status;
+    private BigDecimal orderTotalAmount;
+    private Long paymentId;
+    private Long productId;
+    private String productName;
+    private Integer quantity;
+    private BigDecimal unitPrice;
+    private BigDecimal totalPrice;
+}
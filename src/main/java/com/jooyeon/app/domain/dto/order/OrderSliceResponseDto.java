@@ -0,0 +1,17 @@
+package com.jooyeon.app.domain.dto.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSliceResponseDto {
+
+    private List<OrderResponseDto> orders;
+    private String nextCursor;
+    private boolean hasNext;
+}
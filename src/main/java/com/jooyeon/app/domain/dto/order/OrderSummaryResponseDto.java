@@ -0,0 +1,38 @@
+package com.jooyeon.app.domain.dto.order;
+
+import com.jooyeon.app.domain.entity.order.OrderStatus;
+import com.jooyeon.app.domain.entity.order.OrderSummary;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummaryResponseDto {
+
+    private Long orderId;
+    private OrderStatus status;
+    private BigDecimal totalAmount;
+    private Long paymentId;
+    private Integer itemCount;
+    private Integer totalQuantity;
+    private String itemSummary;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static OrderSummaryResponseDto convertToResponseDto(OrderSummary summary) {
+        return new OrderSummaryResponseDto(
+            summary.getOrderId(),
+            summary.getStatus(),
+            summary.getTotalAmount(),
+            summary.getPaymentId(),
+            summary.getItemCount(),
+            summary.getTotalQuantity(),
+            summary.getItemSummary(),
+            summary.getCreatedAt(),
+            summary.getUpdatedAt()
+        );
+    }
+}
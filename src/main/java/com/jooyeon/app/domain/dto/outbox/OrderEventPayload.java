@@ -0,0 +1,32 @@
+package com.jooyeon.app.domain.dto.outbox;
+
+import com.jooyeon.app.domain.entity.order.Order;
+import com.jooyeon.app.domain.entity.order.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class OrderEventPayload {
+
+    private Long orderId;
+    private Long memberId;
+    private OrderStatus status;
+    private BigDecimal totalAmount;
+    private Long paymentId;
+    private LocalDateTime occurredAt;
+
+    public static OrderEventPayload from(Order order) {
+        return new OrderEventPayload(
+            order.getId(),
+            order.getMember().getId(),
+            order.getStatus(),
+            order.getTotalAmount(),
+            order.getPaymentId(),
+            order.getUpdatedAt()
+        );
+    }
+}
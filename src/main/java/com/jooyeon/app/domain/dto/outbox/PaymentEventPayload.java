@@ -0,0 +1,32 @@
+package com.jooyeon.app.domain.dto.outbox;
+
+import com.jooyeon.app.domain.entity.payment.Payment;
+import com.jooyeon.app.domain.entity.payment.PaymentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class PaymentEventPayload {
+
+    private Long paymentId;
+    private Long orderId;
+    private PaymentStatus status;
+    private BigDecimal amount;
+    private String transactionId;
+    private LocalDateTime occurredAt;
+
+    public static PaymentEventPayload from(Payment payment) {
+        return new PaymentEventPayload(
+            payment.getId(),
+            payment.getOrderId(),
+            payment.getPaymentStatus(),
+            payment.getAmount(),
+            payment.getTransactionId(),
+            payment.getUpdatedAt()
+        );
+    }
+}
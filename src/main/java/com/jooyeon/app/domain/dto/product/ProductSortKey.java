@@ -0,0 +1,20 @@
+package com.jooyeon.app.domain.dto.product;
+
+import com.jooyeon.app.domain.entity.product.ProductStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 정렬 색인 구성용 projection (가격/상품명 정렬 키)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductSortKey {
+
+    private Long id;
+    private ProductStatus status;
+    private BigDecimal price;
+    private String name;
+}
@@ -0,0 +1,15 @@
+package com.jooyeon.app.domain.entity.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+
+    ORDER_CREATED("ORDER"),
+    ORDER_CANCELLED("ORDER"),
+    PAYMENT_COMPLETED("PAYMENT");
+
+    private final String aggregateType;
+}
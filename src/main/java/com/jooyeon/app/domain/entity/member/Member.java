@@ -1,42 +1,60 @@
 package com.jooyeon.app.domain.entity.member;
 
-import com.jooyeon.app.common.encryption.EncryptedConverter;
-import com.jooyeon.app.common.encryption.EncryptedGenderConverter;
+import com.jooyeon.app.common.config.HibernateCacheConfig;
+import com.jooyeon.app.common.encryption.EncryptedString;
+import com.jooyeon.app.common.encryption.EncryptedStringConverter;
+import com.jooyeon.app.common.encryption.EncryptionUtil;
 import com.jooyeon.app.common.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 @Entity
 @Table(name = "members")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.MEMBER_REGION)
 @Getter
 @Setter
 public class Member extends BaseEntity {
 
+    public static final String UNINDEXED_PHONE_NUMBER_HASH_PREFIX = "unindexed:";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq_generator")
+    @SequenceGenerator(name = "member_seq_generator", sequenceName = "members_seq", initialValue = 1000, allocationSize = 50)
     private Long id;
 
     @Column(name = "user_id", nullable = false, unique = true)
     private String userId;
 
-    @Convert(converter = EncryptedConverter.class)
+    // 개인정보 컬럼은 암호문으로 읽고 getter 를 처음 호출할 때 복호화한다 (EncryptedString)
+    @Convert(converter = EncryptedStringConverter.class)
     @Column(name = "name", nullable = false)
-    private String name;
+    private EncryptedString name;
+
+    @Convert(converter = EncryptedStringConverter.class)
+    @Column(name = "phone_number", nullable = false)
+    private EncryptedString phoneNumber;
 
-    @Convert(converter = EncryptedConverter.class)
-    @Column(name = "phone_number", nullable = false, unique = true)
-    private String phoneNumber;
+    // 전화번호 blind index - 중복 확인/전화번호 조회는 이 컬럼의 유니크 인덱스로 한다
+    // 전화번호를 설정하는 서비스가 Member.phoneNumberHash 로 계산해 함께 설정한다 (비어 있으면 MemberBlindIndexBackfill 이 채운다)
+    @Column(name = "phone_number_hash", length = 64, unique = true)
+    private String phoneNumberHash;
 
-    @Convert(converter = EncryptedGenderConverter.class)
+    @Convert(converter = EncryptedStringConverter.class)
     @Column(name = "gender", nullable = false)
-    private Gender gender;
+    private EncryptedString gender;
 
-    @Convert(converter = EncryptedConverter.class)
+    @Convert(converter = EncryptedStringConverter.class)
     @Column(name = "birth_date", nullable = false)
-    private String birthDate;
+    private EncryptedString birthDate;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "member_status", nullable = false)
@@ -48,4 +66,66 @@ public class Member extends BaseEntity {
     @Version
     private Long version;
 
-}
\ No newline at end of file
+    public String getName() {
+        return EncryptedString.valueOf(name);
+    }
+
+    public void setName(String name) {
+        this.name = EncryptedString.of(name);
+    }
+
+    public String getPhoneNumber() {
+        return EncryptedString.valueOf(phoneNumber);
+    }
+
+    /**
+     * 이전 전화번호의 색인 값은 지운다 - 호출한 쪽이 새 전화번호의 색인 값을 setPhoneNumberHash 로 설정한다
+     */
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = EncryptedString.of(phoneNumber);
+        this.phoneNumberHash = null;
+    }
+
+    /**
+     * 기존 중복 전화번호 때문에 색인할 수 없는 회원 표시 (MemberBlindIndexBackfill)
+     * 회원마다 다른 값이라 유니크 인덱스에 걸리지 않고, HMAC 색인 값과 겹치지 않는다
+     * 전화번호를 바꾸면 다시 계산한다
+     */
+    public void markPhoneNumberUnindexed() {
+        this.phoneNumberHash = UNINDEXED_PHONE_NUMBER_HASH_PREFIX + id;
+    }
+
+    /**
+     * 여러 회원의 개인정보를 한 번에 병렬 복호화 (목록/내보내기처럼 모든 회원의 개인정보를 읽을 때)
+     */
+    public static void decryptAll(Collection<Member> members) {
+        EncryptedString.decryptAll(members.stream()
+                .flatMap(member -> Stream.of(member.name, member.phoneNumber, member.gender, member.birthDate))
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    /**
+     * 전화번호 blind index - 숫자만 남겨 형식("010-1234-5678" / "01012345678")과 무관하게 같은 값이 되도록 한다
+     */
+    public static String phoneNumberHash(EncryptionUtil encryptionUtil, String phoneNumber) {
+        return phoneNumber == null ? null : encryptionUtil.blindIndex(phoneNumber.replaceAll("[^0-9]", ""));
+    }
+
+    public Gender getGender() {
+        String value = EncryptedString.valueOf(gender);
+        return value == null || value.isEmpty() ? null : Gender.valueOf(value);
+    }
+
+    public void setGender(Gender gender) {
+        this.gender = gender == null ? null : EncryptedString.of(gender.name());
+    }
+
+    public String getBirthDate() {
+        return EncryptedString.valueOf(birthDate);
+    }
+
+    public void setBirthDate(String birthDate) {
+        this.birthDate = EncryptedString.of(birthDate);
+    }
+}
@@ -18,7 +18,8 @@ import java.util.List;
 public class Order extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_seq_generator")
+    @SequenceGenerator(name = "order_seq_generator", sequenceName = "orders_seq", initialValue = 1000, allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -41,7 +42,18 @@ public class Order extends BaseEntity {
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> items;
 
+    // 커밋 이후 아직 반영되지 않은 주문 집계 증분 수 (OrderRollupService)
+    // 증분 반영/집계 재구성이 주문 행 잠금 아래에서 줄이거나 비워, 재구성이 이미 센 주문의 증분을 다시 더하지 않는다
+    @Column(name = "rollup_pending_deltas", nullable = false)
+    private int rollupPendingDeltas;
+
     @Version
     private Long version;
 
+    /**
+     * 주문 트랜잭션 안에서 집계 증분 대기 표시 - 주문 INSERT/UPDATE 에 함께 실린다
+     */
+    public void markRollupPending() {
+        rollupPendingDeltas++;
+    }
 }
\ No newline at end of file
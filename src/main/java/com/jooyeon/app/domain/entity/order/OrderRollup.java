@@ -0,0 +1,66 @@
+package com.jooyeon.app.domain.entity.order;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 시간/일 단위 상품별, 주문 상태별 주문 집계
+ * order_count 는 해당 상품을 포함한 주문 수, units/revenue 는 주문 항목 수량/금액 합계
+ */
+@Entity
+@Table(name = "order_rollups",
+       uniqueConstraints = @UniqueConstraint(name = "uk_order_rollups_bucket",
+               columnNames = {"granularity", "bucket_start", "product_id", "status"}),
+       indexes = {
+           @Index(name = "idx_order_rollups_product_bucket", columnList = "granularity, product_id, bucket_start")
+       })
+@Getter
+@NoArgsConstructor
+public class OrderRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @Column(name = "units", nullable = false)
+    private Long units;
+
+    @Column(name = "revenue", nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public OrderRollup(RollupGranularity granularity, LocalDateTime bucketStart, Long productId, OrderStatus status,
+                       long orderCount, long units, BigDecimal revenue, LocalDateTime updatedAt) {
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.productId = productId;
+        this.status = status;
+        this.orderCount = orderCount;
+        this.units = units;
+        this.revenue = revenue;
+        this.updatedAt = updatedAt;
+    }
+}
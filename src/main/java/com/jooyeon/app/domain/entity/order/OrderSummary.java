@@ -0,0 +1,114 @@
+package com.jooyeon.app.domain.entity.order;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 목록 조회용 비정규화 read model
+ * orders / order_items / products 조인 없이 회원별 주문 목록을 단일 인덱스 스캔으로 조회한다
+ */
+@Entity
+@Table(name = "order_summaries", indexes = {
+    @Index(name = "idx_order_summaries_member_created", columnList = "member_id, created_at DESC, order_id DESC")
+})
+@Getter
+@Setter
+public class OrderSummary implements Persistable<Long> {
+
+    private static final int ITEM_SUMMARY_MAX_LENGTH = 500;
+    private static final String ELLIPSIS = "...";
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OrderStatus status;
+
+    @Column(name = "total_amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "payment_id")
+    private Long paymentId;
+
+    @Column(name = "item_count", nullable = false)
+    private Integer itemCount;
+
+    @Column(name = "total_quantity", nullable = false)
+    private Integer totalQuantity;
+
+    @Column(name = "item_summary", nullable = false, length = ITEM_SUMMARY_MAX_LENGTH)
+    private String itemSummary;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 식별자를 직접 할당하므로 save() 시 불필요한 merge(SELECT)를 피하기 위해 신규 여부를 직접 관리
+    @Transient
+    private boolean persisted;
+
+    public static OrderSummary from(Order order) {
+        OrderSummary summary = new OrderSummary();
+        summary.setOrderId(order.getId());
+        summary.setMemberId(order.getMember().getId());
+        summary.setCreatedAt(order.getCreatedAt());
+        summary.apply(order);
+        return summary;
+    }
+
+    /**
+     * 주문의 현재 상태를 read model 에 반영
+     */
+    public void apply(Order order) {
+        List<OrderItem> items = order.getItems() != null ? order.getItems() : List.of();
+
+        this.status = order.getStatus();
+        this.totalAmount = order.getTotalAmount();
+        this.paymentId = order.getPaymentId();
+        this.itemCount = items.size();
+        this.totalQuantity = items.stream().mapToInt(OrderItem::getQuantity).sum();
+        this.itemSummary = renderItemSummary(items);
+        this.updatedAt = order.getUpdatedAt();
+    }
+
+    private static String renderItemSummary(List<OrderItem> items) {
+        String rendered = items.stream()
+                .map(item -> item.getProduct().getName() + " x" + item.getQuantity())
+                .collect(Collectors.joining(", "));
+
+        if (rendered.length() <= ITEM_SUMMARY_MAX_LENGTH) {
+            return rendered;
+        }
+        return rendered.substring(0, ITEM_SUMMARY_MAX_LENGTH - ELLIPSIS.length()) + ELLIPSIS;
+    }
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -14,7 +14,8 @@ import java.math.BigDecimal;
 public class Payment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_seq_generator")
+    @SequenceGenerator(name = "payment_seq_generator", sequenceName = "payments_seq", initialValue = 1000, allocationSize = 50)
     private Long id;
 
     @Column(name = "order_id", nullable = false)
@@ -1,6 +1,7 @@
 package com.jooyeon.app.domain.entity.product;
 
 import com.jooyeon.app.common.entity.BaseEntity;
+import com.jooyeon.app.service.product.ProductCatalogCacheListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -9,12 +10,14 @@ import java.math.BigDecimal;
 
 @Entity
 @Table(name = "products")
+@EntityListeners(ProductCatalogCacheListener.class)
 @Getter
 @Setter
 public class Product extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq_generator")
+    @SequenceGenerator(name = "product_seq_generator", sequenceName = "products_seq", initialValue = 1000, allocationSize = 50)
     private Long id;
 
     @Column(name = "name", nullable = false)
@@ -1,9 +1,16 @@
 package com.jooyeon.app.repository;
 
+import com.jooyeon.app.common.config.HibernateCacheConfig;
+import com.jooyeon.app.domain.dto.member.MemberStatusView;
 import com.jooyeon.app.domain.entity.member.Member;
 import com.jooyeon.app.domain.entity.member.MemberStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -15,8 +22,58 @@ import java.util.Optional;
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
     boolean existsByUserId(String userId);
+
+    /**
+     * 전화번호 중복 확인 (blind index 유니크 인덱스 조회) - 값은 Member.phoneNumberHash 로 계산
+     */
+    boolean existsByPhoneNumberHash(String phoneNumberHash);
+
+    /**
+     * 전화번호로 회원 조회 (blind index 유니크 인덱스 조회) - 값은 Member.phoneNumberHash 로 계산
+     */
+    Optional<Member> findByPhoneNumberHash(String phoneNumberHash);
+
+    /**
+     * 회원 일괄 조회 + 개인정보 병렬 복호화
+     * 조회한 회원의 개인정보를 모두 읽는 경우에 사용 (getter 에서 한 건씩 복호화하는 대신 코어 수만큼 나눠 처리)
+     */
+    default List<Member> findAllDecryptedById(Iterable<Long> memberIds) {
+        List<Member> members = findAllById(memberIds);
+        Member.decryptAll(members);
+        return members;
+    }
+
+    /**
+     * 회원 목록 페이지 조회 + 개인정보 병렬 복호화
+     */
+    default Page<Member> findAllDecrypted(Pageable pageable) {
+        Page<Member> members = findAll(pageable);
+        Member.decryptAll(members.getContent());
+        return members;
+    }
+
+    /**
+     * blind index 가 없는 회원 ID (기존 회원 색인 채우기용, ID 순 페이지)
+     */
+    @Query("SELECT m.id FROM Member m WHERE m.phoneNumberHash IS NULL AND m.id > :afterId ORDER BY m.id")
+    List<Long> findIdsWithoutPhoneNumberHash(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 인증 요청마다 호출되므로 쿼리 캐시 대상 (회원 ID 만 캐시하고 엔티티는 member region 에서 읽는다)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.MEMBER_QUERY_REGION)
+    })
     Optional<Member> findByUserId(String userId);
 
+    /**
+     * 회원 상태만 조회 (개인정보 컬럼 복호화 없음)
+     */
+    @Query("SELECT new com.jooyeon.app.domain.dto.member.MemberStatusView(m.id, m.memberStatus, m.version, m.withdrawnAt) " +
+           "FROM Member m WHERE m.id = :memberId")
+    Optional<MemberStatusView> findStatusById(@Param("memberId") Long memberId);
+
     /**
      * 탈퇴 신청한지 30일 이상 지난 회원들 조회
      * @param cutoffDate 30일 전 날짜
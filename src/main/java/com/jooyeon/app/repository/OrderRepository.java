@@ -1,15 +1,25 @@
 package com.jooyeon.app.repository;
 
+import com.jooyeon.app.domain.dto.order.OrderExportRow;
 import com.jooyeon.app.domain.entity.order.Order;
 import com.jooyeon.app.domain.entity.order.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -18,5 +28,141 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     Optional<Order> findByIdempotencyKey(String idempotencyKey);
 
+    /**
+     * 멱등성 키로 주문, 주문 항목, 상품 조회
+     * 주문 생성 시 트랜잭션 밖의 조회 스레드에서 호출되므로 응답 변환에 필요한 연관관계를 함께 가져온다
+     */
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.items i LEFT JOIN FETCH i.product " +
+           "WHERE o.idempotencyKey = :idempotencyKey")
+    Optional<Order> findWithItemsByIdempotencyKey(@Param("idempotencyKey") String idempotencyKey);
+
     Optional<Order> findByIdAndMemberId(Long id, Long memberId);
-}
\ No newline at end of file
+
+    /**
+     * 회원 주문 목록 페이지의 주문 ID만 조회
+     * 컬렉션 fetch join과 페이징을 함께 쓰면 메모리 페이징이 발생하므로 ID 페이지를 먼저 조회한다
+     */
+    @Query(value = "SELECT o.id FROM Order o WHERE o.member.id = :memberId ORDER BY o.createdAt DESC, o.id DESC",
+           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.member.id = :memberId")
+    Page<Long> findIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * 커서 기반 조회의 첫 페이지 - COUNT 쿼리 없이 최신 주문 ID만 조회
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.member.id = :memberId ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findLatestIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * (created_at, id) 기준 seek 조회 - idx_orders_member_created 인덱스 범위 스캔으로 페이지 깊이와 무관한 비용
+     * @param createdAt 이전 페이지 마지막 주문의 생성일
+     * @param id 이전 페이지 마지막 주문의 ID (동일 생성일 정렬 기준)
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.member.id = :memberId " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findIdsByMemberIdBefore(@Param("memberId") Long memberId,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+
+    /**
+     * 주문, 주문 항목, 상품을 한 번의 쿼리로 조회 (N+1 방지)
+     * @param ids findIdsByMemberId 로 조회한 주문 ID 목록
+     * @return 생성일 역순으로 정렬된 주문 목록
+     */
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.items i LEFT JOIN FETCH i.product " +
+           "WHERE o.id IN :ids ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findAllWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.items i LEFT JOIN FETCH i.product " +
+           "WHERE o.id = :id AND o.member.id = :memberId")
+    Optional<Order> findWithItemsByIdAndMemberId(@Param("id") Long id, @Param("memberId") Long memberId);
+
+    @Query("SELECT MIN(o.id) FROM Order o")
+    Optional<Long> findMinId();
+
+    @Query("SELECT MAX(o.id) FROM Order o")
+    Optional<Long> findMaxId();
+
+    /**
+     * 주문 요약 재구성 배치의 주문 행 잠금 (SELECT ... FOR UPDATE)
+     * 재구성 트랜잭션이 끝날 때까지 같은 범위의 주문 상태 변경(취소/결제)이 커밋되지 않고,
+     * 이미 진행 중인 변경은 커밋될 때까지 기다린 뒤 읽는다. ID 순으로 잠가 교착을 피한다
+     */
+    @Query(value = "SELECT id FROM orders WHERE id BETWEEN :fromId AND :toId ORDER BY id FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockIdsBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 주문 집계 재구성의 주문 행 잠금 (생성 시각 범위, SELECT ... FOR UPDATE)
+     * 재구성 트랜잭션이 끝날 때까지 같은 날 주문의 상태 변경과 커밋 이후 증분 반영(claimRollupDelta)을 막는다
+     */
+    @Query(value = "SELECT id FROM orders WHERE created_at >= :from AND created_at < :to ORDER BY id FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockIdsCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * 커밋 이후 증분 반영 전 대기 표시 하나를 가져간다 (주문 행 잠금)
+     * @return 0 이면 재구성이 이미 이 주문의 현재 상태를 셌으므로 증분을 반영하지 않는다
+     */
+    @Modifying
+    @Query(value = "UPDATE orders SET rollup_pending_deltas = rollup_pending_deltas - 1 " +
+                   "WHERE id = :orderId AND rollup_pending_deltas > 0",
+           nativeQuery = true)
+    int claimRollupDelta(@Param("orderId") Long orderId);
+
+    /**
+     * 집계 재구성이 센 주문의 대기 표시 제거 (lockIdsCreatedBetween 으로 잠근 뒤 호출)
+     */
+    @Modifying
+    @Query(value = "UPDATE orders SET rollup_pending_deltas = 0 " +
+                   "WHERE created_at >= :from AND created_at < :to AND rollup_pending_deltas > 0",
+           nativeQuery = true)
+    int clearRollupPendingBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * 집계 보정 대상 일자 - since 이후 생성/변경된 주문과 증분 반영이 남은 주문의 생성일
+     */
+    @Query("SELECT DISTINCT cast(o.createdAt as LocalDate) FROM Order o " +
+           "WHERE o.updatedAt >= :since OR o.rollupPendingDeltas > 0")
+    List<LocalDate> findCreatedDatesToRollUp(@Param("since") LocalDateTime since);
+
+    /**
+     * 주문 요약 재구성용 ID 범위 조회 (주문 항목, 상품 fetch join)
+     */
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items i LEFT JOIN FETCH i.product " +
+           "WHERE o.id BETWEEN :fromId AND :toId")
+    List<Order> findAllWithItemsByIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 주문 내보내기용 forward-only 스트림 (주문 항목 단위 행)
+     * DTO projection 이므로 영속성 컨텍스트에 엔티티가 쌓이지 않고, fetch size 만큼만 드라이버 버퍼에 유지된다
+     * 호출자는 읽기 전용 트랜잭션 안에서 스트림을 닫아야 한다
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.jooyeon.app.domain.dto.order.OrderExportRow(" +
+           "o.id, o.createdAt, o.status, o.totalAmount, o.paymentId, p.id, p.name, i.quantity, i.unitPrice, i.totalPrice) " +
+           "FROM OrderItem i JOIN i.order o JOIN i.product p " +
+           "WHERE o.member.id = :memberId AND o.createdAt >= :from AND o.createdAt < :to " +
+           "ORDER BY o.createdAt ASC, o.id ASC, i.id ASC")
+    Stream<OrderExportRow> streamExportRowsByMemberId(@Param("memberId") Long memberId,
+                                                      @Param("from") LocalDateTime from,
+                                                      @Param("to") LocalDateTime to);
+
+    /**
+     * 주문 집계 재구성용 기간 내 전체 주문 항목 스트림
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.jooyeon.app.domain.dto.order.OrderExportRow(" +
+           "o.id, o.createdAt, o.status, o.totalAmount, o.paymentId, p.id, p.name, i.quantity, i.unitPrice, i.totalPrice) " +
+           "FROM OrderItem i JOIN i.order o JOIN i.product p " +
+           "WHERE o.createdAt >= :from AND o.createdAt < :to " +
+           "ORDER BY o.createdAt ASC, o.id ASC, i.id ASC")
+    Stream<OrderExportRow> streamExportRowsBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,67 @@
+package com.jooyeon.app.repository;
+
+import com.jooyeon.app.domain.dto.analytics.RevenueBucketResponseDto;
+import com.jooyeon.app.domain.entity.order.OrderRollup;
+import com.jooyeon.app.domain.entity.order.OrderStatus;
+import com.jooyeon.app.domain.entity.order.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OrderRollupRepository extends JpaRepository<OrderRollup, Long> {
+
+    /**
+     * 집계 행 증분 갱신 - 행이 없으면 0 을 반환하므로 호출자가 새 행을 추가한다
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE OrderRollup r SET r.orderCount = r.orderCount + :orderCount, r.units = r.units + :units, " +
+           "r.revenue = r.revenue + :revenue, r.updatedAt = :updatedAt " +
+           "WHERE r.granularity = :granularity AND r.bucketStart = :bucketStart " +
+           "AND r.productId = :productId AND r.status = :status")
+    int increment(@Param("granularity") RollupGranularity granularity,
+                  @Param("bucketStart") LocalDateTime bucketStart,
+                  @Param("productId") Long productId,
+                  @Param("status") OrderStatus status,
+                  @Param("orderCount") long orderCount,
+                  @Param("units") long units,
+                  @Param("revenue") BigDecimal revenue,
+                  @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("DELETE FROM OrderRollup r WHERE r.bucketStart >= :from AND r.bucketStart < :to")
+    int deleteByBucketStartRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT r FROM OrderRollup r WHERE r.granularity = :granularity " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to " +
+           "ORDER BY r.bucketStart ASC, r.productId ASC, r.status ASC")
+    List<OrderRollup> findByBucketRange(@Param("granularity") RollupGranularity granularity,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+
+    @Query("SELECT r FROM OrderRollup r WHERE r.granularity = :granularity AND r.productId = :productId " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to " +
+           "ORDER BY r.bucketStart ASC, r.status ASC")
+    List<OrderRollup> findByProductAndBucketRange(@Param("granularity") RollupGranularity granularity,
+                                                  @Param("productId") Long productId,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to);
+
+    /**
+     * 구간별 전체 상품 합계 - 원본 테이블이 아닌 집계 행만 읽는다
+     */
+    @Query("SELECT new com.jooyeon.app.domain.dto.analytics.RevenueBucketResponseDto(" +
+           "r.bucketStart, r.status, SUM(r.orderCount), SUM(r.units), SUM(r.revenue)) " +
+           "FROM OrderRollup r WHERE r.granularity = :granularity " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to " +
+           "GROUP BY r.bucketStart, r.status ORDER BY r.bucketStart ASC, r.status ASC")
+    List<RevenueBucketResponseDto> sumByBucket(@Param("granularity") RollupGranularity granularity,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,23 @@
+package com.jooyeon.app.repository;
+
+import com.jooyeon.app.domain.entity.order.OrderSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long> {
+
+    Page<OrderSummary> findByMemberIdOrderByCreatedAtDescOrderIdDesc(Long memberId, Pageable pageable);
+
+    /**
+     * 재구성 배치 범위의 기존 요약 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM OrderSummary s WHERE s.orderId BETWEEN :fromId AND :toId")
+    int deleteByOrderIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
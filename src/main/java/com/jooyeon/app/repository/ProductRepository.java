@@ -1,8 +1,12 @@
 package com.jooyeon.app.repository;
 
+import com.jooyeon.app.domain.dto.product.ProductSortKey;
 import com.jooyeon.app.domain.entity.product.Product;
 import com.jooyeon.app.domain.entity.product.ProductStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
@@ -11,11 +15,18 @@ import java.util.List;
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
-
     List<Product> findByStatusOrderByName(ProductStatus status);
 
     List<Product> findByStatusAndPriceBetween(ProductStatus status, BigDecimal minPrice, BigDecimal maxPrice);
 
     List<Product> findByNameContainingAndStatus(String keyword, ProductStatus status);
 
+    /**
+     * 정렬 색인 구성용 ID seek 조회 - DTO projection 이므로 영속성 컨텍스트에 엔티티가 쌓이지 않는다
+     * @param afterId 이전 배치 마지막 상품 ID (첫 배치는 0)
+     */
+    @Query("SELECT new com.jooyeon.app.domain.dto.product.ProductSortKey(p.id, p.status, p.price, p.name) " +
+           "FROM Product p WHERE p.id > :afterId ORDER BY p.id")
+    List<ProductSortKey> findSortKeysAfter(@Param("afterId") Long afterId, Pageable pageable);
+
 }
\ No newline at end of file
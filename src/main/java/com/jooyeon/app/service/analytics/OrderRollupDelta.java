@@ -0,0 +1,21 @@
+package com.jooyeon.app.service.analytics;
+
+import com.jooyeon.app.domain.entity.order.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 한 주문의 한 상품에 대한 집계 증감분
+ */
+record OrderRollupDelta(LocalDateTime orderedAt,
+                        Long productId,
+                        OrderStatus status,
+                        long orderCount,
+                        long units,
+                        BigDecimal revenue) {
+
+    OrderRollupDelta negate() {
+        return new OrderRollupDelta(orderedAt, productId, status, -orderCount, -units, revenue.negate());
+    }
+}
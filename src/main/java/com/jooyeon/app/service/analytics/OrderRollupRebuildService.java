@@ -0,0 +1,147 @@
+package com.jooyeon.app.service.analytics;
+
+import com.jooyeon.app.common.exception.ErrorCode;
+import com.jooyeon.app.common.exception.OrderException;
+import com.jooyeon.app.domain.dto.order.OrderExportRow;
+import com.jooyeon.app.domain.entity.order.OrderRollup;
+import com.jooyeon.app.domain.entity.order.OrderStatus;
+import com.jooyeon.app.domain.entity.order.RollupGranularity;
+import com.jooyeon.app.repository.OrderRepository;
+import com.jooyeon.app.repository.OrderRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 주문 집계 재구성 작업 (backfill / 증분 반영 누락 보정)
+ * - 하루 단위 트랜잭션으로 해당 일의 집계 행을 지우고 원본 주문 항목 스트림에서 다시 계산
+ * - 먼저 그날 주문 행을 ID 순으로 잠가 (OrderSummaryRebuildService 와 같은 방식) 상태 변경과 커밋 이후 증분 반영을 막고,
+ *   다시 센 주문의 증분 대기 표시를 비워 이미 커밋된 주문의 늦은 증분이 두 번 더해지지 않게 한다
+ * - 보정 작업은 최근 변경된 주문(updated_at)과 증분 반영이 남은 주문의 생성일을 모두 다시 계산한다
+ */
+@Service
+@Slf4j
+public class OrderRollupRebuildService {
+
+    private final OrderRepository orderRepository;
+    private final OrderRollupRepository orderRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration catchUpLookback;
+
+    public OrderRollupRebuildService(OrderRepository orderRepository,
+                                     OrderRollupRepository orderRollupRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${app.order-rollup.catch-up.lookback:25h}") Duration catchUpLookback) {
+        this.orderRepository = orderRepository;
+        this.orderRollupRepository = orderRollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.catchUpLookback = catchUpLookback;
+    }
+
+    /**
+     * 매일 0시 10분에 최근 변경된 주문(전날 주문, 지난 주문의 취소 등)과 증분 반영이 남은 주문의 생성일 집계를 원본 기준으로 보정
+     */
+    @Scheduled(cron = "${app.order-rollup.catch-up.cron:0 10 0 * * *}")
+    public void catchUp() {
+        try {
+            List<LocalDate> days = orderRepository.findCreatedDatesToRollUp(LocalDateTime.now().minus(catchUpLookback));
+            days.stream().sorted().forEach(day -> rebuild(day, day));
+        } catch (Exception e) {
+            log.error("[ORDER_ROLLUP] 주문 집계 보정 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 기간 내 주문 집계 재구성 (관리자용)
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     * @return 재구성된 집계 행 수
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new OrderException(ErrorCode.INVALID_ROLLUP_RANGE);
+        }
+
+        log.info("[ORDER_ROLLUP] 주문 집계 재구성 시작: {} ~ {}", from, to);
+
+        int total = 0;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            LocalDate target = day;
+            Integer rebuilt = transactionTemplate.execute(status -> rebuildDay(target));
+            total += rebuilt != null ? rebuilt : 0;
+        }
+
+        log.info("[ORDER_ROLLUP] 주문 집계 재구성 완료: {} ~ {}, {}행", from, to, total);
+        return total;
+    }
+
+    private int rebuildDay(LocalDate day) {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = day.plusDays(1).atStartOfDay();
+
+        // 재구성이 끝날 때까지 그날 주문의 상태 변경/증분 반영을 막고, 아래에서 다시 셀 주문의 대기 증분은 버린다
+        orderRepository.lockIdsCreatedBetween(start, end);
+        orderRepository.clearRollupPendingBetween(start, end);
+        orderRollupRepository.deleteByBucketStartRange(start, end);
+
+        Map<RollupKey, Accumulator> accumulators = new LinkedHashMap<>();
+        try (Stream<OrderExportRow> rows = orderRepository.streamExportRowsBetween(start, end)) {
+            rows.forEach(row -> {
+                for (RollupGranularity granularity : RollupGranularity.values()) {
+                    RollupKey key = new RollupKey(granularity, granularity.bucketStart(row.getOrderedAt()),
+                            row.getProductId(), row.getStatus());
+                    accumulators.computeIfAbsent(key, k -> new Accumulator()).add(row);
+                }
+            });
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderRollup> rollups = accumulators.entrySet().stream()
+                .map(entry -> entry.getValue().toRollup(entry.getKey(), now))
+                .collect(Collectors.toList());
+        orderRollupRepository.saveAll(rollups);
+
+        log.debug("[ORDER_ROLLUP] 일 집계 재구성: {}, {}행", day, rollups.size());
+        return rollups.size();
+    }
+
+    private record RollupKey(RollupGranularity granularity, LocalDateTime bucketStart, Long productId, OrderStatus status) {
+    }
+
+    /**
+     * 스트림이 주문 ID 순서로 정렬되어 있으므로 직전 주문 ID 와 비교해 같은 주문의 중복 상품 항목을 한 번만 센다
+     */
+    private static class Accumulator {
+        private long orderCount;
+        private long units;
+        private BigDecimal revenue = BigDecimal.ZERO;
+        private Long lastOrderId;
+
+        void add(OrderExportRow row) {
+            if (!row.getOrderId().equals(lastOrderId)) {
+                orderCount++;
+                lastOrderId = row.getOrderId();
+            }
+            units += row.getQuantity();
+            revenue = revenue.add(row.getTotalPrice());
+        }
+
+        OrderRollup toRollup(RollupKey key, LocalDateTime updatedAt) {
+            return new OrderRollup(key.granularity(), key.bucketStart(), key.productId(), key.status(),
+                    orderCount, units, revenue, updatedAt);
+        }
+    }
+}
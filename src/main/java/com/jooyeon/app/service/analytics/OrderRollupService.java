@@ -0,0 +1,185 @@
+package com.jooyeon.app.service.analytics;
+
+import com.jooyeon.app.common.exception.ErrorCode;
+import com.jooyeon.app.common.exception.OrderException;
+import com.jooyeon.app.domain.dto.analytics.OrderRollupResponseDto;
+import com.jooyeon.app.domain.dto.analytics.RevenueBucketResponseDto;
+import com.jooyeon.app.domain.entity.order.Order;
+import com.jooyeon.app.domain.entity.order.OrderItem;
+import com.jooyeon.app.domain.entity.order.OrderRollup;
+import com.jooyeon.app.domain.entity.order.OrderStatus;
+import com.jooyeon.app.domain.entity.order.RollupGranularity;
+import com.jooyeon.app.repository.OrderRepository;
+import com.jooyeon.app.repository.OrderRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 집계(order_rollups) 증분 갱신 및 조회
+ * - 주문 트랜잭션 커밋 이후 별도 트랜잭션에서 반영하여 집계 행 경합이 주문 처리를 막거나 실패시키지 않는다
+ * - 주문 트랜잭션은 주문 행에 증분 대기 표시를 남기고(Order.markRollupPending), 반영 트랜잭션은 그 표시를 하나 가져간 뒤에만 더한다
+ *   그 사이 재구성이 주문을 이미 셌다면 표시가 비워져 있으므로 증분을 건너뛴다 (두 번 세지 않도록)
+ * - 반영에 실패한 증분은 표시가 남아 OrderRollupRebuildService 의 보정 작업 대상이 된다
+ */
+@Service
+@Slf4j
+public class OrderRollupService {
+
+    private static final int MAX_APPLY_ATTEMPTS = 3;
+    private static final long MAX_HOURLY_RANGE_DAYS = 31;
+    private static final long MAX_DAILY_RANGE_DAYS = 366;
+
+    private final OrderRollupRepository orderRollupRepository;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate requiresNewTemplate;
+
+    public OrderRollupService(OrderRollupRepository orderRollupRepository,
+                              OrderRepository orderRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.orderRollupRepository = orderRollupRepository;
+        this.orderRepository = orderRepository;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 신규 주문 집계 반영
+     */
+    public void recordCreated(Order order) {
+        order.markRollupPending();
+        applyAfterCommit(order.getId(), deltasOf(order, order.getStatus()));
+    }
+
+    /**
+     * 주문 상태 변경 집계 반영 - 이전 상태에서 빼고 현재 상태에 더한다
+     */
+    public void recordStatusChange(Order order, OrderStatus previousStatus) {
+        if (previousStatus == order.getStatus()) {
+            return;
+        }
+
+        List<OrderRollupDelta> deltas = new ArrayList<>();
+        deltasOf(order, previousStatus).forEach(delta -> deltas.add(delta.negate()));
+        deltas.addAll(deltasOf(order, order.getStatus()));
+        order.markRollupPending();
+        applyAfterCommit(order.getId(), deltas);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderRollupResponseDto> getRollups(RollupGranularity granularity, LocalDate from, LocalDate to, Long productId) {
+        validateRange(granularity, from, to);
+        LocalDateTime fromInclusive = from.atStartOfDay();
+        LocalDateTime toExclusive = to.plusDays(1).atStartOfDay();
+
+        List<OrderRollup> rollups = productId == null
+                ? orderRollupRepository.findByBucketRange(granularity, fromInclusive, toExclusive)
+                : orderRollupRepository.findByProductAndBucketRange(granularity, productId, fromInclusive, toExclusive);
+
+        return rollups.stream()
+                .map(OrderRollupResponseDto::convertToResponseDto)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<RevenueBucketResponseDto> getRevenue(RollupGranularity granularity, LocalDate from, LocalDate to) {
+        validateRange(granularity, from, to);
+        return orderRollupRepository.sumByBucket(granularity, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * 한 주문을 상품별 증감분으로 변환 - 같은 상품이 여러 항목에 있어도 주문 수는 1로 센다
+     */
+    static List<OrderRollupDelta> deltasOf(Order order, OrderStatus status) {
+        Map<Long, List<OrderItem>> itemsByProduct = order.getItems().stream()
+                .collect(Collectors.groupingBy(item -> item.getProduct().getId(), LinkedHashMap::new, Collectors.toList()));
+
+        List<OrderRollupDelta> deltas = new ArrayList<>(itemsByProduct.size());
+        itemsByProduct.forEach((productId, items) -> deltas.add(new OrderRollupDelta(
+                order.getCreatedAt(),
+                productId,
+                status,
+                1,
+                items.stream().mapToLong(OrderItem::getQuantity).sum(),
+                items.stream().map(OrderItem::getTotalPrice).reduce(BigDecimal.ZERO, BigDecimal::add))));
+        return deltas;
+    }
+
+    private void applyAfterCommit(Long orderId, List<OrderRollupDelta> deltas) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(orderId, deltas);
+                }
+            });
+        } else {
+            apply(orderId, deltas);
+        }
+    }
+
+    /**
+     * 증분 반영 - UPDATE 후 행이 없으면 INSERT, 동시 INSERT 로 유니크 제약 위반 시 새 트랜잭션에서 재시도
+     * 같은 트랜잭션에서 주문의 대기 표시를 먼저 가져가므로 (주문 행 잠금) 재구성과 번갈아 실행되지 않는다
+     */
+    void apply(Long orderId, List<OrderRollupDelta> deltas) {
+        for (int attempt = 1; attempt <= MAX_APPLY_ATTEMPTS; attempt++) {
+            try {
+                requiresNewTemplate.executeWithoutResult(status -> {
+                    if (orderRepository.claimRollupDelta(orderId) == 0) {
+                        log.debug("[ORDER_ROLLUP] 재구성에 이미 반영된 주문, 증분 생략: orderId={}", orderId);
+                        return;
+                    }
+                    deltas.forEach(this::applyDelta);
+                });
+                return;
+            } catch (DataIntegrityViolationException e) {
+                log.debug("[ORDER_ROLLUP] 집계 행 동시 생성 충돌, 재시도: attempt={}", attempt);
+            } catch (Exception e) {
+                log.error("[ORDER_ROLLUP] 주문 집계 반영 실패, 재구성 작업으로 보정 필요: {}", e.getMessage(), e);
+                return;
+            }
+        }
+        log.error("[ORDER_ROLLUP] 주문 집계 반영 재시도 초과, 재구성 작업으로 보정 필요: {}건", deltas.size());
+    }
+
+    private void applyDelta(OrderRollupDelta delta) {
+        LocalDateTime now = LocalDateTime.now();
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            LocalDateTime bucketStart = granularity.bucketStart(delta.orderedAt());
+            int updated = orderRollupRepository.increment(granularity, bucketStart, delta.productId(), delta.status(),
+                    delta.orderCount(), delta.units(), delta.revenue(), now);
+            if (updated == 0) {
+                orderRollupRepository.saveAndFlush(new OrderRollup(granularity, bucketStart, delta.productId(),
+                        delta.status(), delta.orderCount(), delta.units(), delta.revenue(), now));
+            }
+        }
+    }
+
+    private void validateRange(RollupGranularity granularity, LocalDate from, LocalDate to) {
+        if (granularity == null || from == null || to == null || from.isAfter(to)) {
+            throw new OrderException(ErrorCode.INVALID_ROLLUP_RANGE);
+        }
+
+        long maxDays = granularity == RollupGranularity.HOUR ? MAX_HOURLY_RANGE_DAYS : MAX_DAILY_RANGE_DAYS;
+        if (ChronoUnit.DAYS.between(from, to) >= maxDays) {
+            throw new OrderException(ErrorCode.INVALID_ROLLUP_RANGE);
+        }
+    }
+}
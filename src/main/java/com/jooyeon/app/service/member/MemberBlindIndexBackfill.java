@@ -0,0 +1,131 @@
+package com.jooyeon.app.service.member;
+
+import com.jooyeon.app.common.encryption.EncryptionUtil;
+import com.jooyeon.app.domain.entity.member.Member;
+import com.jooyeon.app.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 기존 회원의 전화번호 blind index(phone_number_hash) 채우기
+ * 색인 값은 복호화한 전화번호의 HMAC 이라 마이그레이션 SQL 로는 계산할 수 없으므로 애플리케이션에서 채운다
+ *
+ * - 색인 값이 없는 회원은 가입 중복 확인(existsByPhoneNumberHash)에 걸리지 않으므로 기본으로 켜져 있다
+ *   (시작을 막지 않도록 시작 후 백그라운드로 실행하며, 남은 회원이 없으면 조회 한 번으로 끝난다)
+ * - 회원 한 명씩 별도 트랜잭션으로 저장하고 회원 단위로 모든 오류를 잡으므로, 실패한 회원은 다음 실행에서 다시 시도한다
+ * - 여러 노드가 동시에 실행해도 이미 색인된 회원은 건너뛴다
+ * - 같은 전화번호로 이미 색인된 회원이 있으면 (기존 중복 데이터) 색인 불가로 표시하고 경고 로그를 남긴다
+ *   (표시하지 않으면 매 실행마다 다시 시도해 유니크 인덱스에 걸린다)
+ */
+@Component
+@Slf4j
+public class MemberBlindIndexBackfill {
+
+    private final MemberRepository memberRepository;
+    private final EncryptionUtil encryptionUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean backfillOnStartup;
+    private final int batchSize;
+
+    public MemberBlindIndexBackfill(MemberRepository memberRepository,
+                                    EncryptionUtil encryptionUtil,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.member-blind-index.backfill-on-startup:true}") boolean backfillOnStartup,
+                                    @Value("${app.member-blind-index.batch-size:500}") int batchSize) {
+        this.memberRepository = memberRepository;
+        this.encryptionUtil = encryptionUtil;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backfillOnStartup = backfillOnStartup;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 시작을 막거나 실패시키지 않도록 별도 스레드에서 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStartup) {
+            return;
+        }
+
+        Thread worker = new Thread(() -> {
+            try {
+                backfill();
+            } catch (Exception e) {
+                log.error("[MEMBER_BLIND_INDEX] 전화번호 색인 채우기 작업 중 오류 발생: {}", e.getMessage(), e);
+            }
+        }, "member-blind-index-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * @return 색인 값을 채운 회원 수
+     */
+    public int backfill() {
+        long started = System.nanoTime();
+        int updated = 0;
+        int skipped = 0;
+        int failed = 0;
+        long afterId = 0L;
+
+        List<Long> memberIds;
+        do {
+            memberIds = memberRepository.findIdsWithoutPhoneNumberHash(afterId, PageRequest.of(0, batchSize));
+            for (Long memberId : memberIds) {
+                try {
+                    Boolean indexed = transactionTemplate.execute(status -> memberRepository.findById(memberId)
+                            .map(this::index)
+                            .orElse(null));
+                    if (Boolean.TRUE.equals(indexed)) {
+                        updated++;
+                    } else if (Boolean.FALSE.equals(indexed)) {
+                        skipped++;
+                        log.warn("[MEMBER_BLIND_INDEX] 중복 전화번호로 색인 불가 표시. memberId={}", memberId);
+                    }
+                } catch (DataIntegrityViolationException e) {
+                    // 같은 전화번호가 그 사이 색인됨 - 다음 실행에서 중복으로 표시된다
+                    failed++;
+                    log.warn("[MEMBER_BLIND_INDEX] 색인 저장 중 중복 발생, 다음 실행에서 재시도. memberId={}", memberId);
+                } catch (Exception e) {
+                    failed++;
+                    log.warn("[MEMBER_BLIND_INDEX] 색인 실패, 다음 실행에서 재시도. memberId={}", memberId, e);
+                }
+                afterId = memberId;
+            }
+        } while (memberIds.size() == batchSize);
+
+        if (updated > 0 || skipped > 0 || failed > 0) {
+            log.info("[MEMBER_BLIND_INDEX] 전화번호 색인 채우기 완료: {}건, 색인 불가 {}건, 실패 {}건, {}ms",
+                    updated, skipped, failed, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        }
+        return updated;
+    }
+
+    /**
+     * @return 색인 값을 채웠으면 true, 이미 같은 전화번호가 색인되어 색인 불가로 표시했으면 false,
+     *         그 사이 다른 노드/가입 경로가 채웠으면 null
+     */
+    private Boolean index(Member member) {
+        if (member.getPhoneNumberHash() != null) {
+            return null;
+        }
+        String hash = Member.phoneNumberHash(encryptionUtil, member.getPhoneNumber());
+        if (memberRepository.existsByPhoneNumberHash(hash)) {
+            member.markPhoneNumberUnindexed();
+            return false;
+        }
+        member.setPhoneNumberHash(hash);
+        return true;
+    }
+}
@@ -22,6 +22,7 @@ import java.util.List;
 public class MemberCleanupService {
 
     private final MemberRepository memberRepository;
+    private final MemberStatusCache memberStatusCache;
 
     /**
      * 매일 오전 2시에 탈퇴한지 30일 이상 지난 회원들을 하드 삭제
@@ -57,6 +58,7 @@ public class MemberCleanupService {
                             member.getId(), member.getUserId(), member.getWithdrawnAt());
 
                     memberRepository.delete(member);
+                    memberStatusCache.evict(member.getId());
                     deletedCount++;
 
                 } catch (Exception e) {
@@ -90,6 +92,7 @@ public class MemberCleanupService {
         for (Member member : expiredMembers) {
             try {
                 memberRepository.delete(member);
+                memberStatusCache.evict(member.getId());
                 deletedCount++;
                 log.debug("[MEMBER_CLEANUP] 수동 삭제: ID={}, userId={}", member.getId(), member.getUserId());
 
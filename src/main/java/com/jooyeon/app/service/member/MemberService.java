@@ -1,9 +1,11 @@
 package com.jooyeon.app.service.member;
 
+import com.jooyeon.app.common.encryption.EncryptionUtil;
 import com.jooyeon.app.common.exception.ErrorCode;
 import com.jooyeon.app.common.exception.MemberException;
 import com.jooyeon.app.domain.dto.member.MemberRegistrationDto;
 import com.jooyeon.app.domain.dto.member.MemberResponseDto;
+import com.jooyeon.app.domain.dto.member.MemberStatusView;
 import com.jooyeon.app.domain.dto.member.MemberWithdrawalRequestDto;
 import com.jooyeon.app.domain.entity.member.Member;
 import com.jooyeon.app.domain.entity.member.MemberStatus;
@@ -22,6 +24,8 @@ public class MemberService {
 
     private static final int WITHDRAWAL_CANCELLATION_DAYS = 30;
     private final MemberRepository memberRepository;
+    private final MemberStatusCache memberStatusCache;
+    private final EncryptionUtil encryptionUtil;
 
     @Transactional
     public MemberResponseDto registerMember(MemberRegistrationDto registrationDto) {
@@ -30,11 +34,17 @@ public class MemberService {
             throw new MemberException(ErrorCode.MEMBER_ALREADY_EXISTS);
         }
 
+        String phoneNumberHash = Member.phoneNumberHash(encryptionUtil, registrationDto.getPhoneNumber());
+        if (memberRepository.existsByPhoneNumberHash(phoneNumberHash)) {
+            throw new MemberException(ErrorCode.MEMBER_ALREADY_EXISTS);
+        }
+
         try {
             Member member = new Member();
             member.setUserId(registrationDto.getUserId());
             member.setName(registrationDto.getName());
             member.setPhoneNumber(registrationDto.getPhoneNumber());
+            member.setPhoneNumberHash(phoneNumberHash);
             member.setGender(registrationDto.getGender());
             member.setBirthDate(registrationDto.getBirthDate());
             member.setMemberStatus(MemberStatus.ACTIVE);
@@ -42,6 +52,7 @@ public class MemberService {
             member.setUpdatedAt(LocalDateTime.now());
 
             Member savedMember = memberRepository.save(member);
+            memberStatusCache.update(savedMember.getId(), MemberStatus.ACTIVE);
             return MemberResponseDto.convertToResponseDto(savedMember);
 
         } catch (Exception e) {
@@ -59,11 +70,16 @@ public class MemberService {
         }
 
         try {
+            // JPQL 벌크 UPDATE 는 member 2차 캐시 region 전체를 비우므로 엔티티 변경으로 이 회원 항목만 갱신한다
+            // 개인정보는 지연 복호화되고 바뀌지 않은 암호문은 그대로 다시 쓰므로 복호화/재암호화는 없다
+            LocalDateTime withdrawnAt = LocalDateTime.now();
             member.setMemberStatus(MemberStatus.PENDING_WITHDRAWAL);
-            member.setWithdrawnAt(LocalDateTime.now());
+            member.setWithdrawnAt(withdrawnAt);
+            member.setUpdatedAt(withdrawnAt);
+            memberRepository.save(member);
 
-            Member updatedMember = memberRepository.save(member);
-            return MemberResponseDto.convertToResponseDto(updatedMember);
+            memberStatusCache.update(memberId, MemberStatus.PENDING_WITHDRAWAL);
+            return new MemberResponseDto(memberId, withdrawnAt);
 
         } catch (Exception e) {
             log.error("[MEMBER] 탈퇴 실패. memberId={}", memberId, e);
@@ -90,6 +106,7 @@ public class MemberService {
             member.setWithdrawnAt(null);
 
             Member updatedMember = memberRepository.save(member);
+            memberStatusCache.update(memberId, MemberStatus.ACTIVE);
             return MemberResponseDto.convertToResponseDto(updatedMember);
 
         } catch (Exception e) {
@@ -104,6 +121,10 @@ public class MemberService {
     }
 
 
+    /**
+     * 로그인 응답에 회원 정보가 포함되므로 엔티티를 한 번만 조회해 상태를 확인한다
+     * 개인정보는 지연 복호화되므로 비활성 회원을 거절할 때도 복호화는 일어나지 않는다
+     */
     public Member authenticateMember(String userId) {
         Member member = memberRepository.findByUserId(userId)
                 .orElseThrow(() -> new MemberException(ErrorCode.INVALID_CREDENTIALS));
@@ -115,13 +136,25 @@ public class MemberService {
         return member;
     }
 
+    /**
+     * 회원 활성 여부 - 상태 캐시에 있으면 DB 조회 없이 판단, 없으면 상태 projection 으로 조회
+     */
     public boolean isMemberActive(Long memberId) {
-        try {
-            Member member = findMemberById(memberId);
-            return member.getMemberStatus() == MemberStatus.ACTIVE;
-        } catch (MemberException e) {
+        if (memberId == null) {
             return false;
         }
+
+        MemberStatus cached = memberStatusCache.get(memberId);
+        if (cached != null) {
+            return cached == MemberStatus.ACTIVE;
+        }
+
+        return memberRepository.findStatusById(memberId)
+                .map(status -> {
+                    memberStatusCache.putIfAbsent(memberId, status.getMemberStatus());
+                    return status.isActive();
+                })
+                .orElse(false);
     }
 
     private Member findMemberById(Long memberId) {
@@ -0,0 +1,224 @@
+package com.jooyeon.app.service.member;
+
+import com.jooyeon.app.domain.entity.member.MemberStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 회원 상태 캐시 (회원 ID → 상태 1바이트)
+ * MemberStatusInterceptor 는 "ACTIVE 인가" 만 필요하므로 회원 엔티티(복호화 포함) 대신 이 캐시로 판단한다
+ *
+ * - 회원 ID 는 시퀀스로 발급되어 조밀하므로 4096개 ID 단위 byte[] 청크에 상태를 저장 (100만 명 ≈ 1MB)
+ * - 청크는 처음 쓰일 때 할당하며, max-member-id 이상의 ID 는 캐시하지 않고 항상 DB 로 확인
+ * - 조회는 잠금 없이 acquire 읽기만 하고, 쓰기는 드물기 때문에 하나의 잠금으로 직렬화
+ * - 가입/탈퇴 요청/탈퇴 취소/정리 작업은 커밋 이후 즉시 반영하고, 상태 확인/인증 경로는 비어 있을 때만 채운다
+ *   (조회 중 커밋된 상태 변경을 오래된 조회 결과가 덮어쓰지 않도록, 이미 있으면 잠금도 잡지 않는다)
+ * - 다른 노드나 DB 에서 직접 바뀐 상태는 청크 단위 TTL(app.member-status-cache.ttl)로 반영한다
+ *   청크가 할당된 뒤 TTL 이 지나면 통째로 비운 것으로 보고 다음 조회가 DB 에서 다시 채운다
+ */
+@Component
+public class MemberStatusCache {
+
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    // 0 은 캐시에 없음, 그 외에는 MemberStatus.ordinal() + 1
+    private static final byte UNKNOWN = 0;
+    private static final MemberStatus[] STATUSES = MemberStatus.values();
+
+    private static final VarHandle CHUNKS = MethodHandles.arrayElementVarHandle(Chunk[].class);
+    private static final VarHandle STATUS = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    private final long maxMemberId;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Chunk[] chunks;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile int size;
+    private volatile int allocatedChunks;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Autowired
+    public MemberStatusCache(MeterRegistry meterRegistry,
+                             @Value("${app.member-status-cache.max-member-id:67108864}") long maxMemberId,
+                             @Value("${app.member-status-cache.ttl:5m}") Duration ttl) {
+        this(meterRegistry, maxMemberId, ttl, System::nanoTime);
+    }
+
+    MemberStatusCache(MeterRegistry meterRegistry, long maxMemberId, Duration ttl, LongSupplier nanoClock) {
+        this.maxMemberId = maxMemberId;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.chunks = new Chunk[Math.toIntExact((maxMemberId + CHUNK_SIZE - 1) >>> CHUNK_BITS)];
+
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        Gauge.builder("member.status.cache.size", this, MemberStatusCache::size)
+                .description("상태가 캐시된 회원 수")
+                .register(meterRegistry);
+        Gauge.builder("member.status.cache.memory", this, cache -> (double) cache.allocatedChunks * CHUNK_SIZE)
+                .description("할당된 상태 청크 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("member.status.cache.requests")
+                .description("회원 상태 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 캐시된 상태 (없으면 null - 호출자가 DB 로 확인 후 putIfAbsent)
+     */
+    public MemberStatus get(long memberId) {
+        byte code = cachedCode(memberId);
+
+        if (code == UNKNOWN) {
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return STATUSES[code - 1];
+    }
+
+    /**
+     * 조회 경로에서 읽은 상태로 채우기 - 이미 있으면 덮어쓰지 않는다 (잠금 없이 먼저 확인)
+     */
+    public void putIfAbsent(long memberId, MemberStatus status) {
+        if (cachedCode(memberId) != UNKNOWN) {
+            return;
+        }
+        write(memberId, status, false);
+    }
+
+    /**
+     * 상태 변경 반영 - 트랜잭션 안에서 호출되면 커밋 이후 반영
+     */
+    public void update(long memberId, MemberStatus status) {
+        afterCommit(() -> write(memberId, status, true));
+    }
+
+    /**
+     * 회원 삭제 반영 - 트랜잭션 안에서 호출되면 커밋 이후 반영
+     */
+    public void evict(long memberId) {
+        afterCommit(() -> write(memberId, null, true));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void write(long memberId, MemberStatus status, boolean overwrite) {
+        if (!isCacheable(memberId)) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            int chunkIndex = chunkIndex(memberId);
+            Chunk chunk = chunks[chunkIndex];
+            if (chunk != null && chunk.isExpired(nanoClock.getAsLong())) {
+                // 만료된 청크는 버리고 새로 채운다
+                size -= chunk.size;
+                allocatedChunks--;
+                CHUNKS.setRelease(chunks, chunkIndex, null);
+                chunk = null;
+            }
+            if (chunk == null) {
+                if (status == null) {
+                    return;
+                }
+                chunk = new Chunk(nanoClock.getAsLong() + ttlNanos);
+                CHUNKS.setRelease(chunks, chunkIndex, chunk);
+                allocatedChunks++;
+            }
+
+            int offset = offset(memberId);
+            byte previous = chunk.statuses[offset];
+            if (previous != UNKNOWN && !overwrite) {
+                return;
+            }
+            byte code = status == null ? UNKNOWN : (byte) (status.ordinal() + 1);
+            STATUS.setRelease(chunk.statuses, offset, code);
+            int delta = (code == UNKNOWN ? 0 : 1) - (previous == UNKNOWN ? 0 : 1);
+            chunk.size += delta;
+            size += delta;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return 만료되지 않은 청크에 캐시된 상태 코드 (없으면 UNKNOWN)
+     */
+    private byte cachedCode(long memberId) {
+        if (!isCacheable(memberId)) {
+            return UNKNOWN;
+        }
+        Chunk chunk = (Chunk) CHUNKS.getAcquire(chunks, chunkIndex(memberId));
+        if (chunk == null || chunk.isExpired(nanoClock.getAsLong())) {
+            return UNKNOWN;
+        }
+        return (byte) STATUS.getAcquire(chunk.statuses, offset(memberId));
+    }
+
+    private boolean isCacheable(long memberId) {
+        return memberId > 0 && memberId < maxMemberId;
+    }
+
+    private static int chunkIndex(long memberId) {
+        return (int) (memberId >>> CHUNK_BITS);
+    }
+
+    private static int offset(long memberId) {
+        return (int) (memberId & CHUNK_MASK);
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * 상태 청크 - 만료 시각은 할당 시점 기준이며 size 는 쓰기 잠금 안에서만 바뀐다
+     */
+    private static final class Chunk {
+        private final byte[] statuses = new byte[CHUNK_SIZE];
+        private final long expiresAtNanos;
+        private int size;
+
+        private Chunk(long expiresAtNanos) {
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+}
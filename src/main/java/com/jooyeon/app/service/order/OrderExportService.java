@@ -0,0 +1,126 @@
+package com.jooyeon.app.service.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jooyeon.app.common.exception.ErrorCode;
+import com.jooyeon.app.common.exception.OrderException;
+import com.jooyeon.app.domain.dto.order.OrderExportFormat;
+import com.jooyeon.app.domain.dto.order.OrderExportRow;
+import com.jooyeon.app.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 주문 내보내기 서비스
+ * - DB 커서에서 한 행씩 읽어 응답 스트림에 바로 기록하므로 주문 수와 무관하게 메모리 사용량이 일정
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderExportService {
+
+    private static final int FLUSH_INTERVAL_ROWS = 1000;
+    private static final String CSV_HEADER =
+            "orderId,orderedAt,status,orderTotalAmount,paymentId,productId,productName,quantity,unitPrice,totalPrice";
+
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 기간 검증 - 스트리밍 응답을 시작하기 전에 호출하여 잘못된 요청은 일반 오류 응답으로 처리
+     */
+    public void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new OrderException(ErrorCode.INVALID_ORDER_EXPORT_RANGE);
+        }
+    }
+
+    /**
+     * 회원의 기간 내 주문을 항목 단위로 내보내기
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     * @return 기록된 행 수
+     */
+    @Transactional(readOnly = true)
+    public long exportOrders(Long memberId, LocalDate from, LocalDate to, OrderExportFormat format, OutputStream out) {
+        validateRange(from, to);
+        LocalDateTime fromInclusive = from.atStartOfDay();
+        LocalDateTime toExclusive = to.plusDays(1).atStartOfDay();
+
+        log.info("[ORDER_EXPORT] 주문 내보내기 시작: memberId={}, {} ~ {}, format={}", memberId, from, to, format);
+
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (Stream<OrderExportRow> stream = orderRepository.streamExportRowsByMemberId(memberId, fromInclusive, toExclusive)) {
+            if (format == OrderExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            Iterator<OrderExportRow> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                writeRow(writer, iterator.next(), format);
+                if (++rows % FLUSH_INTERVAL_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 내보내기 응답 기록 실패", e);
+        }
+
+        log.info("[ORDER_EXPORT] 주문 내보내기 완료: memberId={}, {}행", memberId, rows);
+        return rows;
+    }
+
+    private void writeRow(Writer writer, OrderExportRow row, OrderExportFormat format) throws IOException {
+        if (format == OrderExportFormat.NDJSON) {
+            writer.write(objectMapper.writeValueAsString(row));
+        } else {
+            writer.write(String.valueOf(row.getOrderId()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getOrderedAt()));
+            writer.write(',');
+            writer.write(row.getStatus().name());
+            writer.write(',');
+            writer.write(row.getOrderTotalAmount().toPlainString());
+            writer.write(',');
+            writer.write(row.getPaymentId() != null ? String.valueOf(row.getPaymentId()) : "");
+            writer.write(',');
+            writer.write(String.valueOf(row.getProductId()));
+            writer.write(',');
+            writer.write(escapeCsv(row.getProductName()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getQuantity()));
+            writer.write(',');
+            writer.write(row.getUnitPrice().toPlainString());
+            writer.write(',');
+            writer.write(row.getTotalPrice().toPlainString());
+        }
+        writer.write('\n');
+    }
+
+    private static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,171 @@
+package com.jooyeon.app.service.order;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jooyeon.app.common.datasource.ReplicaRoutingDataSource;
+import com.jooyeon.app.domain.dto.order.OrderResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 회원별 주문 목록 캐시 (앞쪽 N 페이지)
+ * - 회원 단위로 페이지를 묶어 두어 주문 생성/취소/결제 상태 변경 시 해당 회원만 정확히 무효화
+ * - 같은 페이지에 대한 동시 miss 는 하나의 로더만 DB를 조회하고 나머지는 결과를 기다린다
+ * - 무효화는 트랜잭션 커밋 이후에 수행하여 커밋 전 데이터가 다시 캐시되는 것을 막는다
+ * - 캐시를 채우는 로드는 primary 에서 읽어 지연된 replica 의 주문 목록이 TTL 동안 남지 않게 한다
+ */
+@Component
+@Slf4j
+public class OrderHistoryCache {
+
+    private final Cache<Long, MemberOrderPages> cache;
+    private final int maxPages;
+    private final int maxPageSize;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter bypassCounter;
+    private final Counter evictionCounter;
+
+    public OrderHistoryCache(MeterRegistry meterRegistry,
+                             @Value("${app.order-history-cache.max-members:10000}") long maxMembers,
+                             @Value("${app.order-history-cache.max-pages:3}") int maxPages,
+                             @Value("${app.order-history-cache.max-page-size:50}") int maxPageSize,
+                             @Value("${app.order-history-cache.ttl:10m}") Duration ttl) {
+        this.maxPages = maxPages;
+        this.maxPageSize = maxPageSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxMembers)
+                .expireAfterWrite(ttl)
+                .build();
+
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.bypassCounter = requestCounter(meterRegistry, "bypass");
+        this.evictionCounter = Counter.builder("order.history.cache.evictions")
+                .description("주문 목록 캐시 회원 단위 무효화 횟수")
+                .register(meterRegistry);
+        Gauge.builder("order.history.cache.hit.ratio", this, OrderHistoryCache::hitRatio)
+                .description("주문 목록 캐시 적중률")
+                .register(meterRegistry);
+        Gauge.builder("order.history.cache.members", cache, Cache::estimatedSize)
+                .description("주문 목록이 캐시된 회원 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("order.history.cache.requests")
+                .description("주문 목록 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 주문 목록 페이지를 반환하고, 없으면 loader 로 조회 후 캐시
+     * 캐시 대상이 아닌 페이지(정렬 지정, 깊은 페이지, 큰 페이지)는 loader 를 바로 호출한다
+     */
+    public Page<OrderResponseDto> getOrLoad(Long memberId, Pageable pageable, Supplier<Page<OrderResponseDto>> loader) {
+        if (!isCacheable(pageable)) {
+            bypassCounter.increment();
+            return loader.get();
+        }
+
+        MemberOrderPages pages = cache.get(memberId, id -> new MemberOrderPages());
+        PageKey key = new PageKey(pageable.getPageNumber(), pageable.getPageSize());
+
+        CompletableFuture<Page<OrderResponseDto>> loading = new CompletableFuture<>();
+        CompletableFuture<Page<OrderResponseDto>> cached = pages.entries.putIfAbsent(key, loading);
+        if (cached != null) {
+            hitCounter.increment();
+            return join(cached);
+        }
+
+        missCounter.increment();
+        try {
+            Page<OrderResponseDto> page = ReplicaRoutingDataSource.readFromPrimary(loader);
+            loading.complete(page);
+            return page;
+        } catch (RuntimeException e) {
+            // 실패한 로드는 캐시에 남기지 않고 대기 중인 요청에도 같은 예외 전달
+            pages.entries.remove(key, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 회원의 캐시된 주문 목록 무효화
+     * 트랜잭션 안에서 호출되면 커밋 이후에 무효화한다
+     */
+    public void evict(Long memberId) {
+        if (memberId == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(memberId);
+                }
+            });
+        } else {
+            evictNow(memberId);
+        }
+    }
+
+    private void evictNow(Long memberId) {
+        cache.invalidate(memberId);
+        evictionCounter.increment();
+        log.debug("[ORDER_CACHE] 회원 주문 목록 캐시 무효화: memberId={}", memberId);
+    }
+
+    double hitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    private boolean isCacheable(Pageable pageable) {
+        return pageable.isPaged()
+                && pageable.getSort().isUnsorted()
+                && pageable.getPageNumber() < maxPages
+                && pageable.getPageSize() <= maxPageSize;
+    }
+
+    private static Page<OrderResponseDto> join(CompletableFuture<Page<OrderResponseDto>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 한 회원의 캐시된 페이지 묶음 - 회원 무효화 시 통째로 버려지므로
+     * 무효화 이전에 시작된 로드가 끝나도 새 묶음에는 반영되지 않는다
+     */
+    private static class MemberOrderPages {
+        private final ConcurrentHashMap<PageKey, CompletableFuture<Page<OrderResponseDto>>> entries = new ConcurrentHashMap<>();
+    }
+
+    private record PageKey(int page, int size) {
+    }
+}
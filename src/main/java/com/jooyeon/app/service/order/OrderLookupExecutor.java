@@ -0,0 +1,166 @@
+package com.jooyeon.app.service.order;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 주문 생성 시 서로 독립적인 조회를 동시에 실행하는 전용 실행기
+ * 하나라도 실패하면 나머지 조회를 취소하고 즉시 예외를 전파한다 (fail-fast)
+ *
+ * 조회는 호출자 트랜잭션 밖의 스레드에서 실행되므로 결과 엔티티는 준영속 상태이며,
+ * 지연 로딩이 필요한 연관관계는 조회 쿼리에서 fetch join 해야 한다
+ *
+ * 조회 스레드마다 DB 커넥션을 하나씩 쓰므로 동시 실행 수는 커넥션 풀 크기에 맞춘다
+ * - parallelism 미설정(0) 시 maximum-pool-size 의 절반, 설정해도 maximum-pool-size - 1 을 넘지 않는다
+ *   (나머지 커넥션은 주문 트랜잭션용)
+ * - timeout 미설정(0) 시 커넥션 획득 대기(connection-timeout) + LOOKUP_TIMEOUT_MARGIN
+ *   (풀이 잠시 바쁠 때 커넥션 대기가 주문 실패로 바뀌지 않도록 풀 대기보다 길게 둔다)
+ * - 호출자는 트랜잭션 커넥션을 잡은 채로 조회를 기다리지 않아야 한다 (주문끼리 커넥션을 서로 기다리게 된다)
+ */
+@Component
+@Slf4j
+public class OrderLookupExecutor {
+
+    static final Duration LOOKUP_TIMEOUT_MARGIN = Duration.ofSeconds(5);
+    static final int VIRTUAL_THREADS_MIN_JAVA_VERSION = 21;
+
+    private final Executor executor;
+    private final Duration timeout;
+
+    public OrderLookupExecutor(@Value("${app.order.lookup.parallelism:0}") int parallelism,
+                               @Value("${app.order.lookup.timeout:0s}") Duration timeout,
+                               @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+                               @Value("${spring.datasource.hikari.connection-timeout:30s}") Duration connectionTimeout,
+                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this(createExecutor(lookupParallelism(parallelism, maximumPoolSize), virtualThreads, Runtime.version().feature()),
+                lookupTimeout(timeout, connectionTimeout));
+        log.info("[ORDER] 주문 조회 실행기: parallelism={}, timeout={}, maximumPoolSize={}",
+                lookupParallelism(parallelism, maximumPoolSize), this.timeout, maximumPoolSize);
+    }
+
+    OrderLookupExecutor(Executor executor, Duration timeout) {
+        this.executor = executor;
+        this.timeout = timeout;
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> lookup) {
+        return CompletableFuture.supplyAsync(lookup, executor);
+    }
+
+    /**
+     * 모든 조회가 끝날 때까지 대기
+     * 먼저 실패한 조회의 예외를 그대로 던지며, 아직 시작하지 않은 조회는 실행되지 않는다
+     */
+    public void awaitAll(CompletableFuture<?>... lookups) {
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        for (CompletableFuture<?> lookup : lookups) {
+            lookup.whenComplete((result, e) -> {
+                if (e != null) {
+                    firstFailure.completeExceptionally(e);
+                }
+            });
+        }
+
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(lookups), firstFailure)
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            cancelAll(lookups);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("주문 조회 대기 중 인터럽트", e);
+        } catch (TimeoutException e) {
+            cancelAll(lookups);
+            throw new IllegalStateException("주문 조회 시간 초과: " + timeout, e);
+        } catch (ExecutionException e) {
+            cancelAll(lookups);
+            throw unwrap(e.getCause());
+        }
+    }
+
+    /**
+     * 결과가 더 이상 필요 없는 조회 취소 (이미 실행 중인 쿼리는 끝나더라도 결과를 버린다)
+     */
+    public void cancelAll(CompletableFuture<?>... lookups) {
+        for (CompletableFuture<?> lookup : lookups) {
+            lookup.cancel(true);
+        }
+    }
+
+    private RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("주문 조회 실패", cause);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        } else if (executor instanceof SimpleAsyncTaskExecutor asyncTaskExecutor) {
+            asyncTaskExecutor.close();
+        }
+    }
+
+    static int lookupParallelism(int configured, int maximumPoolSize) {
+        int limit = Math.max(1, maximumPoolSize - 1);
+        return configured > 0 ? Math.min(configured, limit) : Math.max(1, maximumPoolSize / 2);
+    }
+
+    static Duration lookupTimeout(Duration configured, Duration connectionTimeout) {
+        return configured.isZero() ? connectionTimeout.plus(LOOKUP_TIMEOUT_MARGIN) : configured;
+    }
+
+    /**
+     * 가상 스레드 모드는 Java 21 이상에서만 적용 - 그 미만이면 경고 후 플랫폼 스레드 풀 사용
+     */
+    static Executor createExecutor(int parallelism, boolean virtualThreads, int javaVersion) {
+        if (virtualThreads && javaVersion < VIRTUAL_THREADS_MIN_JAVA_VERSION) {
+            log.warn("[ORDER] 가상 스레드는 Java {} 이상에서만 지원되어 주문 조회는 플랫폼 스레드 풀을 사용합니다 (현재 Java {})",
+                    VIRTUAL_THREADS_MIN_JAVA_VERSION, javaVersion);
+            virtualThreads = false;
+        }
+        return virtualThreads ? virtualThreadExecutor(parallelism) : Executors.newFixedThreadPool(parallelism, lookupThreadFactory());
+    }
+
+    /**
+     * 가상 스레드 모드 (Java 21) - 조회마다 가상 스레드를 생성하고 동시 실행 수만 제한
+     */
+    private static Executor virtualThreadExecutor(int parallelism) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("order-lookup-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(parallelism);
+        return executor;
+    }
+
+    private static ThreadFactory lookupThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "order-lookup-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
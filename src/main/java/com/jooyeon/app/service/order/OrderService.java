@@ -2,20 +2,28 @@ package com.jooyeon.app.service.order;
 
 import com.jooyeon.app.common.exception.ErrorCode;
 import com.jooyeon.app.common.exception.OrderException;
+import com.jooyeon.app.common.outbox.OutboxService;
 import com.jooyeon.app.domain.dto.order.OrderCreateRequestDto;
+import com.jooyeon.app.domain.dto.order.OrderCursor;
 import com.jooyeon.app.domain.dto.order.OrderResponseDto;
+import com.jooyeon.app.domain.dto.order.OrderSliceResponseDto;
+import com.jooyeon.app.domain.dto.outbox.OrderEventPayload;
+import com.jooyeon.app.domain.entity.common.OutboxEventType;
 import com.jooyeon.app.domain.entity.member.Member;
 import com.jooyeon.app.domain.entity.order.Order;
 import com.jooyeon.app.domain.entity.order.OrderItem;
 import com.jooyeon.app.domain.entity.order.OrderStatus;
 import com.jooyeon.app.domain.entity.product.Product;
 import com.jooyeon.app.repository.OrderRepository;
+import com.jooyeon.app.service.analytics.OrderRollupService;
 import com.jooyeon.app.service.member.MemberService;
 import com.jooyeon.app.service.payment.PaymentService;
 import com.jooyeon.app.service.product.ProductService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,7 +32,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,33 +44,56 @@ import java.util.stream.Collectors;
 @Slf4j
 public class OrderService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
     private final MemberService memberService;
     private final ProductService productService;
     private final PaymentService paymentService;
+    private final OrderSummaryService orderSummaryService;
+    private final OrderHistoryCache orderHistoryCache;
+    private final OutboxService outboxService;
+    private final OrderRollupService orderRollupService;
+    private final OrderLookupExecutor orderLookupExecutor;
 
-    private final ConcurrentHashMap<String, Object> idempotencyCache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ReentrantLock> idempotencyCache = new ConcurrentHashMap<>();
 
     @Transactional
     public OrderResponseDto createOrder(Long memberId, OrderCreateRequestDto request) {
         log.info("[ORDER] 멤버를 위한 주문 생성: {} 멱등성 키: {}",
                    memberId, request.getIdempotencyKey());
 
-        synchronized (getIdempotencyLock(request.getIdempotencyKey())) {
-            Order existingOrder = orderRepository.findByIdempotencyKey(request.getIdempotencyKey()).orElse(null);
-            if (existingOrder != null) {
+        ReentrantLock idempotencyLock = getIdempotencyLock(request.getIdempotencyKey());
+        idempotencyLock.lock();
+        try {
+            // 재요청은 회원/상품 조회를 띄우지 않고 기존 주문으로 바로 응답한다
+            // 이 단건 조회로 트랜잭션 커넥션을 빌리므로 아래 조회 대기 동안 커넥션을 점유한다
+            Optional<Order> existingOrder = orderRepository.findWithItemsByIdempotencyKey(request.getIdempotencyKey());
+            if (existingOrder.isPresent()) {
                 log.info("[ORDER] 멱등성 키에 대한 주문이 이미 존재: {}", request.getIdempotencyKey());
-                return OrderResponseDto.convertToResponseDto(existingOrder);
+                return OrderResponseDto.convertToResponseDto(existingOrder.get());
             }
 
-            try {
-                Member member = memberService.findMemberEntityById(memberId);
+            List<Long> productIds = request.getItems().stream()
+                .map(OrderCreateRequestDto.OrderItemDto::getProductId)
+                .collect(Collectors.toList());
 
-                List<Long> productIds = request.getItems().stream()
-                    .map(OrderCreateRequestDto.OrderItemDto::getProductId)
-                    .collect(Collectors.toList());
+            // 회원/상품 조회는 조회 전용 스레드에서 동시에 실행해 대기 시간을 두 조회 지연의 최댓값으로 줄인다
+            CompletableFuture<Member> memberLookup = orderLookupExecutor.submit(
+                () -> memberService.findMemberEntityById(memberId));
+            CompletableFuture<List<Product>> productsLookup = orderLookupExecutor.submit(
+                () -> productService.getProductsByIds(productIds));
 
-                List<Product> products = productService.getProductsByIds(productIds);
+            try {
+                orderLookupExecutor.awaitAll(memberLookup, productsLookup);
+            } catch (RuntimeException e) {
+                log.error("[ORDER] 주문 생성 조회 실패: {}, 멱등성 키: {}", memberId, request.getIdempotencyKey(), e);
+                throw new OrderException(ErrorCode.ORDER_CREATION_FAILED, e);
+            }
+
+            try {
+                Member member = memberLookup.join();
+                List<Product> products = productsLookup.join();
 
                 for (OrderCreateRequestDto.OrderItemDto itemDto : request.getItems()) {
                     productService.checkStockAvailability(itemDto.getProductId(), itemDto.getQuantity());
@@ -100,11 +134,16 @@ public class OrderService {
                 order.setTotalAmount(totalAmount);
                 order = orderRepository.save(order);
 
-                Long paymentId = paymentService.processPayment(order.getId(), totalAmount);
+                // 새 주문의 결제는 주문 트랜잭션에 합류하며 결제 락을 잡지 않는다 (PaymentService.processOrderPayment)
+                Long paymentId = paymentService.processOrderPayment(order.getId()).getId();
+                // 영속 상태의 주문은 변경 감지로 커밋 시 한 번의 UPDATE 로 반영 (orders <-> payments 상호 FK 때문에 INSERT 후 UPDATE 필요)
                 order.setPaymentId(paymentId);
                 order.setStatus(OrderStatus.PAID);
                 order.setUpdatedAt(LocalDateTime.now());
-                order = orderRepository.save(order);
+                orderSummaryService.record(order);
+                outboxService.append(OutboxEventType.ORDER_CREATED, order.getId(), OrderEventPayload.from(order));
+                orderRollupService.recordCreated(order);
+                orderHistoryCache.evict(memberId);
 
                 log.info("[ORDER] 주문 생성 성공: orderId={}, paymentId={}, totalAmount={}",
                            order.getId(), paymentId, totalAmount);
@@ -125,6 +164,8 @@ public class OrderService {
 
                 throw new OrderException(com.jooyeon.app.common.exception.ErrorCode.ORDER_CREATION_FAILED, e);
             }
+        } finally {
+            idempotencyLock.unlock();
         }
     }
 
@@ -132,14 +173,62 @@ public class OrderService {
         log.debug("[ORDER] 멤버의 주문 목록 조회: {} - page: {}, size: {}",
                     memberId, pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<Order> orders = orderRepository.findByMemberIdOrderByCreatedAtDesc(memberId, pageable);
-        return orders.map(OrderResponseDto::convertToResponseDto);
+        return orderHistoryCache.getOrLoad(memberId, pageable, () -> loadOrdersByMember(memberId, pageable));
+    }
+
+    private Page<OrderResponseDto> loadOrdersByMember(Long memberId, Pageable pageable) {
+        Page<Long> orderIds = orderRepository.findIdsByMemberId(memberId, pageable);
+        if (orderIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, orderIds.getTotalElements());
+        }
+
+        List<OrderResponseDto> orders = orderRepository.findAllWithItemsByIdIn(orderIds.getContent()).stream()
+                .map(OrderResponseDto::convertToResponseDto)
+                .collect(Collectors.toList());
+        return new PageImpl<>(orders, pageable, orderIds.getTotalElements());
+    }
+
+    /**
+     * 커서 기반 주문 목록 조회 - COUNT 쿼리 없이 (created_at, id) 기준으로 seek
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 null
+     */
+    public OrderSliceResponseDto getOrdersByMemberCursor(Long memberId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        log.debug("[ORDER] 멤버의 커서 기반 주문 목록 조회: {} - size: {}", memberId, pageSize);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<Long> orderIds;
+        if (cursor == null || cursor.isBlank()) {
+            orderIds = orderRepository.findLatestIdsByMemberId(memberId, limit);
+        } else {
+            OrderCursor orderCursor = OrderCursor.decode(cursor);
+            orderIds = orderRepository.findIdsByMemberIdBefore(
+                    memberId, orderCursor.getCreatedAt(), orderCursor.getOrderId(), limit);
+        }
+
+        boolean hasNext = orderIds.size() > pageSize;
+        if (hasNext) {
+            orderIds = orderIds.subList(0, pageSize);
+        }
+        if (orderIds.isEmpty()) {
+            return new OrderSliceResponseDto(List.of(), null, false);
+        }
+
+        List<Order> orders = orderRepository.findAllWithItemsByIdIn(orderIds);
+        Order last = orders.get(orders.size() - 1);
+        String nextCursor = hasNext ? new OrderCursor(last.getCreatedAt(), last.getId()).encode() : null;
+
+        List<OrderResponseDto> content = orders.stream()
+                .map(OrderResponseDto::convertToResponseDto)
+                .collect(Collectors.toList());
+        return new OrderSliceResponseDto(content, nextCursor, hasNext);
     }
 
     public OrderResponseDto getOrderById(Long orderId, Long memberId) {
         log.debug("[ORDER] 멤버의 주문 조회: {} 멤버: {}", orderId, memberId);
 
-        Order order = orderRepository.findByIdAndMemberId(orderId, memberId)
+        Order order = orderRepository.findWithItemsByIdAndMemberId(orderId, memberId)
                 .orElseThrow(() -> new OrderException(com.jooyeon.app.common.exception.ErrorCode.ORDER_NOT_FOUND));
 
         return OrderResponseDto.convertToResponseDto(order);
@@ -169,9 +258,14 @@ public class OrderService {
                 productService.releaseStock(item.getProduct().getId(), item.getQuantity());
             }
 
+            OrderStatus previousStatus = order.getStatus();
             order.setStatus(OrderStatus.CANCELLED);
             order.setUpdatedAt(LocalDateTime.now());
             orderRepository.save(order);
+            orderSummaryService.refresh(order);
+            outboxService.append(OutboxEventType.ORDER_CANCELLED, order.getId(), OrderEventPayload.from(order));
+            orderRollupService.recordStatusChange(order, previousStatus);
+            orderHistoryCache.evict(memberId);
 
             log.info("[ORDER] 주문 취소 성공: {}", orderId);
 
@@ -182,8 +276,11 @@ public class OrderService {
     }
 
 
-    private Object getIdempotencyLock(String idempotencyKey) {
-        return idempotencyCache.computeIfAbsent(idempotencyKey, k -> new Object());
+    /**
+     * 멱등성 키별 락 - synchronized 는 가상 스레드를 캐리어 스레드에 고정시키므로 ReentrantLock 사용
+     */
+    private ReentrantLock getIdempotencyLock(String idempotencyKey) {
+        return idempotencyCache.computeIfAbsent(idempotencyKey, k -> new ReentrantLock());
     }
 
 }
\ No newline at end of file
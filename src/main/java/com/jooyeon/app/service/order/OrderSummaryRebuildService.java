@@ -0,0 +1,121 @@
+package com.jooyeon.app.service.order;
+
+import com.jooyeon.app.domain.entity.order.Order;
+import com.jooyeon.app.domain.entity.order.OrderSummary;
+import com.jooyeon.app.repository.OrderRepository;
+import com.jooyeon.app.repository.OrderSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 요약 read model 재구성 작업
+ * - 주문 ID 범위를 배치로 나누어 병렬로 원본 테이블에서 다시 생성
+ * - 배치마다 독립 트랜잭션이므로 실패한 배치만 재실행하면 된다
+ * - 배치 범위의 주문 행을 잠근 채로 읽고 다시 쓰므로 동시에 커밋되는 주문 변경과 섞이지 않는다
+ */
+@Service
+@Slf4j
+public class OrderSummaryRebuildService {
+
+    private final OrderRepository orderRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.order-summary.rebuild.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.order-summary.rebuild.parallelism:4}")
+    private int parallelism;
+
+    public OrderSummaryRebuildService(OrderRepository orderRepository,
+                                      OrderSummaryRepository orderSummaryRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.orderSummaryRepository = orderSummaryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 기본값 "-" 는 비활성화, 운영 환경에서 필요 시 cron 설정
+     */
+    @Scheduled(cron = "${app.order-summary.rebuild.cron:-}")
+    public void scheduledRebuild() {
+        try {
+            rebuildAll();
+        } catch (Exception e) {
+            log.error("[ORDER_SUMMARY] 주문 요약 재구성 작업 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 전체 주문 요약 재구성 (관리자용)
+     * @return 재구성된 주문 요약 수
+     */
+    public int rebuildAll() {
+        Long minId = orderRepository.findMinId().orElse(null);
+        Long maxId = orderRepository.findMaxId().orElse(null);
+        if (minId == null || maxId == null) {
+            log.info("[ORDER_SUMMARY] 재구성 대상 주문이 없습니다.");
+            return 0;
+        }
+
+        log.info("[ORDER_SUMMARY] 주문 요약 재구성 시작: id {} ~ {}, batchSize={}, parallelism={}",
+                minId, maxId, batchSize, parallelism);
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<Integer>> batches = new ArrayList<>();
+            for (long fromId = minId; fromId <= maxId; fromId += batchSize) {
+                long from = fromId;
+                long to = Math.min(fromId + batchSize - 1, maxId);
+                batches.add(executor.submit(() -> rebuildBatch(from, to)));
+            }
+
+            int rebuilt = 0;
+            for (Future<Integer> batch : batches) {
+                rebuilt += batch.get();
+            }
+
+            log.info("[ORDER_SUMMARY] 주문 요약 재구성 완료: {}건", rebuilt);
+            return rebuilt;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("주문 요약 재구성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("주문 요약 재구성 배치 실패", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int rebuildBatch(long fromId, long toId) {
+        Integer rebuilt = transactionTemplate.execute(status -> {
+            // 읽기 ~ 삭제/재생성 사이에 커밋된 주문 변경을 이전 스냅샷으로 덮어쓰지 않도록 범위를 먼저 잠근다
+            orderRepository.lockIdsBetween(fromId, toId);
+            List<Order> orders = orderRepository.findAllWithItemsByIdBetween(fromId, toId);
+            orderSummaryRepository.deleteByOrderIdBetween(fromId, toId);
+
+            List<OrderSummary> summaries = orders.stream()
+                    .map(OrderSummary::from)
+                    .collect(Collectors.toList());
+            orderSummaryRepository.saveAll(summaries);
+            return summaries.size();
+        });
+
+        log.debug("[ORDER_SUMMARY] 배치 재구성: id {} ~ {}, {}건", fromId, toId, rebuilt);
+        return rebuilt != null ? rebuilt : 0;
+    }
+}
@@ -0,0 +1,56 @@
+package com.jooyeon.app.service.order;
+
+import com.jooyeon.app.domain.dto.order.OrderSummaryResponseDto;
+import com.jooyeon.app.domain.entity.order.Order;
+import com.jooyeon.app.domain.entity.order.OrderSummary;
+import com.jooyeon.app.repository.OrderSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주문 요약 read model 관리
+ * - 쓰기: 주문 생성/취소 트랜잭션 안에서만 호출되어 원본과 함께 커밋/롤백된다
+ * - 읽기: order_summaries 단일 인덱스 스캔
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class OrderSummaryService {
+
+    private final OrderSummaryRepository orderSummaryRepository;
+
+    /**
+     * 신규 주문의 요약 저장
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Order order) {
+        orderSummaryRepository.save(OrderSummary.from(order));
+        log.debug("[ORDER_SUMMARY] 주문 요약 생성: orderId={}", order.getId());
+    }
+
+    /**
+     * 기존 주문의 요약 갱신 - read model 도입 이전 주문처럼 요약이 없으면 새로 생성
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refresh(Order order) {
+        orderSummaryRepository.findById(order.getId())
+                .ifPresentOrElse(
+                        summary -> summary.apply(order),
+                        () -> orderSummaryRepository.save(OrderSummary.from(order)));
+        log.debug("[ORDER_SUMMARY] 주문 요약 갱신: orderId={}, status={}", order.getId(), order.getStatus());
+    }
+
+    public Page<OrderSummaryResponseDto> getOrderSummariesByMember(Long memberId, Pageable pageable) {
+        log.debug("[ORDER_SUMMARY] 멤버의 주문 요약 목록 조회: {} - page: {}, size: {}",
+                    memberId, pageable.getPageNumber(), pageable.getPageSize());
+
+        return orderSummaryRepository.findByMemberIdOrderByCreatedAtDescOrderIdDesc(memberId, pageable)
+                .map(OrderSummaryResponseDto::convertToResponseDto);
+    }
+}
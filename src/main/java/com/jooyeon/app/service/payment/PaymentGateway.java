@@ -0,0 +1,15 @@
+package com.jooyeon.app.service.payment;
+
+import com.jooyeon.app.domain.entity.payment.Payment;
+
+/**
+ * 외부 결제 게이트웨이
+ */
+public interface PaymentGateway {
+
+    /**
+     * 결제 승인 요청
+     * @return 승인 여부
+     */
+    boolean approve(Payment payment);
+}
@@ -1,13 +1,18 @@
 package com.jooyeon.app.service.payment;
 
+import com.jooyeon.app.common.id.SnowflakeIdGenerator;
 import com.jooyeon.app.common.idempotency.IdempotencyService;
 import com.jooyeon.app.common.lock.Lock;
+import com.jooyeon.app.common.outbox.OutboxService;
+import com.jooyeon.app.domain.dto.outbox.PaymentEventPayload;
+import com.jooyeon.app.domain.entity.common.OutboxEventType;
 import com.jooyeon.app.domain.entity.order.OrderStatus;
 import com.jooyeon.app.domain.entity.order.Order;
 import com.jooyeon.app.domain.entity.payment.Payment;
 import com.jooyeon.app.domain.entity.payment.PaymentStatus;
 import com.jooyeon.app.repository.OrderRepository;
 import com.jooyeon.app.repository.PaymentRepository;
+import com.jooyeon.app.service.order.OrderHistoryCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,7 +21,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -28,10 +32,15 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class PaymentService {
 
+    public static final String DEFAULT_PAYMENT_METHOD = "DEFAULT";
+
     private final PaymentRepository paymentRepository;
     private final OrderRepository orderRepository;
     private final IdempotencyService idempotencyService;
-
+    private final OrderHistoryCache orderHistoryCache;
+    private final OutboxService outboxService;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final PaymentGateway paymentGateway;
 
     /**
      * 결제 처리 - 분산락과 멱등성 키로 중복 결제 방지
@@ -43,6 +52,20 @@ public class PaymentService {
     @Lock(key = "'payment:order:' + #orderId", waitTime = 10, leaseTime = 30, timeUnit = TimeUnit.SECONDS)
     @Transactional
     public Payment processPayment(Long orderId, String idempotencyKey, String paymentMethod) {
+        return pay(orderId, idempotencyKey, paymentMethod);
+    }
+
+    /**
+     * 주문 생성 트랜잭션 안에서 방금 저장한 주문을 결제
+     * 아직 커밋되지 않은 새 주문 id 는 경쟁할 결제 요청이 없으므로 결제 락을 잡지 않는다
+     * (이미 커넥션을 빌린 주문 트랜잭션 안에서 락을 기다리지 않도록)
+     */
+    @Transactional
+    public Payment processOrderPayment(Long orderId) {
+        return pay(orderId, orderPaymentIdempotencyKey(orderId), DEFAULT_PAYMENT_METHOD);
+    }
+
+    private Payment pay(Long orderId, String idempotencyKey, String paymentMethod) {
 
         // 1. 멱등성 키 검증 - 중복 결제 방지
         IdempotencyService.IdempotencyResult idempotencyResult = idempotencyService.checkIdempotency(idempotencyKey);
@@ -74,7 +97,7 @@ public class PaymentService {
                 return result;
             }
 
-            // 4. 결제 처리
+            // 4. 결제 정보 생성
             Payment payment = new Payment();
             payment.setOrderId(orderId);
             payment.setAmount(order.getTotalAmount());
@@ -84,23 +107,19 @@ public class PaymentService {
             payment.setCreatedAt(LocalDateTime.now());
             payment.setUpdatedAt(LocalDateTime.now());
 
-            payment = paymentRepository.save(payment);
-
-            // 5. 외부 결제 게이트웨이 호출 시뮬레이션
-            boolean paymentSuccess = processExternalPayment(payment);
-
-            if (paymentSuccess) {
-                payment.setPaymentStatus(PaymentStatus.SUCCESS);
-                paymentRepository.save(payment);
-
-                // 6. 주문 상태 업데이트 (낙관적 락 버전 체크)
-                updateOrderStatus(order);
-            } else {
-                payment.setPaymentStatus(PaymentStatus.FAILED);
-                paymentRepository.save(payment);
+            // 5. 외부 결제 게이트웨이 승인
+            // 같은 트랜잭션 안에서는 PENDING 상태를 먼저 저장해도 외부에 보이지 않으므로 최종 상태로 한 번만 저장 (INSERT 1회)
+            if (!paymentGateway.approve(payment)) {
                 throw new RuntimeException("Payment processing failed");
             }
 
+            payment.setPaymentStatus(PaymentStatus.SUCCESS);
+            payment = paymentRepository.save(payment);
+            outboxService.append(OutboxEventType.PAYMENT_COMPLETED, payment.getId(), PaymentEventPayload.from(payment));
+
+            // 6. 주문 상태 업데이트 (낙관적 락 버전 체크)
+            updateOrderStatus(order);
+
             // 7. 멱등성 키에 결과 저장
             idempotencyService.saveResult(idempotencyKey, payment);
             return payment;
@@ -114,46 +133,20 @@ public class PaymentService {
     }
 
     /**
-     * 주문 상태 업데이트 - 낙관적 락 적용
-     * JPA @Version을 통한 동시성 제어
+     * 주문 상태 업데이트
+     * 영속 상태이므로 변경 감지로 flush/커밋 시 UPDATE 되며, 동시 수정은 그때 @Version 검사로 실패한다
      */
     private void updateOrderStatus(Order order) {
-        try {
-            order.setStatus(OrderStatus.PAID);
-            orderRepository.save(order); // 낙관적 락 버전 체크
-        } catch (Exception e) {
-            log.error("[PAYMENT] 낙관적 락으로 인한 주문 상태 업데이트 실패: orderId={}",
-                        order.getId(), e);
-            throw new RuntimeException("Order update failed due to concurrent modification", e);
-        }
-    }
-
-    /**
-     * 외부 결제 게이트웨이 호출 시뮬레이션
-     */
-    private boolean processExternalPayment(Payment payment) {
-        try {
-            // 외부 결제 API 호출 시뮬레이션 (2초 지연)
-            Thread.sleep(2000);
-
-            // 90% 성공률로 시뮬레이션
-            return Math.random() > 0.1;
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return false;
-        }
+        order.setStatus(OrderStatus.PAID);
+        order.setUpdatedAt(LocalDateTime.now());
+        orderHistoryCache.evict(order.getMember().getId());
     }
 
     /**
-     * 간편 결제 처리 메서드 - OrderService에서 사용
+     * 주문 생성 시 결제 멱등성 키
      */
-    @Transactional
-    public Long processPayment(Long orderId, java.math.BigDecimal amount) {
-        String idempotencyKey = "payment_" + orderId + "_" + java.time.Instant.now().toEpochMilli();
-        String paymentMethod = "DEFAULT";
-        Payment payment = processPayment(orderId, idempotencyKey, paymentMethod);
-        return payment.getId();
+    private static String orderPaymentIdempotencyKey(Long orderId) {
+        return "payment_" + orderId + "_" + java.time.Instant.now().toEpochMilli();
     }
 
     /**
@@ -166,6 +159,6 @@ public class PaymentService {
     }
 
     private String generateTransactionId() {
-        return "TXN_" + UUID.randomUUID().toString().replace("-", "").substring(0, 16).toUpperCase();
+        return "TXN_" + snowflakeIdGenerator.nextHexId();
     }
 }
\ No newline at end of file
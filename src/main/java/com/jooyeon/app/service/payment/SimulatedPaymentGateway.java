@@ -0,0 +1,29 @@
+package com.jooyeon.app.service.payment;
+
+import com.jooyeon.app.domain.entity.payment.Payment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 결제 게이트웨이 호출 시뮬레이션
+ * 실제 PG 연동 시 이 구현을 교체합니다
+ */
+@Component
+@Slf4j
+public class SimulatedPaymentGateway implements PaymentGateway {
+
+    @Override
+    public boolean approve(Payment payment) {
+        try {
+            // 외부 결제 API 호출 시뮬레이션 (2초 지연)
+            Thread.sleep(2000);
+
+            // 90% 성공률로 시뮬레이션
+            return Math.random() > 0.1;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.jooyeon.app.service.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jooyeon.app.common.datasource.ReplicaRoutingDataSource;
+import com.jooyeon.app.domain.entity.product.Product;
+import com.jooyeon.app.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 카탈로그 near cache (상품 ID 기준)
+ * - 시작 시 전체 상품을 페이지 단위로 한 번에 적재
+ * - 다건 조회는 캐시에 없는 ID만 한 번의 IN 쿼리로 조회
+ * - 상품 변경 시 커밋 이후 해당 상품만 무효화 (ProductCatalogCacheListener)
+ * - miss 로드는 primary 에서 읽어 지연된 replica 의 값이 TTL 동안 남지 않게 한다
+ *
+ * 캐시된 엔티티는 여러 스레드가 공유하므로 호출자에게는 항상 복사본(준영속)을 반환한다
+ */
+@Component
+@Slf4j
+public class ProductCatalogCache {
+
+    private final ProductRepository productRepository;
+    private final Cache<Long, Product> cache;
+    private final boolean warmUpEnabled;
+    private final int warmUpBatchSize;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidationCounter;
+    private final Timer singleLoadTimer;
+    private final Timer bulkLoadTimer;
+
+    public ProductCatalogCache(ProductRepository productRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.product-cache.max-size:100000}") long maxSize,
+                               @Value("${app.product-cache.ttl:1h}") Duration ttl,
+                               @Value("${app.product-cache.warm-up.enabled:true}") boolean warmUpEnabled,
+                               @Value("${app.product-cache.warm-up.batch-size:1000}") int warmUpBatchSize) {
+        this.productRepository = productRepository;
+        this.warmUpEnabled = warmUpEnabled;
+        this.warmUpBatchSize = warmUpBatchSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.invalidationCounter = Counter.builder("product.catalog.cache.invalidations")
+                .description("상품 변경으로 인한 캐시 무효화 횟수")
+                .register(meterRegistry);
+        this.singleLoadTimer = loadTimer(meterRegistry, "single");
+        this.bulkLoadTimer = loadTimer(meterRegistry, "bulk");
+        Gauge.builder("product.catalog.cache.hit.ratio", this, ProductCatalogCache::hitRatio)
+                .description("상품 캐시 적중률")
+                .register(meterRegistry);
+        Gauge.builder("product.catalog.cache.size", cache, Cache::estimatedSize)
+                .description("캐시된 상품 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("product.catalog.cache.requests")
+                .description("상품 캐시 조회 결과 (상품 ID 단위)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Timer loadTimer(MeterRegistry meterRegistry, String type) {
+        return Timer.builder("product.catalog.cache.load")
+                .description("캐시 miss 시 DB 조회 시간")
+                .tag("type", type)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public Optional<Product> get(Long productId) {
+        Product cached = cache.getIfPresent(productId);
+        if (cached != null) {
+            hitCounter.increment();
+            return Optional.of(copyOf(cached));
+        }
+
+        missCounter.increment();
+        Product loaded = cache.get(productId, id -> singleLoadTimer.record(() -> ReplicaRoutingDataSource.readFromPrimary(
+                () -> productRepository.findById(id).map(ProductCatalogCache::copyOf).orElse(null))));
+        return Optional.ofNullable(loaded).map(ProductCatalogCache::copyOf);
+    }
+
+    /**
+     * 다건 조회 - 캐시에 없는 ID만 DB에서 한 번에 조회
+     * @return 요청 순서대로 존재하는 상품만 반환 (중복 ID 제거)
+     */
+    public List<Product> getAll(Collection<Long> productIds) {
+        Set<Long> ids = new LinkedHashSet<>(productIds);
+        Map<Long, Product> present = cache.getAllPresent(ids);
+        hitCounter.increment(present.size());
+
+        Map<Long, Product> products = present;
+        if (present.size() < ids.size()) {
+            missCounter.increment(ids.size() - present.size());
+            products = cache.getAll(ids, this::loadAll);
+        }
+
+        List<Product> result = new ArrayList<>(products.size());
+        for (Long id : ids) {
+            Product product = products.get(id);
+            if (product != null) {
+                result.add(copyOf(product));
+            }
+        }
+        return result;
+    }
+
+    private Map<Long, Product> loadAll(Set<? extends Long> missingIds) {
+        return bulkLoadTimer.record(() -> ReplicaRoutingDataSource.readFromPrimary(
+                () -> productRepository.findAllById(new ArrayList<>(missingIds)).stream()
+                        .map(ProductCatalogCache::copyOf)
+                        .collect(Collectors.toMap(Product::getId, Function.identity()))));
+    }
+
+    /**
+     * 상품 캐시 무효화
+     * 트랜잭션 안에서 호출되면 커밋 이후에 무효화하여 커밋 전 데이터가 다시 캐시되는 것을 막는다
+     */
+    public void invalidate(Long productId) {
+        if (productId == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(productId);
+                }
+            });
+        } else {
+            invalidateNow(productId);
+        }
+    }
+
+    private void invalidateNow(Long productId) {
+        cache.invalidate(productId);
+        invalidationCounter.increment();
+        log.debug("[PRODUCT_CACHE] 상품 캐시 무효화: productId={}", productId);
+    }
+
+    /**
+     * 시작 시 전체 상품 적재 (ID 순 페이지 단위)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (warmUpEnabled) {
+            warmUp();
+        }
+    }
+
+    public int warmUp() {
+        long started = System.nanoTime();
+        int loaded = 0;
+        Page<Product> page;
+        int pageNumber = 0;
+        do {
+            page = productRepository.findAll(PageRequest.of(pageNumber++, warmUpBatchSize, Sort.by("id")));
+            Map<Long, Product> batch = page.getContent().stream()
+                    .map(ProductCatalogCache::copyOf)
+                    .collect(Collectors.toMap(Product::getId, Function.identity()));
+            cache.putAll(batch);
+            loaded += batch.size();
+        } while (page.hasNext());
+
+        log.info("[PRODUCT_CACHE] 상품 캐시 적재 완료: {}건, {}ms", loaded,
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+        return loaded;
+    }
+
+    double hitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    private static Product copyOf(Product source) {
+        Product copy = new Product();
+        copy.setId(source.getId());
+        copy.setName(source.getName());
+        copy.setPrice(source.getPrice());
+        copy.setDescription(source.getDescription());
+        copy.setStatus(source.getStatus());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        return copy;
+    }
+}
@@ -0,0 +1,47 @@
+package com.jooyeon.app.service.product;
+
+import com.jooyeon.app.domain.entity.product.Product;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 상품 변경 시 카탈로그 캐시 무효화 및 검색/정렬 색인 반영 (커밋 이후)
+ * Hibernate 가 SpringBeanContainer 로 생성하므로 생성자 주입이 가능하며,
+ * 캐시/색인 빈이 없는 슬라이스 테스트(@DataJpaTest)에서는 아무 것도 하지 않는다
+ */
+public class ProductCatalogCacheListener {
+
+    private final ObjectProvider<ProductCatalogCache> productCatalogCache;
+    private final ObjectProvider<ProductSearchIndex> productSearchIndex;
+    private final ObjectProvider<ProductSortedIndex> productSortedIndex;
+
+    public ProductCatalogCacheListener(ObjectProvider<ProductCatalogCache> productCatalogCache,
+                                       ObjectProvider<ProductSearchIndex> productSearchIndex,
+                                       ObjectProvider<ProductSortedIndex> productSortedIndex) {
+        this.productCatalogCache = productCatalogCache;
+        this.productSearchIndex = productSearchIndex;
+        this.productSortedIndex = productSortedIndex;
+    }
+
+    @PostPersist
+    public void created(Product product) {
+        productSearchIndex.ifAvailable(index -> index.upsert(product));
+        productSortedIndex.ifAvailable(index -> index.upsert(product));
+    }
+
+    @PostUpdate
+    public void updated(Product product) {
+        productCatalogCache.ifAvailable(cache -> cache.invalidate(product.getId()));
+        productSearchIndex.ifAvailable(index -> index.upsert(product));
+        productSortedIndex.ifAvailable(index -> index.upsert(product));
+    }
+
+    @PostRemove
+    public void removed(Product product) {
+        productCatalogCache.ifAvailable(cache -> cache.invalidate(product.getId()));
+        productSearchIndex.ifAvailable(index -> index.remove(product.getId()));
+        productSortedIndex.ifAvailable(index -> index.remove(product.getId()));
+    }
+}
@@ -0,0 +1,503 @@
+package com.jooyeon.app.service.product;
+
+import com.jooyeon.app.domain.entity.product.Product;
+import com.jooyeon.app.domain.entity.product.ProductStatus;
+import com.jooyeon.app.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품명/설명 n-gram 역색인 (메모리)
+ * LIKE '%keyword%' 는 인덱스를 쓸 수 없어 전체 스캔이 되므로 검색은 이 색인으로 처리한다
+ *
+ * - 상품명은 1-gram, 2-gram, 설명은 2-gram 으로 색인 (1글자 검색은 상품명만 대상)
+ * - 검색어의 모든 gram 을 포함하는 후보를 posting 교집합으로 구한 뒤 실제 포함 여부를 확인
+ * - 순위: 상품명 일치 > 상품명 접두 > 상품명 포함 > 설명 포함, 같으면 짧은 상품명, 상품 ID 순
+ * - 상품 변경은 커밋 이후 증분 반영 (ProductCatalogCacheListener), 변경/삭제된 문서는 tombstone 처리 후 일정 비율을 넘으면 압축
+ * - 리스너를 거치지 않은 변경 (직접 SQL, 다른 노드) 은 주기적 재구성으로 반영
+ */
+@Component
+@Slf4j
+public class ProductSearchIndex {
+
+    private static final double COMPACTION_THRESHOLD = 0.2;
+
+    private static final int SCORE_NAME_EXACT = 100;
+    private static final int SCORE_NAME_PREFIX = 80;
+    private static final int SCORE_NAME_CONTAINS = 60;
+    private static final int SCORE_DESCRIPTION_CONTAINS = 20;
+
+    private final ProductRepository productRepository;
+    private final boolean buildOnStartup;
+    private final int batchSize;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Documents documents = new Documents();
+
+    // 재구성 중 커밋된 변경 (null 값은 삭제) - 재구성 결과로 교체한 뒤 다시 적용한다
+    private Map<Long, Document> changesDuringRebuild;
+
+    public ProductSearchIndex(ProductRepository productRepository,
+                              @Value("${app.product-search.build-on-startup:true}") boolean buildOnStartup,
+                              @Value("${app.product-search.batch-size:1000}") int batchSize) {
+        this.productRepository = productRepository;
+        this.buildOnStartup = buildOnStartup;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 검색
+     * @param keyword 검색어 (공백 무시, 대소문자 구분 없음)
+     * @return 순위순 상품 ID (최대 limit 개)
+     */
+    public List<Long> search(String keyword, ProductStatus status, int limit) {
+        String query = normalize(keyword);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Documents current = documents;
+            int[] candidates = current.candidates(query);
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, Hit.WORST_FIRST);
+            for (int ordinal : candidates) {
+                if (current.deleted.get(ordinal) || (status != null && current.statuses[ordinal] != status)) {
+                    continue;
+                }
+                int score = current.score(ordinal, query);
+                if (score == 0) {
+                    continue;
+                }
+                top.offer(new Hit(current.productIds[ordinal], score, current.names[ordinal].length()));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(Hit.WORST_FIRST.reversed());
+            return hits.stream().map(Hit::productId).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 추가/변경 반영 - 트랜잭션 안에서 호출되면 커밋 이후 반영
+     * 호출 시점의 값을 복사해 두므로 이후 엔티티 변경의 영향을 받지 않는다
+     */
+    public void upsert(Product product) {
+        Long productId = product.getId();
+        String name = product.getName();
+        String description = product.getDescription();
+        ProductStatus status = product.getStatus();
+        afterCommit(() -> upsertNow(productId, name, description, status));
+    }
+
+    public void remove(Long productId) {
+        afterCommit(() -> apply(productId, null));
+    }
+
+    /**
+     * 시작 시 전체 상품 색인 (ID 순 페이지 단위)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (buildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 주기적 재구성 - 리스너를 거치지 않은 상품 변경/삭제를 반영한다
+     */
+    @Scheduled(fixedDelayString = "${app.product-search.refresh-interval:PT10M}",
+            initialDelayString = "${app.product-search.refresh-interval:PT10M}")
+    public void refresh() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("[PRODUCT_SEARCH] 상품 검색 색인 재구성 중 오류 발생, 기존 색인 유지: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 전체 상품을 ID 순 페이지로 읽어 색인을 새로 만든 뒤 교체
+     * 읽는 동안 커밋된 변경은 교체 직후 다시 적용하므로 오래된 행이 새 값을 덮어쓰지 않는다
+     */
+    public int rebuild() {
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Documents rebuilt = new Documents();
+            Page<Product> page;
+            int pageNumber = 0;
+            do {
+                page = productRepository.findAll(PageRequest.of(pageNumber++, batchSize, Sort.by("id")));
+                for (Product product : page.getContent()) {
+                    rebuilt.put(product.getId(), document(product.getName(), product.getDescription(), product.getStatus()));
+                }
+            } while (page.hasNext());
+            int indexed = rebuilt.size();
+
+            int gramCount;
+            lock.writeLock().lock();
+            try {
+                documents = rebuilt;
+                Map<Long, Document> pending = changesDuringRebuild;
+                changesDuringRebuild = null;
+                pending.forEach(this::applyLocked);
+                gramCount = documents.postings.size();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            log.info("[PRODUCT_SEARCH] 상품 검색 색인 완료: {}건, gram {}개, {}ms", indexed, gramCount,
+                    Duration.ofNanos(System.nanoTime() - started).toMillis());
+            return indexed;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    void upsertNow(Long productId, String name, String description, ProductStatus status) {
+        apply(productId, document(name, description, status));
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int gramCount() {
+        lock.readLock().lock();
+        try {
+            return documents.postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param document 새 문서 (null 이면 삭제)
+     */
+    private void apply(Long productId, Document document) {
+        lock.writeLock().lock();
+        try {
+            applyLocked(productId, document);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.put(productId, document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyLocked(Long productId, Document document) {
+        if (document == null) {
+            documents.remove(productId);
+        } else {
+            documents.put(productId, document);
+        }
+        documents.compactIfNeeded();
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private static Document document(String name, String description, ProductStatus status) {
+        return new Document(normalize(name), normalize(description), status);
+    }
+
+    static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static int gram(char c) {
+        return c;
+    }
+
+    private static int gram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    /**
+     * 정규화된 색인 대상 값
+     */
+    private record Document(String name, String description, ProductStatus status) {
+    }
+
+    /**
+     * 문서 번호(ordinal) 기준 저장소 - posting 은 ordinal 오름차순으로 쌓인다
+     * 재구성 시 새 인스턴스를 만들어 통째로 교체하므로 락은 바깥 클래스가 관리한다
+     */
+    private static final class Documents {
+
+        private long[] productIds = new long[1024];
+        private String[] names = new String[1024];
+        private String[] descriptions = new String[1024];
+        private ProductStatus[] statuses = new ProductStatus[1024];
+        private final BitSet deleted = new BitSet();
+        private int documentCount;
+        private int deletedCount;
+
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final Map<Integer, Postings> postings = new HashMap<>();
+
+        int size() {
+            return documentCount - deletedCount;
+        }
+
+        void put(Long productId, Document document) {
+            remove(productId);
+            int ordinal = append(productId, document.name(), document.description(), document.status());
+            ordinals.put(productId, ordinal);
+        }
+
+        void remove(Long productId) {
+            Integer previous = ordinals.remove(productId);
+            if (previous != null) {
+                deleted.set(previous);
+                deletedCount++;
+            }
+        }
+
+        int[] candidates(String query) {
+            if (query.length() == 1) {
+                Postings unigram = postings.get(gram(query.charAt(0)));
+                return unigram == null ? new int[0] : unigram.toArray();
+            }
+
+            List<Postings> lists = new ArrayList<>(query.length() - 1);
+            for (int i = 0; i < query.length() - 1; i++) {
+                Postings list = postings.get(gram(query.charAt(i), query.charAt(i + 1)));
+                if (list == null) {
+                    return new int[0];
+                }
+                lists.add(list);
+            }
+            // 가장 짧은 posting 부터 교집합
+            lists.sort(Comparator.comparingInt(Postings::size));
+            int[] result = lists.get(0).toArray();
+            for (int i = 1; i < lists.size() && result.length > 0; i++) {
+                result = lists.get(i).intersect(result);
+            }
+            return result;
+        }
+
+        int score(int ordinal, String query) {
+            String name = names[ordinal];
+            if (name.equals(query)) {
+                return SCORE_NAME_EXACT;
+            }
+            if (name.startsWith(query)) {
+                return SCORE_NAME_PREFIX;
+            }
+            if (name.contains(query)) {
+                return SCORE_NAME_CONTAINS;
+            }
+            if (query.length() > 1 && descriptions[ordinal].contains(query)) {
+                return SCORE_DESCRIPTION_CONTAINS;
+            }
+            return 0;
+        }
+
+        /**
+         * tombstone 비율이 임계값을 넘으면 살아 있는 문서만으로 색인을 다시 만든다
+         */
+        void compactIfNeeded() {
+            if (deletedCount == 0 || deletedCount < documentCount * COMPACTION_THRESHOLD) {
+                return;
+            }
+
+            long[] oldProductIds = productIds;
+            String[] oldNames = names;
+            String[] oldDescriptions = descriptions;
+            ProductStatus[] oldStatuses = statuses;
+            int oldCount = documentCount;
+
+            int capacity = Math.max(1024, Integer.highestOneBit(Math.max(1, oldCount - deletedCount)) * 2);
+            productIds = new long[capacity];
+            names = new String[capacity];
+            descriptions = new String[capacity];
+            statuses = new ProductStatus[capacity];
+            documentCount = 0;
+            postings.clear();
+            ordinals.clear();
+
+            for (int ordinal = 0; ordinal < oldCount; ordinal++) {
+                if (!deleted.get(ordinal)) {
+                    int newOrdinal = append(oldProductIds[ordinal], oldNames[ordinal], oldDescriptions[ordinal], oldStatuses[ordinal]);
+                    ordinals.put(oldProductIds[ordinal], newOrdinal);
+                }
+            }
+            deleted.clear();
+            deletedCount = 0;
+            log.debug("[PRODUCT_SEARCH] 색인 압축: {} -> {}건", oldCount, documentCount);
+        }
+
+        private int append(Long productId, String name, String description, ProductStatus status) {
+            if (documentCount == productIds.length) {
+                int capacity = productIds.length * 2;
+                productIds = Arrays.copyOf(productIds, capacity);
+                names = Arrays.copyOf(names, capacity);
+                descriptions = Arrays.copyOf(descriptions, capacity);
+                statuses = Arrays.copyOf(statuses, capacity);
+            }
+
+            int ordinal = documentCount++;
+            productIds[ordinal] = productId;
+            names[ordinal] = name;
+            descriptions[ordinal] = description;
+            statuses[ordinal] = status;
+
+            for (int i = 0; i < name.length(); i++) {
+                addPosting(gram(name.charAt(i)), ordinal);
+                if (i + 1 < name.length()) {
+                    addPosting(gram(name.charAt(i), name.charAt(i + 1)), ordinal);
+                }
+            }
+            for (int i = 0; i + 1 < description.length(); i++) {
+                addPosting(gram(description.charAt(i), description.charAt(i + 1)), ordinal);
+            }
+            return ordinal;
+        }
+
+        private void addPosting(int gram, int ordinal) {
+            postings.computeIfAbsent(gram, g -> new Postings()).add(ordinal);
+        }
+    }
+
+    /**
+     * 정렬된 문서 번호 목록 (primitive int 배열)
+     */
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            // 같은 문서에서 같은 gram 이 반복되면 한 번만 기록 (문서 번호는 증가 순으로만 추가됨)
+            if (size > 0 && ordinals[size - 1] == ordinal) {
+                return;
+            }
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ordinals, size);
+        }
+
+        /**
+         * 정렬된 후보와의 교집합 (후보가 훨씬 적으면 이진 탐색)
+         */
+        int[] intersect(int[] candidates) {
+            int[] result = new int[Math.min(candidates.length, size)];
+            int count = 0;
+            if (candidates.length * 8 < size) {
+                int from = 0;
+                for (int candidate : candidates) {
+                    int index = Arrays.binarySearch(ordinals, from, size, candidate);
+                    if (index >= 0) {
+                        result[count++] = candidate;
+                        from = index + 1;
+                    } else {
+                        from = -index - 1;
+                    }
+                }
+            } else {
+                int i = 0;
+                int j = 0;
+                while (i < candidates.length && j < size) {
+                    if (candidates[i] == ordinals[j]) {
+                        result[count++] = candidates[i];
+                        i++;
+                        j++;
+                    } else if (candidates[i] < ordinals[j]) {
+                        i++;
+                    } else {
+                        j++;
+                    }
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+    }
+
+    private record Hit(long productId, int score, int nameLength) {
+
+        /**
+         * 힙의 head 가 가장 낮은 순위가 되도록 정렬 (점수 낮음 → 긴 상품명 → 큰 ID)
+         */
+        static final Comparator<Hit> WORST_FIRST = Comparator.comparingInt(Hit::score)
+                .thenComparing(Comparator.comparingInt(Hit::nameLength).reversed())
+                .thenComparing(Comparator.comparingLong(Hit::productId).reversed());
+    }
+}
@@ -9,6 +9,7 @@ import com.jooyeon.app.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,20 +24,73 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ProductService {
 
-    private final ProductRepository productRepository;
+    private static final int MAX_SEARCH_KEYWORD_LENGTH = 50;
+    private static final int MAX_SEARCH_SIZE = 100;
 
+    private final ProductRepository productRepository;
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSortedIndex productSortedIndex;
 
     public ProductResponseDto getProductById(Long productId) {
-        Product product = productRepository.findById(productId)
+        Product product = productCatalogCache.get(productId)
                 .orElseThrow(() -> new ProductException(ErrorCode.PRODUCT_NOT_FOUND));
 
         return ProductResponseDto.convertToResponseDto(product);
     }
 
+    /**
+     * 상품명/설명 검색 (메모리 n-gram 색인)
+     * @param size 최대 결과 수 (최대 100)
+     */
+    public List<ProductResponseDto> searchProducts(String keyword, ProductStatus status, int size) {
+        if (keyword == null || keyword.isBlank() || keyword.length() > MAX_SEARCH_KEYWORD_LENGTH) {
+            throw new ProductException(ErrorCode.INVALID_SEARCH_KEYWORD);
+        }
+
+        List<Long> productIds = productSearchIndex.search(keyword, status, Math.min(Math.max(size, 1), MAX_SEARCH_SIZE));
+        return productCatalogCache.getAll(productIds).stream()
+                .map(ProductResponseDto::convertToResponseDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 상태별 상품 목록 (상품명 순, 메모리 정렬 색인)
+     */
+    public Page<ProductResponseDto> getProducts(ProductStatus status, Pageable pageable) {
+        return toResponsePage(productSortedIndex.findIdsOrderByName(status, pageable));
+    }
+
+    /**
+     * 가격 범위 상품 목록 (가격 순, 메모리 정렬 색인)
+     * @param minPrice 최소 가격 (null 이면 제한 없음)
+     * @param maxPrice 최대 가격 (null 이면 제한 없음)
+     */
+    public Page<ProductResponseDto> getProductsByPriceRange(ProductStatus status, BigDecimal minPrice,
+                                                            BigDecimal maxPrice, Pageable pageable) {
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new ProductException(ErrorCode.INVALID_PRICE_RANGE);
+        }
+
+        return toResponsePage(productSortedIndex.findIdsByPriceRange(status, minPrice, maxPrice, pageable));
+    }
+
+    /**
+     * 주문용 상품 다건 조회 - 가격/판매 상태를 near cache 가 아닌 primary DB 에서 읽는다
+     * near cache 는 다른 노드의 상품 변경을 TTL 동안 모르므로 조회 화면에만 사용한다
+     */
+    @Transactional
     public List<Product> getProductsByIds(List<Long> productIds) {
         return productRepository.findAllById(productIds);
     }
 
+    private Page<ProductResponseDto> toResponsePage(Page<Long> productIds) {
+        List<ProductResponseDto> products = productCatalogCache.getAll(productIds.getContent()).stream()
+                .map(ProductResponseDto::convertToResponseDto)
+                .collect(Collectors.toList());
+        return new PageImpl<>(products, productIds.getPageable(), productIds.getTotalElements());
+    }
+
     public void checkStockAvailability(Long productId, int quantity) {
         log.debug("[PRODUCT] 재고 확인: productId={}, quantity={}", productId, quantity);
         // TODO: 실제 재고 확인 로직 구현
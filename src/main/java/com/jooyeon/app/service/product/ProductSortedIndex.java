@@ -0,0 +1,432 @@
+package com.jooyeon.app.service.product;
+
+import com.jooyeon.app.domain.dto.product.ProductSortKey;
+import com.jooyeon.app.domain.entity.product.Product;
+import com.jooyeon.app.domain.entity.product.ProductStatus;
+import com.jooyeon.app.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상태별 상품 정렬 색인 (메모리)
+ * 가격 범위 조회와 상품명 순 목록을 요청마다 DB 에서 정렬하지 않고 페이지 단위로 처리한다
+ *
+ * - 상태마다 (가격 최소 단위, ID) 순, (상품명, ID) 순으로 정렬된 primitive 배열을 유지
+ * - 범위의 시작/끝은 이진 탐색으로 찾으므로 전체 건수와 페이지 조회 모두 O(log n + 페이지 크기)
+ * - 상품 변경은 커밋 이후 정렬 위치에 삽입/삭제 (ProductCatalogCacheListener)
+ * - 리스너를 거치지 않은 변경 (직접 SQL, 다른 노드) 은 주기적 재구성으로 반영
+ * - 상품명은 String.compareTo (UTF-16 코드 단위) 순이므로 DB collation 정렬과 다를 수 있다
+ */
+@Component
+@Slf4j
+public class ProductSortedIndex {
+
+    /**
+     * 가격 최소 단위 자릿수 (products.price scale)
+     */
+    static final int PRICE_SCALE = 2;
+
+    private static final Comparator<SortKey> BY_PRICE = Comparator.comparingLong(SortKey::price)
+            .thenComparingLong(SortKey::productId);
+    private static final Comparator<SortKey> BY_NAME = Comparator.comparing(SortKey::name)
+            .thenComparingLong(SortKey::productId);
+
+    private final ProductRepository productRepository;
+    private final boolean buildOnStartup;
+    private final int batchSize;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<ProductStatus, PriceOrder> priceOrders = new EnumMap<>(ProductStatus.class);
+    private Map<ProductStatus, NameOrder> nameOrders = new EnumMap<>(ProductStatus.class);
+    private Map<Long, SortKey> keys = new HashMap<>();
+
+    // 재구성 중 커밋된 변경 (null 값은 삭제) - 재구성 결과로 교체한 뒤 다시 적용한다
+    private Map<Long, SortKey> changesDuringRebuild;
+
+    public ProductSortedIndex(ProductRepository productRepository,
+                              @Value("${app.product-sorted-index.build-on-startup:true}") boolean buildOnStartup,
+                              @Value("${app.product-sorted-index.batch-size:10000}") int batchSize) {
+        this.productRepository = productRepository;
+        this.buildOnStartup = buildOnStartup;
+        this.batchSize = batchSize;
+        for (ProductStatus status : ProductStatus.values()) {
+            priceOrders.put(status, new PriceOrder(16));
+            nameOrders.put(status, new NameOrder(16));
+        }
+    }
+
+    /**
+     * 가격 범위 조회 (양 끝 포함)
+     * @param minPrice 최소 가격 (null 이면 제한 없음)
+     * @param maxPrice 최대 가격 (null 이면 제한 없음)
+     * @param pageable price 내림차순 정렬이 지정되면 비싼 순, 그 외에는 싼 순
+     * @return 상품 ID 페이지
+     */
+    public Page<Long> findIdsByPriceRange(ProductStatus status, BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable) {
+        long min = minPrice == null ? Long.MIN_VALUE : toMinorUnits(minPrice, RoundingMode.CEILING);
+        long max = maxPrice == null ? Long.MAX_VALUE : toMinorUnits(maxPrice, RoundingMode.FLOOR);
+
+        lock.readLock().lock();
+        try {
+            PriceOrder order = priceOrders.get(status);
+            int from = order.lowerBound(min, Long.MIN_VALUE);
+            int to = max == Long.MAX_VALUE ? order.size : order.lowerBound(max + 1, Long.MIN_VALUE);
+            return page(order.ids, from, Math.max(from, to), isDescending(pageable, "price"), pageable);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상품명 순 목록
+     * @param pageable name 내림차순 정렬이 지정되면 역순
+     * @return 상품 ID 페이지
+     */
+    public Page<Long> findIdsOrderByName(ProductStatus status, Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            NameOrder order = nameOrders.get(status);
+            return page(order.ids, 0, order.size, isDescending(pageable, "name"), pageable);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 추가/변경 반영 - 트랜잭션 안에서 호출되면 커밋 이후 반영
+     * 호출 시점의 정렬 키를 복사해 두므로 이후 엔티티 변경의 영향을 받지 않는다
+     */
+    public void upsert(Product product) {
+        Long productId = product.getId();
+        SortKey key = new SortKey(productId, product.getStatus(),
+                toMinorUnits(product.getPrice(), RoundingMode.HALF_UP), product.getName());
+        afterCommit(() -> apply(productId, key));
+    }
+
+    public void remove(Long productId) {
+        afterCommit(() -> apply(productId, null));
+    }
+
+    /**
+     * 시작 시 전체 상품 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (buildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 주기적 재구성 - 리스너를 거치지 않은 상품 변경/삭제를 반영한다
+     */
+    @Scheduled(fixedDelayString = "${app.product-sorted-index.refresh-interval:PT10M}",
+            initialDelayString = "${app.product-sorted-index.refresh-interval:PT10M}")
+    public void refresh() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("[PRODUCT_SORTED_INDEX] 상품 정렬 색인 재구성 중 오류 발생, 기존 색인 유지: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 전체 상품을 ID seek 배치로 읽어 정렬 색인을 새로 만든 뒤 교체
+     * 읽는 동안 커밋된 변경은 교체 직후 다시 적용하므로 유실되지 않는다
+     */
+    public int rebuild() {
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            List<SortKey> loaded = new ArrayList<>();
+            List<ProductSortKey> batch;
+            long afterId = 0;
+            do {
+                batch = productRepository.findSortKeysAfter(afterId, PageRequest.of(0, batchSize));
+                for (ProductSortKey row : batch) {
+                    loaded.add(new SortKey(row.getId(), row.getStatus(),
+                            toMinorUnits(row.getPrice(), RoundingMode.HALF_UP), row.getName()));
+                }
+                if (!batch.isEmpty()) {
+                    afterId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == batchSize);
+
+            Map<ProductStatus, PriceOrder> newPriceOrders = new EnumMap<>(ProductStatus.class);
+            Map<ProductStatus, NameOrder> newNameOrders = new EnumMap<>(ProductStatus.class);
+            Map<Long, SortKey> newKeys = new HashMap<>(loaded.size() * 2);
+            for (ProductStatus status : ProductStatus.values()) {
+                SortKey[] rows = loaded.stream().filter(key -> key.status() == status).toArray(SortKey[]::new);
+                PriceOrder priceOrder = new PriceOrder(Math.max(16, rows.length));
+                NameOrder nameOrder = new NameOrder(Math.max(16, rows.length));
+                Arrays.sort(rows, BY_PRICE);
+                for (SortKey row : rows) {
+                    priceOrder.append(row.price(), row.productId());
+                }
+                Arrays.sort(rows, BY_NAME);
+                for (SortKey row : rows) {
+                    nameOrder.append(row.name(), row.productId());
+                    newKeys.put(row.productId(), row);
+                }
+                newPriceOrders.put(status, priceOrder);
+                newNameOrders.put(status, nameOrder);
+            }
+
+            lock.writeLock().lock();
+            try {
+                priceOrders = newPriceOrders;
+                nameOrders = newNameOrders;
+                keys = newKeys;
+                Map<Long, SortKey> pending = changesDuringRebuild;
+                changesDuringRebuild = null;
+                pending.forEach(this::applyLocked);
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            log.info("[PRODUCT_SORTED_INDEX] 상품 정렬 색인 완료: {}건, {}ms", loaded.size(),
+                    Duration.ofNanos(System.nanoTime() - started).toMillis());
+            return loaded.size();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return keys.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param key 새 정렬 키 (null 이면 삭제)
+     */
+    void apply(Long productId, SortKey key) {
+        lock.writeLock().lock();
+        try {
+            applyLocked(productId, key);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.put(productId, key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyLocked(Long productId, SortKey key) {
+        SortKey previous = key == null ? keys.remove(productId) : keys.put(productId, key);
+        if (previous != null) {
+            priceOrders.get(previous.status()).remove(previous.price(), productId);
+            nameOrders.get(previous.status()).remove(previous.name(), productId);
+        }
+        if (key != null) {
+            priceOrders.get(key.status()).insert(key.price(), productId);
+            nameOrders.get(key.status()).insert(key.name(), productId);
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private static Page<Long> page(long[] ids, int from, int to, boolean descending, Pageable pageable) {
+        int total = to - from;
+        List<Long> content = new ArrayList<>();
+        if (pageable.getOffset() < total) {
+            int offset = (int) pageable.getOffset();
+            int end = (int) Math.min(total, pageable.getOffset() + pageable.getPageSize());
+            for (int i = offset; i < end; i++) {
+                content.add(ids[descending ? to - 1 - i : from + i]);
+            }
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static boolean isDescending(Pageable pageable, String property) {
+        Sort.Order order = pageable.getSort().getOrderFor(property);
+        return order != null && order.isDescending();
+    }
+
+    static long toMinorUnits(BigDecimal price, RoundingMode roundingMode) {
+        return price.setScale(PRICE_SCALE, roundingMode).unscaledValue().longValueExact();
+    }
+
+    record SortKey(long productId, ProductStatus status, long price, String name) {
+    }
+
+    /**
+     * (가격, ID) 오름차순 정렬 배열
+     */
+    private static final class PriceOrder {
+
+        private long[] prices;
+        private long[] ids;
+        private int size;
+
+        PriceOrder(int capacity) {
+            prices = new long[capacity];
+            ids = new long[capacity];
+        }
+
+        /**
+         * (price, id) 이상인 첫 위치
+         */
+        int lowerBound(long price, long id) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (prices[mid] < price || (prices[mid] == price && ids[mid] < id)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        void append(long price, long id) {
+            ensureCapacity();
+            prices[size] = price;
+            ids[size++] = id;
+        }
+
+        void insert(long price, long id) {
+            ensureCapacity();
+            int position = lowerBound(price, id);
+            System.arraycopy(prices, position, prices, position + 1, size - position);
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            prices[position] = price;
+            ids[position] = id;
+            size++;
+        }
+
+        void remove(long price, long id) {
+            int position = lowerBound(price, id);
+            if (position < size && prices[position] == price && ids[position] == id) {
+                System.arraycopy(prices, position + 1, prices, position, size - position - 1);
+                System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+                size--;
+            }
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                prices = Arrays.copyOf(prices, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+        }
+    }
+
+    /**
+     * (상품명, ID) 오름차순 정렬 배열
+     */
+    private static final class NameOrder {
+
+        private String[] names;
+        private long[] ids;
+        private int size;
+
+        NameOrder(int capacity) {
+            names = new String[capacity];
+            ids = new long[capacity];
+        }
+
+        /**
+         * (name, id) 이상인 첫 위치
+         */
+        int lowerBound(String name, long id) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int compared = names[mid].compareTo(name);
+                if (compared < 0 || (compared == 0 && ids[mid] < id)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        void append(String name, long id) {
+            ensureCapacity();
+            names[size] = name;
+            ids[size++] = id;
+        }
+
+        void insert(String name, long id) {
+            ensureCapacity();
+            int position = lowerBound(name, id);
+            System.arraycopy(names, position, names, position + 1, size - position);
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            names[position] = name;
+            ids[position] = id;
+            size++;
+        }
+
+        void remove(String name, long id) {
+            int position = lowerBound(name, id);
+            if (position < size && ids[position] == id && names[position].equals(name)) {
+                System.arraycopy(names, position + 1, names, position, size - position - 1);
+                System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+                names[--size] = null;
+            }
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                names = Arrays.copyOf(names, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+        }
+    }
+}
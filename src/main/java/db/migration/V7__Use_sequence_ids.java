@@ -0,0 +1,49 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * 주요 엔티티 ID 를 pooled sequence 로 전환 (IDENTITY 는 Hibernate JDBC insert batching 을 비활성화)
+ *
+ * - INCREMENT BY 는 엔티티의 @SequenceGenerator allocationSize 와 같아야 한다
+ * - 시작 값은 적용 시점의 테이블 최대 ID 로 정한다 (SQL 마이그레이션은 DB 마다 setval / RESTART WITH 문법이 달라 Java 로 작성)
+ * - pooled optimizer 는 처음 받은 값이 initialValue(1000) 가 아니면 "값 - (allocationSize - 1)" 부터 ID 를 쓰므로
+ *   MAX(id) + allocationSize 로 시작해야 첫 ID 가 MAX(id) + 1 이 된다
+ */
+public class V7__Use_sequence_ids extends BaseJavaMigration {
+
+    static final int ALLOCATION_SIZE = 50;
+    static final long INITIAL_VALUE = 1000L;
+
+    /**
+     * 테이블 -> 시퀀스
+     */
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "members", "members_seq",
+            "products", "products_seq",
+            "orders", "orders_seq",
+            "order_items", "order_items_seq",
+            "payments", "payments_seq");
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            for (Map.Entry<String, String> sequence : SEQUENCES.entrySet()) {
+                long maxId;
+                try (ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + sequence.getKey())) {
+                    resultSet.next();
+                    maxId = resultSet.getLong(1);
+                }
+
+                long startWith = Math.max(INITIAL_VALUE, maxId + ALLOCATION_SIZE);
+                statement.execute("CREATE SEQUENCE " + sequence.getValue()
+                        + " START WITH " + startWith + " INCREMENT BY " + ALLOCATION_SIZE);
+            }
+        }
+    }
+}
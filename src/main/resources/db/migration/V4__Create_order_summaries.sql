@@ -0,0 +1,17 @@
+-- Order Summaries (주문 목록 조회용 read model, 주문 생성/취소와 같은 트랜잭션에서 갱신)
+CREATE TABLE order_summaries (
+    order_id BIGINT PRIMARY KEY,
+    member_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    total_amount DECIMAL(10,2) NOT NULL,
+    payment_id BIGINT NULL,
+    item_count INTEGER NOT NULL,
+    total_quantity INTEGER NOT NULL,
+    item_summary VARCHAR(500) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+
+    CONSTRAINT ck_order_summaries_status CHECK (status IN ('PENDING', 'PAID', 'CANCELLED'))
+);
+
+CREATE INDEX idx_order_summaries_member_created ON order_summaries(member_id, created_at DESC, order_id DESC);
@@ -0,0 +1,14 @@
+-- Outbox Events (주문/결제 상태 변경과 같은 트랜잭션에서 기록, relay 가 id 순서로 발행)
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(30) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload VARCHAR(4000) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP NULL,
+
+    CONSTRAINT ck_outbox_events_aggregate_type CHECK (aggregate_type IN ('ORDER', 'PAYMENT'))
+);
+
+CREATE INDEX idx_outbox_events_unpublished ON outbox_events(published_at, id);
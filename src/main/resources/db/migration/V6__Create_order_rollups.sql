@@ -0,0 +1,18 @@
+-- Order Rollups (시간/일 단위 상품별, 주문 상태별 집계 - 주문 생성/취소 시 증분 갱신)
+CREATE TABLE order_rollups (
+    id BIGSERIAL PRIMARY KEY,
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    product_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    order_count BIGINT NOT NULL,
+    units BIGINT NOT NULL,
+    revenue DECIMAL(19,2) NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uk_order_rollups_bucket UNIQUE (granularity, bucket_start, product_id, status),
+    CONSTRAINT ck_order_rollups_granularity CHECK (granularity IN ('HOUR', 'DAY')),
+    CONSTRAINT ck_order_rollups_status CHECK (status IN ('PENDING', 'PAID', 'CANCELLED'))
+);
+
+CREATE INDEX idx_order_rollups_product_bucket ON order_rollups(granularity, product_id, bucket_start);
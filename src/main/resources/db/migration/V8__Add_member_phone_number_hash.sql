@@ -0,0 +1,6 @@
+-- 전화번호 blind index (HMAC-SHA256 hex) - phone_number 는 랜덤 IV 로 암호화되어 인덱스/유니크 제약이 의미 없다
+-- 기존 회원은 MemberBlindIndexBackfill 이 애플리케이션 시작 후 백그라운드로 채운다 (app.member-blind-index.backfill-on-startup, 기본 켜짐)
+-- 채워지기 전까지 NULL 인 회원은 가입 중복 확인에 걸리지 않는다 (NULL 은 유니크 제약 대상이 아니다)
+ALTER TABLE members ADD COLUMN phone_number_hash VARCHAR(64) NULL;
+CREATE UNIQUE INDEX uk_members_phone_number_hash ON members(phone_number_hash);
+DROP INDEX idx_members_phone_number;
@@ -0,0 +1,7 @@
+-- 커밋 이후 아직 반영되지 않은 주문 집계 증분 수 (주문 트랜잭션이 늘리고, 증분 반영/집계 재구성이 줄이거나 비운다)
+-- 재구성이 이미 센 주문의 증분을 다시 더하지 않도록 주문 행 잠금 아래에서 확인한다
+ALTER TABLE orders ADD COLUMN rollup_pending_deltas INT NOT NULL DEFAULT 0;
+
+-- 집계 재구성(생성일 범위 잠금)과 보정 대상 일자 조회(변경 시각)
+CREATE INDEX idx_orders_created_at ON orders(created_at);
+CREATE INDEX idx_orders_updated_at ON orders(updated_at);
@@ -0,0 +1,30 @@
+package com.jooyeon.app.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * 벤치마크 공통 유틸 - 지연 분위수 계산과 [BENCHMARK] 결과 출력
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * nearest-rank 분위수
+     * @param percentile 0~100
+     */
+    static long percentile(long[] values, int percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    /**
+     * 결과 한 줄 출력 (printf 형식, 줄바꿈 자동 추가)
+     */
+    static void report(String format, Object... args) {
+        System.out.printf("[BENCHMARK] " + format + "%n", args);
+    }
+}
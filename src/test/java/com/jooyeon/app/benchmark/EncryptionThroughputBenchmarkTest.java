@@ -0,0 +1,160 @@
+package com.jooyeon.app.benchmark;
+
+import com.jooyeon.app.common.encryption.EncryptionUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+import static com.jooyeon.app.benchmark.BenchmarkSupport.report;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EncryptionUtil 처리량/할당량 벤치마크 (호출마다 Cipher/SecureRandom 생성 vs 엔진 풀)
+ * 단일 스레드 ops/s 와 op 당 할당 바이트, 멀티 스레드 ops/s 를 비교한다
+ * 할당량은 com.sun.management.ThreadMXBean 의 스레드별 할당 바이트로 측정
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@DisplayName("EncryptionUtil 처리량 벤치마크")
+class EncryptionThroughputBenchmarkTest {
+
+    private static final String KEY = "AbcDefGhijkLmnoPqrsTuvWxYz123456";
+    private static final String PLAIN_TEXT = "010-1234-5678";
+    private static final int WARMUP_OPS = 50_000;
+    private static final int MEASURED_OPS = 200_000;
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+
+    private final SecretKeySpec secretKey = new SecretKeySpec(KEY.getBytes(StandardCharsets.UTF_8), "AES");
+    private EncryptionUtil encryptionUtil;
+    private String ciphertext;
+
+    @BeforeEach
+    void setUp() {
+        encryptionUtil = new EncryptionUtil();
+        ReflectionTestUtils.setField(encryptionUtil, "encryptionKey", KEY);
+        ReflectionTestUtils.setField(encryptionUtil, "blindIndexKey", "BlindIndexKeyForSearchableFields");
+        encryptionUtil.init();
+        ciphertext = encryptionUtil.encrypt(PLAIN_TEXT);
+    }
+
+    @Test
+    @DisplayName("엔진 풀은 호출마다 생성하는 방식보다 op 당 할당이 적다")
+    void compareWithPerCallInstances() throws Exception {
+        assertThat(legacyDecrypt(encryptionUtil.encrypt(PLAIN_TEXT))).isEqualTo(PLAIN_TEXT);
+        assertThat(encryptionUtil.decrypt(legacyEncrypt(PLAIN_TEXT))).isEqualTo(PLAIN_TEXT);
+
+        Result legacyEncrypt = measure(this::legacyEncrypt, PLAIN_TEXT);
+        Result pooledEncrypt = measure(encryptionUtil::encrypt, PLAIN_TEXT);
+        Result legacyDecrypt = measure(this::legacyDecrypt, ciphertext);
+        Result pooledDecrypt = measure(encryptionUtil::decrypt, ciphertext);
+
+        double legacyEncryptParallel = measureParallel(this::legacyEncrypt, PLAIN_TEXT);
+        double pooledEncryptParallel = measureParallel(encryptionUtil::encrypt, PLAIN_TEXT);
+        double legacyDecryptParallel = measureParallel(this::legacyDecrypt, ciphertext);
+        double pooledDecryptParallel = measureParallel(encryptionUtil::decrypt, ciphertext);
+
+        report("encrypt: per-call %.0f ops/s %d B/op / pooled %.0f ops/s %d B/op",
+                legacyEncrypt.opsPerSecond, legacyEncrypt.bytesPerOp, pooledEncrypt.opsPerSecond, pooledEncrypt.bytesPerOp);
+        report("decrypt: per-call %.0f ops/s %d B/op / pooled %.0f ops/s %d B/op",
+                legacyDecrypt.opsPerSecond, legacyDecrypt.bytesPerOp, pooledDecrypt.opsPerSecond, pooledDecrypt.bytesPerOp);
+        report("%d threads: encrypt per-call %.0f / pooled %.0f ops/s, decrypt per-call %.0f / pooled %.0f ops/s",
+                THREADS, legacyEncryptParallel, pooledEncryptParallel, legacyDecryptParallel, pooledDecryptParallel);
+
+        assertThat(pooledEncrypt.bytesPerOp).isLessThan(legacyEncrypt.bytesPerOp);
+        assertThat(pooledDecrypt.bytesPerOp).isLessThan(legacyDecrypt.bytesPerOp);
+    }
+
+    private Result measure(UnaryOperator<String> operation, String input) {
+        for (int i = 0; i < WARMUP_OPS; i++) {
+            operation.apply(input);
+        }
+
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_OPS; i++) {
+            operation.apply(input);
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Result(MEASURED_OPS / (elapsedNanos / 1_000_000_000.0), allocated / MEASURED_OPS);
+    }
+
+    private double measureParallel(UnaryOperator<String> operation, String input) throws Exception {
+        int opsPerThread = MEASURED_OPS / THREADS;
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            long started = System.nanoTime();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < opsPerThread; i++) {
+                        operation.apply(input);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+            return opsPerThread * THREADS / ((System.nanoTime() - started) / 1_000_000_000.0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 변경 전 구현 - 호출마다 SecureRandom/Cipher 생성, IV/암호문 배열 복사
+     */
+    private String legacyEncrypt(String plainText) {
+        try {
+            byte[] iv = new byte[12];
+            new SecureRandom().nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(128, iv));
+            byte[] encryptedData = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+            byte[] encryptedWithIv = new byte[iv.length + encryptedData.length];
+            System.arraycopy(iv, 0, encryptedWithIv, 0, iv.length);
+            System.arraycopy(encryptedData, 0, encryptedWithIv, iv.length, encryptedData.length);
+            return Base64.getEncoder().encodeToString(encryptedWithIv);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String legacyDecrypt(String encryptedText) {
+        try {
+            byte[] decodedData = Base64.getDecoder().decode(encryptedText);
+            byte[] iv = new byte[12];
+            System.arraycopy(decodedData, 0, iv, 0, iv.length);
+            byte[] encryptedData = new byte[decodedData.length - 12];
+            System.arraycopy(decodedData, 12, encryptedData, 0, encryptedData.length);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(128, iv));
+            return new String(cipher.doFinal(encryptedData), StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Result(double opsPerSecond, long bytesPerOp) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.jooyeon.app.benchmark;
+
+import com.jooyeon.app.common.encryption.EncryptionUtil;
+import com.jooyeon.app.domain.entity.member.Gender;
+import com.jooyeon.app.domain.entity.member.Member;
+import com.jooyeon.app.domain.entity.member.MemberStatus;
+import com.jooyeon.app.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.jooyeon.app.benchmark.BenchmarkSupport.report;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 일괄 조회 복호화 벤치마크 (getter 에서 한 건씩 복호화 vs findAllDecryptedById 병렬 복호화)
+ * 회원 목록/내보내기처럼 조회한 모든 회원의 개인정보를 읽는 경우의 전체 소요 시간을 비교한다
+ * 매 라운드마다 영속성 컨텍스트를 비워 DB 에서 새로 읽은 (복호화되지 않은) 엔티티로 측정한다
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(EncryptionUtil.class)
+@DisplayName("회원 일괄 복호화 벤치마크")
+class MemberBulkDecryptBenchmarkTest {
+
+    private static final int MEMBER_COUNT = 10_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+
+    @Autowired
+    private EncryptionUtil encryptionUtil;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final List<Long> memberIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 다른 테스트가 정적 인스턴스를 spy 로 바꿔 두었을 수 있으므로 이 컨텍스트의 빈으로 되돌린다
+        ReflectionTestUtils.setField(EncryptionUtil.class, "INSTANCE", encryptionUtil);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            Member member = new Member();
+            member.setUserId("bulkDecrypt" + i);
+            member.setName("일괄 복호화 " + i);
+            member.setPhoneNumber(String.format("010-6%03d-%04d", i / 10_000, i % 10_000));
+            member.setGender(i % 2 == 0 ? Gender.MALE : Gender.FEMALE);
+            member.setBirthDate("1990-01-01");
+            member.setMemberStatus(MemberStatus.ACTIVE);
+            member.setCreatedAt(now);
+            member.setUpdatedAt(now);
+            memberIds.add(entityManager.persist(member).getId());
+            if (i % 1_000 == 999) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("일괄 조회 - 병렬 복호화는 한 건씩 복호화하는 것보다 빠르다")
+    void readAllMembers_SerialVsParallel() {
+        Function<List<Long>, List<Member>> serial = memberRepository::findAllById;
+        Function<List<Long>, List<Member>> parallel = memberRepository::findAllDecryptedById;
+
+        measure(WARMUP_ROUNDS, serial);
+        measure(WARMUP_ROUNDS, parallel);
+        long serialMillis = measure(MEASURED_ROUNDS, serial);
+        long parallelMillis = measure(MEASURED_ROUNDS, parallel);
+
+        report("%d members x 4 fields, %d cores: serial %d ms / parallel %d ms (x%.2f)",
+                MEMBER_COUNT, CORES, serialMillis, parallelMillis, (double) serialMillis / Math.max(1, parallelMillis));
+
+        if (CORES >= 2) {
+            assertThat(parallelMillis).isLessThan(serialMillis);
+        }
+    }
+
+    /**
+     * @return 라운드 평균 소요 시간(ms) - 조회 + 모든 회원의 개인정보 읽기
+     */
+    private long measure(int rounds, Function<List<Long>, List<Member>> loader) {
+        long total = 0;
+        for (int round = 0; round < rounds; round++) {
+            entityManager.clear();
+            long started = System.nanoTime();
+            int length = 0;
+            for (Member member : loader.apply(memberIds)) {
+                length += member.getName().length() + member.getPhoneNumber().length()
+                        + member.getGender().name().length() + member.getBirthDate().length();
+            }
+            total += System.nanoTime() - started;
+            assertThat(length).isPositive();
+        }
+        return TimeUnit.NANOSECONDS.toMillis(total / rounds);
+    }
+}
@@ -0,0 +1,161 @@
+package com.jooyeon.app.benchmark;
+
+import com.jooyeon.app.common.encryption.EncryptionUtil;
+import com.jooyeon.app.domain.dto.member.MemberStatusView;
+import com.jooyeon.app.domain.entity.member.Gender;
+import com.jooyeon.app.domain.entity.member.Member;
+import com.jooyeon.app.domain.entity.member.MemberStatus;
+import com.jooyeon.app.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import static com.jooyeon.app.benchmark.BenchmarkSupport.percentile;
+import static com.jooyeon.app.benchmark.BenchmarkSupport.report;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 상태 조회 - 엔티티 vs 상태 projection 벤치마크 (탈퇴 요청은 엔티티 변경 경로만 측정)
+ * 요청 하나가 상태만 필요로 할 때 일어나는 복호화/암호화 횟수와 지연 시간을 비교한다
+ * (개인정보 컬럼이 지연 복호화되므로 엔티티 경로의 차이는 컬럼 수/엔티티 생성 비용이다)
+ * 매 요청마다 영속성 컨텍스트를 비워 요청 단위 조회를 흉내 낸다 (슬라이스 테스트라 2차 캐시 없음)
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(EncryptionUtil.class)
+@DisplayName("회원 상태 projection 벤치마크")
+class MemberStatusProjectionBenchmarkTest {
+
+    private static final int MEMBER_COUNT = 1_000;
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 10_000;
+
+    @SpyBean
+    private EncryptionUtil encryptionUtil;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final List<Long> memberIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // EncryptedString 은 정적 인스턴스를 쓰므로 spy 로 교체해 호출 횟수를 센다
+        ReflectionTestUtils.setField(EncryptionUtil.class, "INSTANCE", encryptionUtil);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            Member member = new Member();
+            member.setUserId("projection" + i);
+            member.setName("상태 조회 " + i);
+            member.setPhoneNumber(String.format("010-7%03d-%04d", i / 10_000, i % 10_000));
+            member.setGender(i % 2 == 0 ? Gender.MALE : Gender.FEMALE);
+            member.setBirthDate("1990-01-01");
+            member.setMemberStatus(MemberStatus.ACTIVE);
+            member.setCreatedAt(now);
+            member.setUpdatedAt(now);
+            memberIds.add(entityManager.persist(member).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("상태 확인 - projection 은 요청당 복호화가 없다")
+    void isMemberActive_EntityVsProjection() {
+        measure(WARMUP_ROUNDS, id -> memberRepository.findById(id).map(Member::getMemberStatus));
+        measure(WARMUP_ROUNDS, id -> memberRepository.findStatusById(id).map(MemberStatusView::isActive));
+
+        Mockito.clearInvocations(encryptionUtil);
+        long[] entityMicros = measure(MEASURED_ROUNDS, id -> memberRepository.findById(id).map(Member::getMemberStatus));
+        double entityDecrypts = calls("decrypt") / (double) MEASURED_ROUNDS;
+
+        Mockito.clearInvocations(encryptionUtil);
+        long[] projectionMicros = measure(MEASURED_ROUNDS, id -> memberRepository.findStatusById(id).map(MemberStatusView::isActive));
+        double projectionDecrypts = calls("decrypt") / (double) MEASURED_ROUNDS;
+
+        report("status check x%d: entity decrypt/req=%.1f p50=%dus p99=%dus / projection decrypt/req=%.1f p50=%dus p99=%dus",
+                MEASURED_ROUNDS, entityDecrypts, percentile(entityMicros, 50), percentile(entityMicros, 99),
+                projectionDecrypts, percentile(projectionMicros, 50), percentile(projectionMicros, 99));
+
+        // 개인정보는 EncryptedString 으로 지연 복호화되므로 엔티티 조회도 접근하지 않으면 복호화가 없다
+        assertThat(entityDecrypts).isZero();
+        assertThat(projectionDecrypts).isZero();
+    }
+
+    @Test
+    @DisplayName("탈퇴 요청 - 엔티티 변경도 복호화/재암호화가 없다")
+    void requestWithdrawal_EntityUpdate() {
+        int rounds = MEMBER_COUNT;
+
+        Mockito.clearInvocations(encryptionUtil);
+        long[] entityMicros = measure(memberIds, id -> {
+            Member member = memberRepository.findById(id).orElseThrow();
+            member.setMemberStatus(MemberStatus.PENDING_WITHDRAWAL);
+            member.setWithdrawnAt(LocalDateTime.now());
+            memberRepository.saveAndFlush(member);
+        });
+        double entityDecrypts = calls("decrypt") / (double) rounds;
+        double entityEncrypts = calls("encrypt") / (double) rounds;
+
+        report("withdrawal x%d: entity decrypt/req=%.1f encrypt/req=%.1f p50=%dus p99=%dus",
+                rounds, entityDecrypts, entityEncrypts, percentile(entityMicros, 50), percentile(entityMicros, 99));
+
+        // 바꾸지 않은 개인정보 속성은 읽은 암호문을 그대로 다시 쓴다
+        assertThat(entityDecrypts).isZero();
+        assertThat(entityEncrypts).isZero();
+
+        MemberStatusView updated = memberRepository.findStatusById(memberIds.get(MEMBER_COUNT - 1)).orElseThrow();
+        assertThat(updated.getMemberStatus()).isEqualTo(MemberStatus.PENDING_WITHDRAWAL);
+        assertThat(updated.getVersion()).isEqualTo(1L);
+    }
+
+    private long[] measure(int rounds, LongConsumer request) {
+        long[] elapsedMicros = new long[rounds];
+        for (int i = 0; i < rounds; i++) {
+            long id = memberIds.get(i % MEMBER_COUNT);
+            entityManager.clear();
+            long started = System.nanoTime();
+            request.accept(id);
+            elapsedMicros[i] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started);
+        }
+        return elapsedMicros;
+    }
+
+    private long[] measure(List<Long> ids, LongConsumer request) {
+        long[] elapsedMicros = new long[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            entityManager.clear();
+            long started = System.nanoTime();
+            request.accept(ids.get(i));
+            elapsedMicros[i] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started);
+        }
+        return elapsedMicros;
+    }
+
+    private long calls(String method) {
+        return Mockito.mockingDetails(encryptionUtil).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals(method))
+                .count();
+    }
+}
@@ -0,0 +1,151 @@
+package com.jooyeon.app.benchmark;
+
+import com.jooyeon.app.common.encryption.EncryptionUtil;
+import com.jooyeon.app.domain.entity.member.Gender;
+import com.jooyeon.app.domain.entity.member.Member;
+import com.jooyeon.app.domain.entity.member.MemberStatus;
+import com.jooyeon.app.domain.entity.order.Order;
+import com.jooyeon.app.domain.entity.order.OrderItem;
+import com.jooyeon.app.domain.entity.order.OrderStatus;
+import com.jooyeon.app.domain.entity.product.Product;
+import com.jooyeon.app.domain.entity.product.ProductStatus;
+import com.jooyeon.app.repository.OrderRepository;
+import com.jooyeon.app.support.SqlStatementCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.jooyeon.app.benchmark.BenchmarkSupport.report;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 다중 항목 주문 INSERT 처리량 벤치마크
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = SqlStatementCounter.PROPERTY)
+@ActiveProfiles("test")
+@Import(EncryptionUtil.class)
+@DisplayName("주문 INSERT 처리량 벤치마크")
+class OrderInsertBenchmarkTest {
+
+    private static final int ITEMS_PER_ORDER = 10;
+    private static final int ORDERS_PER_FLUSH = 50;
+    private static final int WARMUP_ORDERS = 500;
+    private static final int MEASURED_ORDERS = 5000;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Test
+    @DisplayName("10개 항목 주문 INSERT - pooled sequence + JDBC batching")
+    void insertMultiItemOrders() {
+        LocalDateTime now = LocalDateTime.now();
+        Member member = createMember(now);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            products.add(createProduct("Benchmark Product " + i, now));
+        }
+        entityManager.flush();
+
+        insertOrders(member, products, "warmup-", WARMUP_ORDERS, now);
+        SqlStatementCounter.clear();
+
+        long started = System.nanoTime();
+        insertOrders(member, products, "measured-", MEASURED_ORDERS, now);
+        long elapsedNanos = System.nanoTime() - started;
+
+        long insertStatements = SqlStatementCounter.count("insert");
+        long rows = (long) MEASURED_ORDERS * (ITEMS_PER_ORDER + 1);
+        double seconds = elapsedNanos / 1_000_000_000.0;
+
+        report("orders=%d, items/order=%d, elapsed=%.3fs, orders/s=%.0f, rows/s=%.0f, insert statements=%d (rows/statement=%.1f)",
+                MEASURED_ORDERS, ITEMS_PER_ORDER, seconds, MEASURED_ORDERS / seconds, rows / seconds,
+                insertStatements, (double) rows / Math.max(insertStatements, 1));
+
+        assertThat(orderRepository.count()).isEqualTo(WARMUP_ORDERS + MEASURED_ORDERS);
+        // IDENTITY 에서는 행마다 INSERT 가 필요하지만 batching 에서는 배치마다 한 번만 준비된다
+        assertThat(insertStatements).isLessThan(rows / ITEMS_PER_ORDER);
+    }
+
+    private void insertOrders(Member member, List<Product> products, String keyPrefix, int count, LocalDateTime now) {
+        for (int i = 0; i < count; i++) {
+            Order order = new Order();
+            order.setMember(member);
+            order.setStatus(OrderStatus.PAID);
+            order.setIdempotencyKey(keyPrefix + i);
+            order.setCreatedAt(now);
+            order.setUpdatedAt(now);
+
+            BigDecimal totalAmount = BigDecimal.ZERO;
+            List<OrderItem> items = new ArrayList<>(products.size());
+            for (Product product : products) {
+                OrderItem item = new OrderItem();
+                item.setOrder(order);
+                item.setProduct(product);
+                item.setQuantity(1);
+                item.setUnitPrice(product.getPrice());
+                item.setTotalPrice(product.getPrice());
+                items.add(item);
+                totalAmount = totalAmount.add(product.getPrice());
+            }
+            order.setItems(items);
+            order.setTotalAmount(totalAmount);
+            entityManager.persist(order);
+
+            if ((i + 1) % ORDERS_PER_FLUSH == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                member = entityManager.getEntityManager().getReference(Member.class, member.getId());
+                products = reattach(products);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private List<Product> reattach(List<Product> products) {
+        List<Product> references = new ArrayList<>(products.size());
+        for (Product product : products) {
+            Product reference = entityManager.getEntityManager().getReference(Product.class, product.getId());
+            references.add(reference);
+        }
+        return references;
+    }
+
+    private Member createMember(LocalDateTime now) {
+        Member member = new Member();
+        member.setUserId("benchmarkUser");
+        member.setName("벤치마크");
+        member.setPhoneNumber("010-5555-0000");
+        member.setGender(Gender.MALE);
+        member.setBirthDate("1990-01-01");
+        member.setMemberStatus(MemberStatus.ACTIVE);
+        member.setCreatedAt(now);
+        member.setUpdatedAt(now);
+        return entityManager.persist(member);
+    }
+
+    private Product createProduct(String name, LocalDateTime now) {
+        Product product = new Product();
+        product.setName(name);
+        product.setPrice(new BigDecimal("10.00"));
+        product.setStatus(ProductStatus.AVAILABLE);
+        product.setCreatedAt(now);
+        product.setUpdatedAt(now);
+        return entityManager.persist(product);
+    }
+}
@@ -0,0 +1,96 @@
+package com.jooyeon.app.benchmark;
+
+import com.jooyeon.app.service.order.OrderLookupExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.jooyeon.app.benchmark.BenchmarkSupport.percentile;
+import static com.jooyeon.app.benchmark.BenchmarkSupport.report;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 생성 조회 단계 지연 시간 벤치마크 (순차 vs 동시 실행)
+ * 멱등성 확인, 회원 조회, 상품 조회를 고정 지연으로 흉내 내어 조회 단계만 비교한다
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@DisplayName("주문 조회 fan-out 지연 시간 벤치마크")
+class OrderLookupLatencyBenchmarkTest {
+
+    private static final long IDEMPOTENCY_LOOKUP_MILLIS = 8;
+    private static final long MEMBER_LOOKUP_MILLIS = 12;
+    private static final long PRODUCTS_LOOKUP_MILLIS = 20;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 200;
+
+    private final OrderLookupExecutor lookupExecutor = new OrderLookupExecutor(
+            16, Duration.ofSeconds(3), 32, Duration.ofSeconds(30), false);
+
+    @AfterEach
+    void tearDown() {
+        lookupExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시 조회 지연은 조회 지연의 합이 아닌 최댓값에 가깝다")
+    void compareSequentialAndFanOut() {
+        run(this::sequential, WARMUP_ROUNDS);
+        run(this::fanOut, WARMUP_ROUNDS);
+
+        long[] sequentialMicros = run(this::sequential, MEASURED_ROUNDS);
+        long[] fanOutMicros = run(this::fanOut, MEASURED_ROUNDS);
+
+        report("order lookups x%d: sequential p50=%.1fms p99=%.1fms / fan-out p50=%.1fms p99=%.1fms",
+                MEASURED_ROUNDS,
+                percentile(sequentialMicros, 50) / 1000.0, percentile(sequentialMicros, 99) / 1000.0,
+                percentile(fanOutMicros, 50) / 1000.0, percentile(fanOutMicros, 99) / 1000.0);
+
+        long sum = IDEMPOTENCY_LOOKUP_MILLIS + MEMBER_LOOKUP_MILLIS + PRODUCTS_LOOKUP_MILLIS;
+        assertThat(percentile(sequentialMicros, 50)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toMicros(sum));
+        assertThat(percentile(fanOutMicros, 50)).isLessThan(TimeUnit.MILLISECONDS.toMicros(sum));
+    }
+
+    private void sequential() {
+        lookup(IDEMPOTENCY_LOOKUP_MILLIS).get();
+        lookup(MEMBER_LOOKUP_MILLIS).get();
+        lookup(PRODUCTS_LOOKUP_MILLIS).get();
+    }
+
+    /**
+     * createOrder 와 같은 순서 - 회원/상품은 동시에, 멱등성 확인은 그 뒤 호출 스레드에서
+     */
+    private void fanOut() {
+        CompletableFuture<Long> member = lookupExecutor.submit(lookup(MEMBER_LOOKUP_MILLIS));
+        CompletableFuture<Long> products = lookupExecutor.submit(lookup(PRODUCTS_LOOKUP_MILLIS));
+        lookupExecutor.awaitAll(member, products);
+        lookup(IDEMPOTENCY_LOOKUP_MILLIS).get();
+    }
+
+    private long[] run(Runnable round, int rounds) {
+        long[] elapsedMicros = new long[rounds];
+        for (int i = 0; i < rounds; i++) {
+            long started = System.nanoTime();
+            round.run();
+            elapsedMicros[i] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started);
+        }
+        return elapsedMicros;
+    }
+
+    private static Supplier<Long> lookup(long millis) {
+        return () -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return millis;
+        };
+    }
+}
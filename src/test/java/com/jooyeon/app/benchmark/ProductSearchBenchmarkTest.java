@@ -0,0 +1,93 @@
+package com.jooyeon.app.benchmark;
+
+import com.jooyeon.app.domain.entity.product.Product;
+import com.jooyeon.app.domain.entity.product.ProductStatus;
+import com.jooyeon.app.repository.ProductRepository;
+import com.jooyeon.app.service.product.ProductSearchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.jooyeon.app.benchmark.BenchmarkSupport.percentile;
+import static com.jooyeon.app.benchmark.BenchmarkSupport.report;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 상품 검색 색인 지연 시간 벤치마크 (상품 100만 건)
+ * 브랜드 x 분류 x 모델 번호 조합의 합성 상품명으로 색인을 만든 뒤 선택도가 높은 검색어의 지연 시간을 측정한다
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@DisplayName("상품 검색 색인 벤치마크")
+class ProductSearchBenchmarkTest {
+
+    private static final int PRODUCT_COUNT = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 10_000;
+
+    private static final String[] BRANDS = {"삼성", "엘지", "로지텍", "애플", "소니", "레노버", "에이수스", "필립스", "샤오미", "다이슨"};
+    private static final String[] CATEGORIES = {"무선 마우스", "기계식 키보드", "모니터", "노트북", "이어폰", "헤드셋", "스피커",
+            "태블릿", "충전기", "공기청정기", "청소기", "드라이기", "웹캠", "외장 SSD", "USB 허브", "마우스 패드",
+            "모니터 암", "노트북 거치대", "블루투스 리시버", "게이밍 의자"};
+    private static final String[] KEYWORDS = {"로지텍무선마우스", "소니 헤드셋", "애플태블릿", "샤오미 충전기", "다이슨 청소기",
+            "모델 4821", "엘지외장ssd", "기계식 키보드 9", "필립스드라이기", "에이수스 모니터 암"};
+
+    @Test
+    @DisplayName("100만 상품 색인에서 선택도 높은 검색어의 p99 지연은 1ms 미만")
+    void searchLatency() {
+        ProductRepository productRepository = mock(ProductRepository.class);
+        when(productRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(0);
+            int from = (int) pageable.getOffset();
+            int to = Math.min(from + pageable.getPageSize(), PRODUCT_COUNT);
+            List<Product> products = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                products.add(product(i + 1L));
+            }
+            return new PageImpl<>(products, pageable, PRODUCT_COUNT);
+        });
+
+        ProductSearchIndex index = new ProductSearchIndex(productRepository, false, BATCH_SIZE);
+        long buildStarted = System.nanoTime();
+        assertThat(index.rebuild()).isEqualTo(PRODUCT_COUNT);
+        long buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - buildStarted);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            index.search(KEYWORDS[i % KEYWORDS.length], ProductStatus.AVAILABLE, 20);
+        }
+
+        long[] elapsedMicros = new long[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long started = System.nanoTime();
+            List<Long> result = index.search(KEYWORDS[i % KEYWORDS.length], ProductStatus.AVAILABLE, 20);
+            elapsedMicros[i] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started);
+            assertThat(result).isNotEmpty();
+        }
+
+        report("product search x%d over %d products (build %dms): p50=%dus p99=%dus",
+                MEASURED_ROUNDS, PRODUCT_COUNT, buildMillis, percentile(elapsedMicros, 50), percentile(elapsedMicros, 99));
+
+        assertThat(percentile(elapsedMicros, 99)).isLessThan(1_000);
+    }
+
+    private static Product product(long id) {
+        Product product = new Product();
+        product.setId(id);
+        String brand = BRANDS[(int) (id % BRANDS.length)];
+        String category = CATEGORIES[(int) ((id / BRANDS.length) % CATEGORIES.length)];
+        product.setName(brand + " " + category + " " + (id % 10_000));
+        product.setDescription(brand + " 정품 " + category + ", 모델 " + (id % 10_000));
+        product.setStatus(id % 10 == 0 ? ProductStatus.UNAVAILABLE : ProductStatus.AVAILABLE);
+        return product;
+    }
+}
@@ -0,0 +1,131 @@
+package com.jooyeon.app.benchmark;
+
+import com.jooyeon.app.common.encryption.EncryptionUtil;
+import com.jooyeon.app.domain.entity.product.ProductStatus;
+import com.jooyeon.app.repository.ProductRepository;
+import com.jooyeon.app.service.product.ProductSortedIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.jooyeon.app.benchmark.BenchmarkSupport.percentile;
+import static com.jooyeon.app.benchmark.BenchmarkSupport.report;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 정렬 색인 vs repository 쿼리 벤치마크 (상품 100만 건)
+ * 가격 범위 조회와 상품명 순 목록의 첫 페이지를 얻기까지의 지연 시간을 비교한다
+ * repository 쿼리는 페이징 없이 전체 결과를 엔티티로 읽으므로 반복 횟수를 줄여 측정한다
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(EncryptionUtil.class)
+@DisplayName("상품 정렬 색인 벤치마크")
+class ProductSortedIndexBenchmarkTest {
+
+    private static final int PRODUCT_COUNT = 1_000_000;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int REPOSITORY_ROUNDS = 5;
+    private static final int INDEX_ROUNDS = 10_000;
+
+    private static final BigDecimal MIN_PRICE = new BigDecimal("1000.00");
+    private static final BigDecimal MAX_PRICE = new BigDecimal("1100.00");
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("가격 범위/상품명 순 첫 페이지 - 정렬 색인이 repository 쿼리보다 빠르다")
+    void compareWithRepositoryQueries() {
+        insertProducts();
+        ProductSortedIndex index = new ProductSortedIndex(productRepository, false, INSERT_BATCH_SIZE);
+        long buildStarted = System.nanoTime();
+        assertThat(index.rebuild()).isEqualTo(PRODUCT_COUNT);
+        long buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - buildStarted);
+
+        Pageable byPrice = PageRequest.of(0, PAGE_SIZE, Sort.by("price"));
+        Pageable byName = PageRequest.of(0, PAGE_SIZE, Sort.by("name"));
+
+        long[] repositoryRange = measure(REPOSITORY_ROUNDS, () ->
+                productRepository.findByStatusAndPriceBetween(ProductStatus.AVAILABLE, MIN_PRICE, MAX_PRICE).size());
+        long[] repositoryByName = measure(REPOSITORY_ROUNDS, () ->
+                productRepository.findByStatusOrderByName(ProductStatus.AVAILABLE).size());
+
+        measure(INDEX_ROUNDS, () -> index.findIdsByPriceRange(ProductStatus.AVAILABLE, MIN_PRICE, MAX_PRICE, byPrice).getNumberOfElements());
+        long[] indexRange = measure(INDEX_ROUNDS, () ->
+                index.findIdsByPriceRange(ProductStatus.AVAILABLE, MIN_PRICE, MAX_PRICE, byPrice).getNumberOfElements());
+        long[] indexByName = measure(INDEX_ROUNDS, () ->
+                index.findIdsOrderByName(ProductStatus.AVAILABLE, byName).getNumberOfElements());
+
+        report("products=%d, index build=%dms", PRODUCT_COUNT, buildMillis);
+        report("price range: repository p50=%dus / index p50=%dus p99=%dus",
+                percentile(repositoryRange, 50), percentile(indexRange, 50), percentile(indexRange, 99));
+        report("order by name: repository p50=%dus / index p50=%dus p99=%dus",
+                percentile(repositoryByName, 50), percentile(indexByName, 50), percentile(indexByName, 99));
+
+        assertThat(index.findIdsByPriceRange(ProductStatus.AVAILABLE, MIN_PRICE, MAX_PRICE, byPrice).getTotalElements())
+                .isEqualTo(productRepository.findByStatusAndPriceBetween(ProductStatus.AVAILABLE, MIN_PRICE, MAX_PRICE).size());
+        assertThat(percentile(indexRange, 50)).isLessThan(percentile(repositoryRange, 50));
+        assertThat(percentile(indexByName, 50)).isLessThan(percentile(repositoryByName, 50));
+    }
+
+    private void insertProducts() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (long id = 1; id <= PRODUCT_COUNT; id++) {
+            // 0.00 ~ 99,999.99 사이에 고르게 분포하는 가격
+            BigDecimal price = BigDecimal.valueOf((id * 7_919) % 10_000_000, 2);
+            String status = id % 10 == 0 ? ProductStatus.UNAVAILABLE.name() : ProductStatus.AVAILABLE.name();
+            batch.add(new Object[]{id, "Product " + Long.toString(id * 31, 36), price, status, now, now});
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                insert(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(batch);
+        }
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO products (id, name, price, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", batch);
+    }
+
+    private long[] measure(int rounds, Supplier<Integer> query) {
+        long[] elapsedMicros = new long[rounds];
+        for (int i = 0; i < rounds; i++) {
+            long started = System.nanoTime();
+            query.get();
+            elapsedMicros[i] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started);
+            entityManager.clear();
+        }
+        return elapsedMicros;
+    }
+}
@@ -0,0 +1,154 @@
+package com.jooyeon.app.benchmark;
+
+import com.jooyeon.app.common.security.JwtUtil;
+import com.jooyeon.app.domain.entity.member.Gender;
+import com.jooyeon.app.domain.entity.member.Member;
+import com.jooyeon.app.domain.entity.member.MemberStatus;
+import com.jooyeon.app.domain.entity.product.Product;
+import com.jooyeon.app.domain.entity.product.ProductStatus;
+import com.jooyeon.app.repository.MemberRepository;
+import com.jooyeon.app.repository.ProductRepository;
+import com.jooyeon.app.service.payment.PaymentGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jooyeon.app.benchmark.BenchmarkSupport.report;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 가상 스레드 모드 주문 생성 부하 테스트
+ * 결제 게이트웨이 지연 동안 동시에 진행 중인 주문 수가 Tomcat 플랫폼 스레드 수를 넘어서는지 확인한다
+ * Java 21 툴체인에서만 실행: ./gradlew benchmark -PjavaVersion=21
+ */
+@Tag("benchmark")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "server.tomcat.threads.max=" + VirtualThreadOrderLoadTest.PLATFORM_THREADS,
+        "spring.datasource.hikari.maximum-pool-size=" + (VirtualThreadOrderLoadTest.CONCURRENT_ORDERS * 2)
+})
+@ActiveProfiles("test")
+@DisplayName("가상 스레드 주문 생성 부하 테스트")
+class VirtualThreadOrderLoadTest {
+
+    static final int PLATFORM_THREADS = 8;
+    static final int CONCURRENT_ORDERS = 100;
+    private static final long GATEWAY_LATENCY_MILLIS = 500;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private PaymentGateway paymentGateway;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    @Test
+    @DisplayName("동시 진행 주문 수가 플랫폼 스레드 풀 크기를 넘어선다")
+    void concurrentOrdersScaleBeyondPlatformThreads() {
+        given(paymentGateway.approve(any())).willAnswer(invocation -> {
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(GATEWAY_LATENCY_MILLIS);
+                return true;
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+
+        Member member = createMember();
+        Product product = createProduct();
+        String accessToken = jwtUtil.generateAccessToken(member.getUserId(), member.getId());
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        long started = System.nanoTime();
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_ORDERS; i++) {
+            responses.add(client.sendAsync(orderRequest(accessToken, product.getId()), HttpResponse.BodyHandlers.ofString()));
+        }
+        long succeeded = responses.stream()
+                .map(CompletableFuture::join)
+                .filter(response -> response.statusCode() == 200)
+                .count();
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        report("orders=%d, succeeded=%d, elapsed=%.2fs, peak in-flight=%d (tomcat platform threads=%d, gateway latency=%dms)",
+                CONCURRENT_ORDERS, succeeded, elapsedSeconds, peakInFlight.get(), PLATFORM_THREADS, GATEWAY_LATENCY_MILLIS);
+
+        assertThat(succeeded).isEqualTo(CONCURRENT_ORDERS);
+        assertThat(peakInFlight.get()).isGreaterThan(PLATFORM_THREADS);
+    }
+
+    private HttpRequest orderRequest(String accessToken, Long productId) {
+        String body = String.format("{\"idempotencyKey\":\"%s\",\"items\":[{\"productId\":%d,\"quantity\":1}]}",
+                UUID.randomUUID(), productId);
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/orders"))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + accessToken)
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private Member createMember() {
+        LocalDateTime now = LocalDateTime.now();
+        Member member = new Member();
+        member.setUserId("loadTestUser");
+        member.setName("부하 테스트");
+        member.setPhoneNumber("010-7777-0000");
+        member.setGender(Gender.FEMALE);
+        member.setBirthDate("1990-01-01");
+        member.setMemberStatus(MemberStatus.ACTIVE);
+        member.setCreatedAt(now);
+        member.setUpdatedAt(now);
+        return memberRepository.save(member);
+    }
+
+    private Product createProduct() {
+        LocalDateTime now = LocalDateTime.now();
+        Product product = new Product();
+        product.setName("Load Test Product");
+        product.setPrice(new BigDecimal("10.00"));
+        product.setStatus(ProductStatus.AVAILABLE);
+        product.setCreatedAt(now);
+        product.setUpdatedAt(now);
+        return productRepository.save(product);
+    }
+}
@@ -0,0 +1,175 @@
+package com.jooyeon.app.common.config;
+
+import com.jooyeon.app.common.lock.LockAspect;
+import com.jooyeon.app.common.lock.RedisLockService;
+import com.jooyeon.app.domain.dto.order.OrderCreateRequestDto;
+import com.jooyeon.app.domain.dto.order.OrderResponseDto;
+import com.jooyeon.app.domain.entity.member.Gender;
+import com.jooyeon.app.domain.entity.member.Member;
+import com.jooyeon.app.domain.entity.member.MemberStatus;
+import com.jooyeon.app.domain.entity.order.OrderStatus;
+import com.jooyeon.app.domain.entity.product.Product;
+import com.jooyeon.app.domain.entity.product.ProductStatus;
+import com.jooyeon.app.repository.MemberRepository;
+import com.jooyeon.app.repository.ProductRepository;
+import com.jooyeon.app.service.order.OrderService;
+import com.jooyeon.app.service.payment.PaymentGateway;
+import com.jooyeon.app.service.payment.PaymentService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJPrecedenceInformation;
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = "app.outbox.relay.fixed-delay=3600000")
+@ActiveProfiles("test")
+@DisplayName("커넥션 지연 획득 / 락-트랜잭션 순서 테스트")
+class ConnectionAcquisitionTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @SpyBean
+    private RedisLockService redisLockService;
+
+    @MockBean
+    private PaymentGateway paymentGateway;
+
+    private HikariPoolMXBean pool;
+
+    @BeforeEach
+    void setUp() throws SQLException, InterruptedException {
+        pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        // 시작 시 한 번 실행되는 outbox relay 등 다른 작업이 커넥션을 반납할 때까지 대기
+        for (int i = 0; i < 50 && pool.getActiveConnections() > 0; i++) {
+            Thread.sleep(100);
+        }
+    }
+
+    @Test
+    @DisplayName("DataSource 는 지연 커넥션 프록시로 감싸진다")
+    void dataSource_IsLazyProxy() {
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+    }
+
+    @Test
+    @DisplayName("SQL 없이 끝나는 읽기 전용 트랜잭션은 커넥션을 빌리지 않는다")
+    void readOnlyTransactionWithoutStatements_DoesNotBorrowConnection() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Integer activeInside = readOnly.execute(status -> pool.getActiveConnections());
+
+        assertThat(activeInside).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션도 첫 SQL 실행 시점에 커넥션을 빌린다")
+    void transaction_BorrowsConnectionOnFirstStatement() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        List<Integer> active = transaction.execute(status -> {
+            int beforeStatement = pool.getActiveConnections();
+            memberRepository.count();
+            return List.of(beforeStatement, pool.getActiveConnections());
+        });
+
+        assertThat(active).containsExactly(0, 1);
+    }
+
+    @Test
+    @DisplayName("@Lock 어드바이스는 @Transactional 어드바이스보다 바깥에서 실행된다")
+    void lockAdvice_WrapsTransactionAdvice() {
+        Advisor[] advisors = ((Advised) paymentService).getAdvisors();
+
+        int lockIndex = -1;
+        int transactionIndex = -1;
+        for (int i = 0; i < advisors.length; i++) {
+            if (advisors[i] instanceof AspectJPrecedenceInformation aspect
+                    && LockAspect.class.getSimpleName().equalsIgnoreCase(aspect.getAspectName())) {
+                lockIndex = i;
+            }
+            if (advisors[i].getAdvice() instanceof TransactionInterceptor) {
+                transactionIndex = i;
+            }
+        }
+
+        assertThat(lockIndex).isNotNegative();
+        assertThat(transactionIndex).isGreaterThan(lockIndex);
+    }
+
+    @Test
+    @DisplayName("주문 생성의 결제는 주문 트랜잭션 안에서 결제 락을 기다리지 않는다")
+    void createOrder_PaymentSkipsLock() {
+        given(paymentGateway.approve(any())).willReturn(true);
+        LocalDateTime now = LocalDateTime.now();
+        Member member = new Member();
+        member.setUserId("lockPath" + UUID.randomUUID().toString().substring(0, 8));
+        member.setName("결제 락 테스트");
+        member.setPhoneNumber(String.format("010-4%03d-%04d",
+                ThreadLocalRandom.current().nextInt(1_000), ThreadLocalRandom.current().nextInt(10_000)));
+        member.setGender(Gender.FEMALE);
+        member.setBirthDate("1990-01-01");
+        member.setMemberStatus(MemberStatus.ACTIVE);
+        member.setCreatedAt(now);
+        member.setUpdatedAt(now);
+        Long memberId = memberRepository.save(member).getId();
+
+        Product product = new Product();
+        product.setName("Lock Test Product");
+        product.setPrice(new BigDecimal("10.00"));
+        product.setStatus(ProductStatus.AVAILABLE);
+        product.setCreatedAt(now);
+        product.setUpdatedAt(now);
+        Long productId = productRepository.save(product).getId();
+
+        OrderResponseDto order = orderService.createOrder(memberId, new OrderCreateRequestDto(
+                UUID.randomUUID().toString(), List.of(new OrderCreateRequestDto.OrderItemDto(productId, 1))));
+
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAID);
+        verify(redisLockService, never()).tryLock(eq("payment:order:" + order.getOrderId()), anyLong(), anyLong(), any());
+    }
+}
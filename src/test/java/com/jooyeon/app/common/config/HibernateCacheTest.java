@@ -0,0 +1,144 @@
+package com.jooyeon.app.common.config;
+
+import com.jooyeon.app.domain.dto.member.MemberWithdrawalRequestDto;
+import com.jooyeon.app.domain.entity.member.Gender;
+import com.jooyeon.app.domain.entity.member.Member;
+import com.jooyeon.app.domain.entity.member.MemberStatus;
+import com.jooyeon.app.domain.entity.product.Product;
+import com.jooyeon.app.domain.entity.product.ProductStatus;
+import com.jooyeon.app.repository.MemberRepository;
+import com.jooyeon.app.repository.ProductRepository;
+import com.jooyeon.app.service.member.MemberService;
+import com.jooyeon.app.support.SqlStatementCounter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {SqlStatementCounter.PROPERTY, "app.outbox.relay.fixed-delay=3600000"})
+@ActiveProfiles("test")
+@DisplayName("Hibernate 2차 캐시 테스트")
+class HibernateCacheTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("회원 재조회는 2차 캐시에서 처리되고 region 통계가 메트릭으로 노출된다")
+    void member_LoadedFromSecondLevelCache() {
+        // given
+        Long memberId = createMember("l2" + UUID.randomUUID().toString().substring(0, 8)).getId();
+        memberRepository.findById(memberId);
+        SqlStatementCounter.clear();
+
+        // when
+        Member member = memberRepository.findById(memberId).orElseThrow();
+
+        // then
+        assertThat(member.getName()).isEqualTo("캐시 테스트");
+        assertThat(SqlStatementCounter.count("select")).isZero();
+
+        FunctionCounter hits = meterRegistry.find("hibernate.second.level.cache.requests")
+                .tags("region", HibernateCacheConfig.MEMBER_REGION, "result", "hit")
+                .functionCounter();
+        assertThat(hits).isNotNull();
+        assertThat(hits.count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("상품은 2차 캐시 대상이 아니어서 매번 DB 에서 읽는다")
+    void product_NotCached() {
+        // given
+        Long productId = createProduct("L2 Uncached Product", "15.00").getId();
+        productRepository.findById(productId);
+        SqlStatementCounter.clear();
+
+        // when
+        productRepository.findById(productId).orElseThrow();
+
+        // then
+        assertThat(SqlStatementCounter.count("select")).isPositive();
+    }
+
+    @Test
+    @DisplayName("탈퇴 요청은 member region 에서 해당 회원만 갱신하고 다른 회원 캐시는 유지한다")
+    void requestWithdrawal_KeepsOtherMembersCached() {
+        // given
+        Long withdrawingId = createMember("l2" + UUID.randomUUID().toString().substring(0, 8)).getId();
+        Long otherId = createMember("l2" + UUID.randomUUID().toString().substring(0, 8)).getId();
+        memberRepository.findById(otherId);
+
+        // when
+        memberService.requestWithdrawal(withdrawingId, new MemberWithdrawalRequestDto());
+        SqlStatementCounter.clear();
+        Member other = memberRepository.findById(otherId).orElseThrow();
+
+        // then
+        assertThat(other.getMemberStatus()).isEqualTo(MemberStatus.ACTIVE);
+        assertThat(SqlStatementCounter.count("select")).isZero();
+        assertThat(memberRepository.findById(withdrawingId).orElseThrow().getMemberStatus())
+                .isEqualTo(MemberStatus.PENDING_WITHDRAWAL);
+    }
+
+    @Test
+    @DisplayName("인증 시 userId 회원 조회는 쿼리 캐시와 member region 에서 처리된다")
+    void memberByUserId_LoadedFromCache() {
+        // given
+        String userId = "l2" + UUID.randomUUID().toString().substring(0, 8);
+        createMember(userId);
+        memberRepository.findByUserId(userId);
+        SqlStatementCounter.clear();
+
+        // when
+        Member member = memberRepository.findByUserId(userId).orElseThrow();
+
+        // then
+        assertThat(member.getName()).isEqualTo("캐시 테스트");
+        assertThat(SqlStatementCounter.count("select")).isZero();
+    }
+
+    private Product createProduct(String name, String price) {
+        LocalDateTime now = LocalDateTime.now();
+        Product product = new Product();
+        product.setName(name);
+        product.setPrice(new BigDecimal(price));
+        product.setStatus(ProductStatus.AVAILABLE);
+        product.setCreatedAt(now);
+        product.setUpdatedAt(now);
+        return productRepository.save(product);
+    }
+
+    private Member createMember(String userId) {
+        LocalDateTime now = LocalDateTime.now();
+        Member member = new Member();
+        member.setUserId(userId);
+        member.setName("캐시 테스트");
+        member.setPhoneNumber(String.format("010-7%03d-%04d",
+                ThreadLocalRandom.current().nextInt(1_000), ThreadLocalRandom.current().nextInt(10_000)));
+        member.setGender(Gender.FEMALE);
+        member.setBirthDate("1990-01-01");
+        member.setMemberStatus(MemberStatus.ACTIVE);
+        member.setCreatedAt(now);
+        member.setUpdatedAt(now);
+        return memberRepository.save(member);
+    }
+}
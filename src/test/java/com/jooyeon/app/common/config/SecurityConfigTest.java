@@ -0,0 +1,106 @@
+package com.jooyeon.app.common.config;
+
+import com.jooyeon.app.common.security.JwtUtil;
+import com.jooyeon.app.domain.entity.member.Gender;
+import com.jooyeon.app.domain.entity.member.Member;
+import com.jooyeon.app.domain.entity.member.MemberStatus;
+import com.jooyeon.app.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 관리자 전용 API 접근 제어 테스트
+ */
+@SpringBootTest(properties = {"app.security.admin-user-ids=securityAdmin",
+        "app.outbox.relay.fixed-delay=3600000"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("SecurityConfig 접근 제어 테스트")
+class SecurityConfigTest {
+
+    private static final String REVENUE = "/api/analytics/revenue?from=2024-01-01&to=2024-01-31";
+    private static final String ROLLUPS = "/api/analytics/rollups?from=2024-01-01&to=2024-01-31";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    @DisplayName("전사 매출/집계는 일반 회원에게 403 을 반환한다")
+    void analytics_MemberForbidden() throws Exception {
+        String token = tokenFor("securityUser" + UUID.randomUUID().toString().substring(0, 8));
+
+        mockMvc.perform(get(REVENUE).header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get(ROLLUPS).header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get(REVENUE))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("관리자로 설정된 회원은 전사 매출/집계를 조회할 수 있다")
+    void analytics_AdminAllowed() throws Exception {
+        String token = adminToken();
+
+        mockMvc.perform(get(REVENUE).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(ROLLUPS).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("actuator 는 health 만 공개하고 metrics 는 관리자만 조회할 수 있다")
+    void actuator_MetricsAdminOnly() throws Exception {
+        String memberToken = tokenFor("securityUser" + UUID.randomUUID().toString().substring(0, 8));
+        String adminToken = adminToken();
+
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics").header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics").header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+    }
+
+    private String adminToken() {
+        return memberRepository.findByUserId("securityAdmin")
+                .map(member -> jwtUtil.generateAccessToken(member.getUserId(), member.getId()))
+                .orElseGet(() -> tokenFor("securityAdmin"));
+    }
+
+    private String tokenFor(String userId) {
+        LocalDateTime now = LocalDateTime.now();
+        Member member = new Member();
+        member.setUserId(userId);
+        member.setName("권한 테스트");
+        member.setPhoneNumber(String.format("010-5%03d-%04d",
+                ThreadLocalRandom.current().nextInt(1_000), ThreadLocalRandom.current().nextInt(10_000)));
+        member.setGender(Gender.MALE);
+        member.setBirthDate("1990-01-01");
+        member.setMemberStatus(MemberStatus.ACTIVE);
+        member.setCreatedAt(now);
+        member.setUpdatedAt(now);
+        member = memberRepository.save(member);
+        return jwtUtil.generateAccessToken(member.getUserId(), member.getId());
+    }
+}
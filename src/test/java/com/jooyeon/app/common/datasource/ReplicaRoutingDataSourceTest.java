@@ -0,0 +1,218 @@
+package com.jooyeon.app.common.datasource;
+
+import com.jooyeon.app.domain.dto.order.OrderResponseDto;
+import com.jooyeon.app.domain.entity.product.Product;
+import com.jooyeon.app.repository.ProductRepository;
+import com.jooyeon.app.service.order.OrderHistoryCache;
+import com.jooyeon.app.service.product.ProductCatalogCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 별도의 H2 메모리 DB 를 replica 로 사용해 라우팅을 검증
+ */
+@DisplayName("ReplicaRoutingDataSource 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaNode replica1;
+    private ReplicaNode replica2;
+    private DataSource primary;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        primary = database("primary");
+        replica1 = new ReplicaNode("replica-1", database("replica-1"), null);
+        replica2 = new ReplicaNode("replica-2", database("replica-2"), null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("읽기 전용이 아닌 요청은 primary 로 보낸다")
+    void writeTransaction_RoutesToPrimary() {
+        ReplicaRoutingDataSource routing = routing(ReplicaSelection.ROUND_ROBIN, replica1, replica2);
+
+        assertThat(currentNode(routing)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica 를 순서대로 사용한다")
+    void readOnly_RoundRobin() {
+        ReplicaRoutingDataSource routing = routing(ReplicaSelection.ROUND_ROBIN, replica1, replica2);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            nodes.add(currentNode(routing));
+        }
+
+        assertThat(nodes).containsExactly("replica-1", "replica-2", "replica-1", "replica-2");
+        assertThat(meterRegistry.get("datasource.routing").tag("target", "replica-1").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("least-latency 는 응답 시간이 가장 짧은 replica 를 사용한다")
+    void readOnly_LeastLatency() {
+        replica1.recordSuccess(0, 8.0);
+        replica2.recordSuccess(0, 2.0);
+        ReplicaRoutingDataSource routing = routing(ReplicaSelection.LEAST_LATENCY, replica1, replica2);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(currentNode(routing)).isEqualTo("replica-2");
+        assertThat(currentNode(routing)).isEqualTo("replica-2");
+    }
+
+    @Test
+    @DisplayName("허용 지연을 넘은 replica 는 제외하고, 모두 제외되면 primary 로 대체한다")
+    void readOnly_LagAwareFallback() {
+        ReplicaRoutingDataSource routing = routing(ReplicaSelection.ROUND_ROBIN, replica1, replica2);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        replica1.recordSuccess(10_000, 1.0);
+        assertThat(currentNode(routing)).isEqualTo("replica-2");
+        assertThat(currentNode(routing)).isEqualTo("replica-2");
+
+        replica2.markUnhealthy();
+        assertThat(currentNode(routing)).isEqualTo("primary");
+        assertThat(meterRegistry.get("datasource.routing.fallback").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("상태 확인은 lag-query 결과로 지연을 측정하고 회복되면 다시 사용한다")
+    void checkReplicas_MeasuresLag() {
+        ReplicaNode lagging = new ReplicaNode("lagging", database("lagging"), "SELECT 10");
+        ReplicaRoutingDataSource routing = routing(ReplicaSelection.ROUND_ROBIN, lagging);
+
+        routing.checkReplicas();
+
+        assertThat(lagging.getLagMillis()).isEqualTo(10_000);
+        assertThat(lagging.isAvailable(Duration.ofSeconds(5))).isFalse();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(currentNode(routing)).isEqualTo("primary");
+
+        lagging.recordSuccess(0, 1.0);
+        assertThat(currentNode(routing)).isEqualTo("lagging");
+    }
+
+    @Test
+    @DisplayName("readFromPrimary 안의 조회는 읽기 전용 트랜잭션이라도 primary 로 보낸다")
+    void readFromPrimary_PinsPrimary() {
+        ReplicaRoutingDataSource routing = routing(ReplicaSelection.ROUND_ROBIN, replica1);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(ReplicaRoutingDataSource.readFromPrimary(() -> currentNode(routing))).isEqualTo("primary");
+        assertThat(ReplicaRoutingDataSource.readFromPrimary(
+                () -> ReplicaRoutingDataSource.readFromPrimary(() -> currentNode(routing)) + currentNode(routing)))
+                .isEqualTo("primaryprimary");
+        assertThat(currentNode(routing)).isEqualTo("replica-1");
+    }
+
+    @Test
+    @DisplayName("쓰기 후 무효화된 주문 목록 캐시는 지연된 replica 가 아니라 primary 에서 다시 채운다")
+    void orderHistoryCache_ReloadAfterWrite_ReadsPrimary() {
+        ReplicaRoutingDataSource routing = routing(ReplicaSelection.ROUND_ROBIN, replica1);
+        replica1.recordSuccess(3_000, 1.0);
+        createOrders(primary, replica1.getDataSource());
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(routing);
+        OrderHistoryCache cache = new OrderHistoryCache(meterRegistry, 100, 3, 50, Duration.ofMinutes(10));
+        Pageable pageable = PageRequest.of(0, 10);
+        Supplier<Page<OrderResponseDto>> loader = () -> new PageImpl<>(List.of(), pageable,
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE member_id = 1", Long.class));
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(cache.getOrLoad(1L, pageable, loader).getTotalElements()).isEqualTo(1);
+
+        // 주문 생성은 primary 에만 반영되고 replica 는 아직 따라오지 못한 상태
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        jdbcTemplate.update("INSERT INTO orders (member_id) VALUES (1)");
+        cache.evict(1L);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE member_id = 1", Long.class))
+                .isEqualTo(1);
+        assertThat(cache.getOrLoad(1L, pageable, loader).getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("쓰기 후 무효화된 상품 캐시는 지연된 replica 가 아니라 primary 에서 다시 채운다")
+    void productCatalogCache_ReloadAfterWrite_ReadsPrimary() {
+        ReplicaRoutingDataSource routing = routing(ReplicaSelection.ROUND_ROBIN, replica1);
+        replica1.recordSuccess(3_000, 1.0);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(routing);
+        for (DataSource dataSource : List.of(primary, replica1.getDataSource())) {
+            new JdbcTemplate(dataSource).execute("CREATE TABLE products (id BIGINT PRIMARY KEY, price DECIMAL(10, 2))");
+            new JdbcTemplate(dataSource).update("INSERT INTO products (id, price) VALUES (1, 1000)");
+        }
+        ProductRepository productRepository = mock(ProductRepository.class);
+        when(productRepository.findById(1L)).thenAnswer(invocation -> {
+            Product product = new Product();
+            product.setId(1L);
+            product.setPrice(jdbcTemplate.queryForObject("SELECT price FROM products WHERE id = 1", BigDecimal.class));
+            return Optional.of(product);
+        });
+        ProductCatalogCache cache = new ProductCatalogCache(productRepository, meterRegistry, 100, Duration.ofHours(1), false, 10);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(cache.get(1L).orElseThrow().getPrice()).isEqualByComparingTo("1000");
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        jdbcTemplate.update("UPDATE products SET price = 2000 WHERE id = 1");
+        cache.invalidate(1L);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(cache.get(1L).orElseThrow().getPrice()).isEqualByComparingTo("2000");
+    }
+
+    private static void createOrders(DataSource... dataSources) {
+        for (DataSource dataSource : dataSources) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("CREATE TABLE orders (id BIGINT AUTO_INCREMENT PRIMARY KEY, member_id BIGINT)");
+            jdbcTemplate.update("INSERT INTO orders (member_id) VALUES (1)");
+        }
+    }
+
+    private ReplicaRoutingDataSource routing(ReplicaSelection selection, ReplicaNode... replicas) {
+        return new ReplicaRoutingDataSource(primary, List.of(replicas), selection, Duration.ofSeconds(5), meterRegistry);
+    }
+
+    private static String currentNode(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node_info", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node_info (name VARCHAR(50))");
+        jdbcTemplate.update("INSERT INTO node_info (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
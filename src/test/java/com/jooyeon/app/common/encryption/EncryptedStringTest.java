@@ -0,0 +1,159 @@
+package com.jooyeon.app.common.encryption;
+
+import com.jooyeon.app.domain.entity.member.Gender;
+import com.jooyeon.app.domain.entity.member.Member;
+import com.jooyeon.app.domain.entity.member.MemberStatus;
+import com.jooyeon.app.repository.MemberRepository;
+import com.jooyeon.app.support.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 회원 개인정보 컬럼 지연 복호화 테스트
+ * 로딩 시에는 복호화하지 않고, 변경 감지는 바뀐 속성만 다시 암호화해야 한다
+ */
+@DataJpaTest(properties = SqlStatementCounter.PROPERTY)
+@ActiveProfiles("test")
+@Import(EncryptionUtil.class)
+@DisplayName("EncryptedString 지연 복호화 테스트")
+class EncryptedStringTest {
+
+    @SpyBean
+    private EncryptionUtil encryptionUtil;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        // EncryptedString 은 정적 인스턴스를 쓰므로 spy 로 교체해 호출 횟수를 센다
+        ReflectionTestUtils.setField(EncryptionUtil.class, "INSTANCE", encryptionUtil);
+
+        LocalDateTime now = LocalDateTime.now();
+        Member member = new Member();
+        member.setUserId("lazyDecryptUser");
+        member.setName("지연 복호화");
+        member.setPhoneNumber("010-5555-0000");
+        member.setGender(Gender.FEMALE);
+        member.setBirthDate("1990-01-01");
+        member.setMemberStatus(MemberStatus.ACTIVE);
+        member.setCreatedAt(now);
+        member.setUpdatedAt(now);
+        memberId = entityManager.persistFlushFind(member).getId();
+        entityManager.clear();
+
+        Mockito.clearInvocations(encryptionUtil);
+        SqlStatementCounter.clear();
+    }
+
+    @Test
+    @DisplayName("회원을 읽어도 개인정보는 처음 접근할 때 한 번만 복호화한다")
+    void load_DecryptsOnFirstAccessOnly() {
+        Member member = entityManager.find(Member.class, memberId);
+        assertThat(member.getMemberStatus()).isEqualTo(MemberStatus.ACTIVE);
+        verify(encryptionUtil, never()).decrypt(any());
+
+        assertThat(member.getName()).isEqualTo("지연 복호화");
+        assertThat(member.getName()).isEqualTo("지연 복호화");
+        verify(encryptionUtil, times(1)).decrypt(any());
+
+        assertThat(member.getGender()).isEqualTo(Gender.FEMALE);
+        assertThat(member.getPhoneNumber()).isEqualTo("010-5555-0000");
+        assertThat(member.getBirthDate()).isEqualTo("1990-01-01");
+        verify(encryptionUtil, times(4)).decrypt(any());
+    }
+
+    @Test
+    @DisplayName("개인정보를 바꾸지 않으면 flush 시 UPDATE 도, 복호화/재암호화도 없다")
+    void flush_UnchangedMember_NoUpdate() {
+        Member member = entityManager.find(Member.class, memberId);
+        member.getMemberStatus();
+        entityManager.flush();
+
+        assertThat(SqlStatementCounter.count("update")).isZero();
+        verify(encryptionUtil, never()).decrypt(any());
+        verify(encryptionUtil, never()).encrypt(any());
+    }
+
+    @Test
+    @DisplayName("같은 값으로 다시 설정하면 변경으로 보지 않는다")
+    void flush_SameValue_NoUpdate() {
+        Member member = entityManager.find(Member.class, memberId);
+        member.setName("지연 복호화");
+        entityManager.flush();
+
+        assertThat(SqlStatementCounter.count("update")).isZero();
+        verify(encryptionUtil, never()).encrypt(any());
+    }
+
+    @Test
+    @DisplayName("바꾼 속성만 다시 암호화해 저장한다")
+    void flush_ChangedAttribute_Reencrypted() {
+        Member member = entityManager.find(Member.class, memberId);
+        member.setPhoneNumber("010-5555-1111");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(SqlStatementCounter.count("update")).isEqualTo(1);
+        verify(encryptionUtil, times(1)).encrypt(any());
+
+        Member reloaded = entityManager.find(Member.class, memberId);
+        assertThat(reloaded.getPhoneNumber()).isEqualTo("010-5555-1111");
+        assertThat(reloaded.getName()).isEqualTo("지연 복호화");
+        assertThat(reloaded.getGender()).isEqualTo(Gender.FEMALE);
+    }
+
+    @Test
+    @DisplayName("일괄 조회 시 개인정보를 한 번에 복호화해 두고, 이후 getter 는 복호화하지 않는다")
+    void findAllDecryptedById_DecryptsUpFront() {
+        List<Member> members = memberRepository.findAllDecryptedById(List.of(memberId));
+        assertThat(members).hasSize(1);
+        Member member = members.get(0);
+        verify(encryptionUtil, times(1)).decryptAll(any());
+        verify(encryptionUtil, times(4)).decrypt(any());
+
+        assertThat(member.getName()).isEqualTo("지연 복호화");
+        assertThat(member.getPhoneNumber()).isEqualTo("010-5555-0000");
+        assertThat(member.getGender()).isEqualTo(Gender.FEMALE);
+        assertThat(member.getBirthDate()).isEqualTo("1990-01-01");
+        verify(encryptionUtil, times(4)).decrypt(any());
+
+        Member.decryptAll(List.of(member));
+        verify(encryptionUtil, times(1)).decryptAll(any());
+    }
+
+    @Test
+    @DisplayName("목록 페이지 조회도 페이지의 개인정보를 한 번에 복호화한다")
+    void findAllDecrypted_DecryptsPageUpFront() {
+        Page<Member> page = memberRepository.findAllDecrypted(PageRequest.of(0, 10));
+        verify(encryptionUtil, times(1)).decryptAll(any());
+
+        assertThat(page.getContent()).extracting(Member::getName).containsExactly("지연 복호화");
+        verify(encryptionUtil, times(4)).decrypt(any());
+    }
+}
@@ -0,0 +1,172 @@
+package com.jooyeon.app.common.encryption;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EncryptionUtil 테스트")
+class EncryptionUtilTest {
+
+    private static final String KEY = "AbcDefGhijkLmnoPqrsTuvWxYz123456";
+
+    private EncryptionUtil encryptionUtil;
+
+    @BeforeEach
+    void setUp() {
+        encryptionUtil = new EncryptionUtil();
+        ReflectionTestUtils.setField(encryptionUtil, "encryptionKey", KEY);
+        ReflectionTestUtils.setField(encryptionUtil, "maxIdleCiphers", 2);
+        ReflectionTestUtils.setField(encryptionUtil, "blindIndexKey", "BlindIndexKeyForSearchableFields");
+        ReflectionTestUtils.setField(encryptionUtil, "batchParallelism", 4);
+        encryptionUtil.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        encryptionUtil.shutdown();
+    }
+
+    @Test
+    @DisplayName("암호화한 값을 복호화하면 원문이 나오고, 같은 원문도 매번 다른 IV 로 암호화된다")
+    void encryptDecrypt_RoundTrip() {
+        String first = encryptionUtil.encrypt("010-1234-5678");
+        String second = encryptionUtil.encrypt("010-1234-5678");
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(encryptionUtil.decrypt(first)).isEqualTo("010-1234-5678");
+        assertThat(encryptionUtil.decrypt(second)).isEqualTo("010-1234-5678");
+        assertThat(encryptionUtil.decrypt(encryptionUtil.encrypt("홍길동"))).isEqualTo("홍길동");
+        assertThat(encryptionUtil.encrypt(null)).isNull();
+        assertThat(encryptionUtil.decrypt("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("blind index 는 같은 값이면 항상 같고, 다른 값이면 다르다")
+    void blindIndex_Deterministic() {
+        String hash = encryptionUtil.blindIndex("01012345678");
+
+        assertThat(hash).hasSize(64).isEqualTo(encryptionUtil.blindIndex("01012345678"));
+        assertThat(encryptionUtil.blindIndex("01012345679")).isNotEqualTo(hash);
+        assertThat(encryptionUtil.blindIndex(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("기존 형식(IV + 암호문, Base64)으로 저장된 값을 그대로 복호화한다")
+    void decrypt_ExistingFormat() throws Exception {
+        byte[] iv = new byte[12];
+        new SecureRandom().nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(KEY.getBytes(StandardCharsets.UTF_8), "AES"),
+                new GCMParameterSpec(128, iv));
+        byte[] encrypted = cipher.doFinal("1990-01-01".getBytes(StandardCharsets.UTF_8));
+        byte[] encryptedWithIv = new byte[iv.length + encrypted.length];
+        System.arraycopy(iv, 0, encryptedWithIv, 0, iv.length);
+        System.arraycopy(encrypted, 0, encryptedWithIv, iv.length, encrypted.length);
+
+        assertThat(encryptionUtil.decrypt(Base64.getEncoder().encodeToString(encryptedWithIv))).isEqualTo("1990-01-01");
+    }
+
+    @Test
+    @DisplayName("변조된 암호문은 복호화에 실패하고, 이후 호출은 정상 동작한다")
+    void decrypt_Tampered() {
+        byte[] data = Base64.getDecoder().decode(encryptionUtil.encrypt("테스트"));
+        data[data.length - 1] ^= 1;
+        String tampered = Base64.getEncoder().encodeToString(data);
+
+        assertThatThrownBy(() -> encryptionUtil.decrypt(tampered))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Error decrypting data");
+        assertThat(encryptionUtil.decrypt(encryptionUtil.encrypt("테스트"))).isEqualTo("테스트");
+    }
+
+    @Test
+    @DisplayName("풀보다 많은 스레드가 동시에 암복호화해도 결과가 섞이지 않는다")
+    void encryptDecrypt_Concurrent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        String plainText = "member-" + thread + "-" + i;
+                        if (!plainText.equals(encryptionUtil.decrypt(encryptionUtil.encrypt(plainText)))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("일괄 복호화는 여러 구간으로 나눠도 입력 순서와 null/빈 값을 그대로 유지한다")
+    void decryptAll_PreservesOrder() {
+        List<String> plainTexts = new ArrayList<>();
+        List<String> encrypted = new ArrayList<>();
+        for (int i = 0; i < EncryptionUtil.MIN_BATCH_CHUNK_SIZE * 4 + 7; i++) {
+            String plainText = i % 100 == 0 ? null : i % 100 == 1 ? "" : "member-" + i;
+            plainTexts.add(plainText);
+            encrypted.add(encryptionUtil.encrypt(plainText));
+        }
+
+        assertThat(encryptionUtil.decryptAll(encrypted)).containsExactlyElementsOf(plainTexts);
+        assertThat(encryptionUtil.decryptAll(List.of(encryptionUtil.encrypt("홍길동")))).containsExactly("홍길동");
+        assertThat(encryptionUtil.decryptAll(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일괄 복호화 스레드 풀은 처음 여러 구간으로 나눌 때 만든다")
+    void decryptAll_CreatesExecutorLazily() {
+        encryptionUtil.decryptAll(List.of(encryptionUtil.encrypt("홍길동")));
+        assertThat(ReflectionTestUtils.getField(encryptionUtil, "batchExecutor")).isNull();
+
+        List<String> encrypted = new ArrayList<>();
+        for (int i = 0; i < EncryptionUtil.MIN_BATCH_CHUNK_SIZE * 2; i++) {
+            encrypted.add(encryptionUtil.encrypt("member-" + i));
+        }
+        encryptionUtil.decryptAll(encrypted);
+        assertThat(ReflectionTestUtils.getField(encryptionUtil, "batchExecutor")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("일괄 복호화 중 하나라도 실패하면 복호화 예외를 그대로 던진다")
+    void decryptAll_Tampered() {
+        String[] encrypted = new String[EncryptionUtil.MIN_BATCH_CHUNK_SIZE * 4];
+        for (int i = 0; i < encrypted.length; i++) {
+            encrypted[i] = encryptionUtil.encrypt("member-" + i);
+        }
+        byte[] data = Base64.getDecoder().decode(encrypted[encrypted.length - 1]);
+        data[data.length - 1] ^= 1;
+        encrypted[encrypted.length - 1] = Base64.getEncoder().encodeToString(data);
+
+        assertThatThrownBy(() -> encryptionUtil.decryptAll(Arrays.asList(encrypted)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Error decrypting data");
+    }
+}
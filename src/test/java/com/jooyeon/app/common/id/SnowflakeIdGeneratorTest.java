@@ -0,0 +1,148 @@
+package com.jooyeon.app.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SnowflakeIdGenerator 테스트")
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    @DisplayName("타임스탬프, 노드, 시퀀스 비트 배치")
+    void nextId_Layout() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, () -> NOW);
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertThat(SnowflakeIdGenerator.timestampOf(first)).isEqualTo(NOW);
+        assertThat(SnowflakeIdGenerator.nodeIdOf(first)).isEqualTo(7);
+        assertThat(SnowflakeIdGenerator.sequenceOf(first)).isZero();
+        assertThat(SnowflakeIdGenerator.sequenceOf(second)).isEqualTo(1);
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    @DisplayName("같은 ms 의 시퀀스를 모두 쓰면 다음 ms 로 넘어감")
+    void nextId_SequenceExhaustion() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> NOW);
+
+        long last = 0;
+        for (int i = 0; i <= SnowflakeIdGenerator.SEQUENCE_MASK; i++) {
+            last = generator.nextId();
+        }
+        long overflow = generator.nextId();
+
+        assertThat(SnowflakeIdGenerator.sequenceOf(last)).isEqualTo(SnowflakeIdGenerator.SEQUENCE_MASK);
+        assertThat(SnowflakeIdGenerator.timestampOf(overflow)).isEqualTo(NOW + 1);
+        assertThat(SnowflakeIdGenerator.sequenceOf(overflow)).isZero();
+        assertThat(overflow).isGreaterThan(last);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 ID 는 계속 증가")
+    void nextId_ClockRegression() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+
+        long beforeRegression = generator.nextId();
+        clock.set(NOW - 5_000);
+        long afterRegression = generator.nextId();
+        clock.set(NOW + 10);
+        long recovered = generator.nextId();
+
+        assertThat(afterRegression).isGreaterThan(beforeRegression);
+        assertThat(SnowflakeIdGenerator.timestampOf(afterRegression)).isEqualTo(NOW);
+        assertThat(recovered).isGreaterThan(afterRegression);
+        assertThat(SnowflakeIdGenerator.timestampOf(recovered)).isEqualTo(NOW + 10);
+        assertThat(generator.getClockRegressions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 생성 시 중복 없음")
+    void nextId_ConcurrentUniqueness() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, System::currentTimeMillis);
+        int threadCount = 8;
+        int idsPerThread = 50_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                futures.add(executor.submit(() -> {
+                    long[] ids = new long[idsPerThread];
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids[i] = generator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+
+            Set<Long> unique = new HashSet<>();
+            for (Future<long[]> future : futures) {
+                long[] ids = future.get();
+                for (int i = 0; i < ids.length; i++) {
+                    unique.add(ids[i]);
+                    if (i > 0) {
+                        // 한 스레드 안에서는 항상 증가
+                        assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+                    }
+                }
+            }
+            assertThat(unique).hasSize(threadCount * idsPerThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("16자리 16진수 ID 는 생성 순서대로 정렬")
+    void nextHexId_SortOrder() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> NOW);
+
+        String first = generator.nextHexId();
+        String second = generator.nextHexId();
+
+        assertThat(first).hasSize(16).matches("[0-9A-F]{16}");
+        assertThat(second.compareTo(first)).isPositive();
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위 초과 시 예외")
+    void init_InvalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("노드 ID 미설정은 dev/test 프로필이 아니면 시작 시 실패")
+    void init_MissingNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1, () -> NOW))
+                .isInstanceOf(IllegalStateException.class);
+
+        SnowflakeIdGenerator production = new SnowflakeIdGenerator(new MockEnvironment());
+        assertThatThrownBy(production::init)
+                .isInstanceOf(IllegalStateException.class);
+
+        MockEnvironment testEnvironment = new MockEnvironment();
+        testEnvironment.setActiveProfiles("test");
+        SnowflakeIdGenerator derived = new SnowflakeIdGenerator(testEnvironment);
+        derived.init();
+        assertThat(SnowflakeIdGenerator.nodeIdOf(derived.nextId()))
+                .isBetween(0L, SnowflakeIdGenerator.MAX_NODE_ID);
+    }
+}
@@ -0,0 +1,120 @@
+package com.jooyeon.app.common.outbox;
+
+import com.jooyeon.app.domain.entity.common.OutboxEvent;
+import com.jooyeon.app.domain.entity.common.OutboxEventType;
+import com.jooyeon.app.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RecordingSink sink;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        sink = new RecordingSink();
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = new OutboxRelay(outboxEventRepository, sink, transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("가득 찬 배치가 이어지면 한 번의 실행에서 id 순서대로 모두 발행")
+    void drain_OrderedBatches() {
+        when(outboxEventRepository.findUnpublished(any(Pageable.class)))
+                .thenReturn(List.of(event(1L), event(2L)))
+                .thenReturn(List.of(event(3L)));
+
+        int published = outboxRelay.drain();
+
+        assertThat(published).isEqualTo(3);
+        assertThat(sink.received).extracting(OutboxMessage::id).containsExactly(1L, 2L, 3L);
+        verify(outboxEventRepository).markPublished(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(outboxEventRepository).markPublished(eq(List.of(3L)), any(LocalDateTime.class));
+        assertThat(meterRegistry.get("outbox.events.published").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("outbox.publish.lag").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("미발행 이벤트가 없으면 발행하지 않음")
+    void drain_Empty() {
+        when(outboxEventRepository.findUnpublished(any(Pageable.class))).thenReturn(Collections.emptyList());
+
+        assertThat(outboxRelay.drain()).isZero();
+
+        assertThat(sink.received).isEmpty();
+        verify(outboxEventRepository, never()).markPublished(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("sink 실패 시 발행 표시를 하지 않아 다음 주기에 재발행")
+    void relay_SinkFailureLeavesEventsUnpublished() {
+        when(outboxEventRepository.findUnpublished(any(Pageable.class))).thenReturn(List.of(event(1L)));
+        sink.failure = new IllegalStateException("broker unavailable");
+
+        outboxRelay.relay();
+
+        verify(outboxEventRepository, never()).markPublished(anyCollection(), any());
+        verify(transactionManager).rollback(any());
+        assertThat(meterRegistry.get("outbox.relay.failures").counter().count()).isEqualTo(1);
+
+        sink.failure = null;
+        outboxRelay.relay();
+
+        assertThat(sink.received).extracting(OutboxMessage::id).containsExactly(1L);
+        verify(outboxEventRepository).markPublished(eq(List.of(1L)), any(LocalDateTime.class));
+    }
+
+    private OutboxEvent event(Long id) {
+        OutboxEvent event = new OutboxEvent(OutboxEventType.ORDER_CREATED, id, "{\"orderId\":" + id + "}",
+                LocalDateTime.now().minusSeconds(1));
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+
+    /**
+     * 발행된 메시지를 기록하는 프로세스 내부 sink
+     */
+    private static class RecordingSink implements OutboxEventSink {
+
+        private final List<OutboxMessage> received = new ArrayList<>();
+        private RuntimeException failure;
+
+        @Override
+        public void publish(List<OutboxMessage> messages) {
+            if (failure != null) {
+                throw failure;
+            }
+            received.addAll(messages);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.jooyeon.app.common.security;
+
+import com.jooyeon.app.domain.entity.member.Gender;
+import com.jooyeon.app.domain.entity.member.Member;
+import com.jooyeon.app.domain.entity.member.MemberStatus;
+import com.jooyeon.app.repository.MemberRepository;
+import com.jooyeon.app.support.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 인증 요청 하나에서 회원 조회 횟수/상태 반영 테스트
+ * 2차 캐시를 끄고 실제 members 조회 SQL 을 센다
+ */
+@SpringBootTest(properties = {SqlStatementCounter.PROPERTY, "app.hibernate-cache.enabled=false",
+        "app.outbox.relay.fixed-delay=3600000", "app.member-status-cache.ttl=" + MemberLoadPerRequestTest.STATUS_CACHE_TTL_MILLIS + "ms"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("요청당 회원 조회 횟수 테스트")
+class MemberLoadPerRequestTest {
+
+    static final long STATUS_CACHE_TTL_MILLIS = 1000;
+
+    private static final Pattern MEMBER_SELECT = Pattern.compile("^select\\b.*\\bfrom\\s+members\\b",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        Member member = new Member();
+        member.setUserId("perRequest" + UUID.randomUUID().toString().substring(0, 8));
+        member.setName("요청 테스트");
+        member.setPhoneNumber(String.format("010-6%03d-%04d",
+                ThreadLocalRandom.current().nextInt(1_000), ThreadLocalRandom.current().nextInt(10_000)));
+        member.setGender(Gender.MALE);
+        member.setBirthDate("1990-01-01");
+        member.setMemberStatus(MemberStatus.ACTIVE);
+        member.setCreatedAt(now);
+        member.setUpdatedAt(now);
+        member = memberRepository.save(member);
+
+        memberId = member.getId();
+        accessToken = jwtUtil.generateAccessToken(member.getUserId(), member.getId());
+    }
+
+    @Test
+    @DisplayName("필터, 인터셉터, @CurrentUser 가 한 번 조회한 회원을 공유한다")
+    void getOrders_LoadsMemberOnce() throws Exception {
+        // given
+        SqlStatementCounter.clear();
+
+        // when
+        mockMvc.perform(get("/api/orders").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        // then
+        long memberSelects = SqlStatementCounter.statements().stream()
+                .filter(sql -> MEMBER_SELECT.matcher(sql.trim()).find())
+                .count();
+        assertThat(memberSelects).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("MemberService 를 거치지 않고 바뀐 회원 상태도 상태 캐시 TTL 이 지나면 인터셉터가 반영한다")
+    void statusChangedOutsideMemberService_Blocked() throws Exception {
+        // given - 상태 캐시가 ACTIVE 로 채워진 상태
+        mockMvc.perform(get("/api/orders").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        // when - 다른 노드/운영 작업처럼 DB 에서 직접 탈퇴 처리
+        jdbcTemplate.update("UPDATE members SET member_status = 'WITHDRAWN' WHERE id = ?", memberId);
+        Thread.sleep(STATUS_CACHE_TTL_MILLIS + 100);
+
+        // then
+        mockMvc.perform(get("/api/orders").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden());
+    }
+}
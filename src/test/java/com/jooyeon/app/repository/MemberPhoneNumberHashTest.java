@@ -0,0 +1,157 @@
+package com.jooyeon.app.repository;
+
+import com.jooyeon.app.common.encryption.EncryptionUtil;
+import com.jooyeon.app.domain.entity.member.Gender;
+import com.jooyeon.app.domain.entity.member.Member;
+import com.jooyeon.app.domain.entity.member.MemberStatus;
+import com.jooyeon.app.service.member.MemberBlindIndexBackfill;
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(EncryptionUtil.class)
+@DisplayName("회원 전화번호 blind index 테스트")
+class MemberPhoneNumberHashTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EncryptionUtil encryptionUtil;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("전화번호는 형식과 무관하게 blind index 로 조회된다")
+    void findByPhoneNumberHash() {
+        Long memberId = entityManager.persistAndFlush(member("hashUser1", "010-4321-0001")).getId();
+        entityManager.clear();
+
+        String hash = Member.phoneNumberHash(encryptionUtil, "01043210001");
+
+        assertThat(memberRepository.existsByPhoneNumberHash(hash)).isTrue();
+        assertThat(memberRepository.findByPhoneNumberHash(hash)).get()
+                .extracting(Member::getId).isEqualTo(memberId);
+        assertThat(memberRepository.existsByPhoneNumberHash(Member.phoneNumberHash(encryptionUtil, "010-4321-0002"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 전화번호는 유니크 인덱스로 저장이 거부된다")
+    void duplicatePhoneNumber_Rejected() {
+        entityManager.persistAndFlush(member("hashUser1", "010-4321-0001"));
+
+        assertThatThrownBy(() -> entityManager.persistAndFlush(member("hashUser2", "01043210001")))
+                .isInstanceOf(PersistenceException.class);
+    }
+
+    @Test
+    @DisplayName("전화번호를 바꾸면 이전 색인 값은 지워지고 새 전화번호의 색인 값으로 저장된다")
+    void changePhoneNumber_ReplacesHash() {
+        Long memberId = entityManager.persistAndFlush(member("hashUser1", "010-4321-0001")).getId();
+
+        Member member = entityManager.find(Member.class, memberId);
+        member.setPhoneNumber("010-4321-0009");
+        assertThat(member.getPhoneNumberHash()).isNull();
+        member.setPhoneNumberHash(Member.phoneNumberHash(encryptionUtil, "010-4321-0009"));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(memberRepository.findByPhoneNumberHash(Member.phoneNumberHash(encryptionUtil, "010-4321-0009")))
+                .get().extracting(Member::getId).isEqualTo(memberId);
+        assertThat(memberRepository.existsByPhoneNumberHash(Member.phoneNumberHash(encryptionUtil, "010-4321-0001")))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("색인 값이 없는 기존 회원은 저장해도 색인 값이 생기지 않고, backfill 로 채워진다")
+    void backfill_FillsMissingHashes() {
+        Long memberId = entityManager.persistAndFlush(member("legacyUser", "010-4321-0003")).getId();
+        jdbcTemplate.update("UPDATE members SET phone_number_hash = NULL WHERE id = ?", memberId);
+        entityManager.clear();
+
+        Member legacy = entityManager.find(Member.class, memberId);
+        legacy.setMemberStatus(MemberStatus.PENDING_WITHDRAWAL);
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(memberRepository.findIdsWithoutPhoneNumberHash(0L, PageRequest.of(0, 10))).contains(memberId);
+
+        int updated = backfill().backfill();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(memberRepository.findByPhoneNumberHash(Member.phoneNumberHash(encryptionUtil, "010-4321-0003")))
+                .get().extracting(Member::getId).isEqualTo(memberId);
+    }
+
+    @Test
+    @DisplayName("이미 색인된 전화번호와 중복인 회원은 색인 불가로 표시되어 이후 저장이 실패하지 않는다")
+    void backfill_MarksDuplicateAsUnindexed() {
+        Long indexedId = entityManager.persistAndFlush(member("indexedUser", "010-4321-0004")).getId();
+        Long duplicateId = entityManager.persistAndFlush(member("duplicateUser", "010-4321-0005")).getId();
+        // 유니크 인덱스 이전에 쌓인 중복 데이터 - 전화번호 암호문을 복사하고 색인 값은 비운다
+        jdbcTemplate.update("UPDATE members SET phone_number = (SELECT phone_number FROM members WHERE id = ?), " +
+                "phone_number_hash = NULL WHERE id = ?", indexedId, duplicateId);
+        entityManager.clear();
+
+        int updated = backfill().backfill();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(updated).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT phone_number_hash FROM members WHERE id = ?",
+                String.class, duplicateId)).isEqualTo(Member.UNINDEXED_PHONE_NUMBER_HASH_PREFIX + duplicateId);
+        assertThat(memberRepository.findIdsWithoutPhoneNumberHash(0L, PageRequest.of(0, 10))).doesNotContain(duplicateId);
+
+        // 색인 불가 표시는 유지되므로 상태 변경 저장이 유니크 인덱스에 걸리지 않는다
+        Member duplicate = entityManager.find(Member.class, duplicateId);
+        duplicate.setMemberStatus(MemberStatus.PENDING_WITHDRAWAL);
+        entityManager.flush();
+        assertThat(memberRepository.findByPhoneNumberHash(Member.phoneNumberHash(encryptionUtil, "010-4321-0004")))
+                .get().extracting(Member::getId).isEqualTo(indexedId);
+    }
+
+    private MemberBlindIndexBackfill backfill() {
+        return new MemberBlindIndexBackfill(memberRepository, encryptionUtil, transactionManager, false, 1);
+    }
+
+    /**
+     * 가입 경로(MemberService.registerMember)처럼 색인 값을 함께 설정한 회원
+     */
+    private Member member(String userId, String phoneNumber) {
+        LocalDateTime now = LocalDateTime.now();
+        Member member = new Member();
+        member.setUserId(userId);
+        member.setName("색인 테스트");
+        member.setPhoneNumber(phoneNumber);
+        member.setPhoneNumberHash(Member.phoneNumberHash(encryptionUtil, phoneNumber));
+        member.setGender(Gender.MALE);
+        member.setBirthDate("1990-01-01");
+        member.setMemberStatus(MemberStatus.ACTIVE);
+        member.setCreatedAt(now);
+        member.setUpdatedAt(now);
+        return member;
+    }
+}
@@ -0,0 +1,154 @@
+package com.jooyeon.app.repository;
+
+import com.jooyeon.app.common.encryption.EncryptionUtil;
+import com.jooyeon.app.domain.dto.order.OrderResponseDto;
+import com.jooyeon.app.domain.entity.member.Gender;
+import com.jooyeon.app.domain.entity.member.Member;
+import com.jooyeon.app.domain.entity.member.MemberStatus;
+import com.jooyeon.app.domain.entity.order.Order;
+import com.jooyeon.app.domain.entity.order.OrderItem;
+import com.jooyeon.app.domain.entity.order.OrderStatus;
+import com.jooyeon.app.domain.entity.product.Product;
+import com.jooyeon.app.domain.entity.product.ProductStatus;
+import com.jooyeon.app.support.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = SqlStatementCounter.PROPERTY)
+@ActiveProfiles("test")
+@Import(EncryptionUtil.class)
+@DisplayName("OrderRepository 조회 쿼리 수 테스트")
+class OrderRepositoryQueryCountTest {
+
+    private static final int ORDER_COUNT = 45;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+
+        Member member = new Member();
+        member.setUserId("queryCountUser");
+        member.setName("쿼리 테스트");
+        member.setPhoneNumber("010-9999-0000");
+        member.setGender(Gender.FEMALE);
+        member.setBirthDate("1990-01-01");
+        member.setMemberStatus(MemberStatus.ACTIVE);
+        member.setCreatedAt(now);
+        member.setUpdatedAt(now);
+        entityManager.persist(member);
+        memberId = member.getId();
+
+        Product laptop = createProduct("Laptop", "1299.99", now);
+        Product mouse = createProduct("Mouse", "29.99", now);
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = new Order();
+            order.setMember(member);
+            order.setStatus(OrderStatus.PAID);
+            order.setIdempotencyKey("query-count-" + i);
+            order.setTotalAmount(new BigDecimal("1329.98"));
+            order.setCreatedAt(now.minusMinutes(i));
+            order.setUpdatedAt(now.minusMinutes(i));
+
+            List<OrderItem> items = new ArrayList<>();
+            items.add(createItem(order, laptop));
+            items.add(createItem(order, mouse));
+            order.setItems(items);
+            entityManager.persist(order);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("주문 목록 한 페이지는 주문/항목 수와 무관하게 3개의 쿼리로 조회된다")
+    void memberOrderPage_UsesConstantQueryCount() {
+        // given
+        SqlStatementCounter.clear();
+
+        // when
+        Page<Long> orderIds = orderRepository.findIdsByMemberId(memberId, PageRequest.of(1, PAGE_SIZE));
+        List<OrderResponseDto> orders = orderRepository.findAllWithItemsByIdIn(orderIds.getContent()).stream()
+                .map(OrderResponseDto::convertToResponseDto)
+                .collect(Collectors.toList());
+
+        // then
+        assertThat(orders).hasSize(PAGE_SIZE);
+        assertThat(orders).allSatisfy(order -> {
+            assertThat(order.getMemberId()).isEqualTo(memberId);
+            assertThat(order.getItems()).hasSize(2);
+            assertThat(order.getItems()).allSatisfy(item -> assertThat(item.getProductName()).isNotBlank());
+        });
+        assertThat(orders.stream().map(OrderResponseDto::getOrderId).collect(Collectors.toList()))
+                .containsExactlyElementsOf(orderIds.getContent());
+        assertThat(orderIds.getTotalElements()).isEqualTo(ORDER_COUNT);
+
+        // ID 페이지 조회 + COUNT + 주문/항목/상품 fetch join
+        assertThat(SqlStatementCounter.statements()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("주문 상세 조회는 항목과 상품까지 단일 쿼리로 조회된다")
+    void orderDetail_UsesSingleQuery() {
+        // given
+        Long orderId = orderRepository.findIdsByMemberId(memberId, PageRequest.of(0, 1)).getContent().get(0);
+        entityManager.clear();
+        SqlStatementCounter.clear();
+
+        // when
+        OrderResponseDto order = orderRepository.findWithItemsByIdAndMemberId(orderId, memberId)
+                .map(OrderResponseDto::convertToResponseDto)
+                .orElseThrow();
+
+        // then
+        assertThat(order.getItems()).hasSize(2);
+        assertThat(SqlStatementCounter.statements()).hasSize(1);
+    }
+
+    private Product createProduct(String name, String price, LocalDateTime now) {
+        Product product = new Product();
+        product.setName(name);
+        product.setPrice(new BigDecimal(price));
+        product.setStatus(ProductStatus.AVAILABLE);
+        product.setCreatedAt(now);
+        product.setUpdatedAt(now);
+        entityManager.persist(product);
+        return product;
+    }
+
+    private OrderItem createItem(Order order, Product product) {
+        OrderItem item = new OrderItem();
+        item.setOrder(order);
+        item.setProduct(product);
+        item.setQuantity(1);
+        item.setUnitPrice(product.getPrice());
+        item.setTotalPrice(product.getPrice());
+        return item;
+    }
+}
@@ -0,0 +1,76 @@
+package com.jooyeon.app.service.analytics;
+
+import com.jooyeon.app.repository.OrderRepository;
+import com.jooyeon.app.repository.OrderRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderRollupRebuildService 테스트")
+class OrderRollupRebuildServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 10);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderRollupRepository orderRollupRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderRollupRebuildService orderRollupRebuildService;
+
+    @BeforeEach
+    void setUp() {
+        orderRollupRebuildService = new OrderRollupRebuildService(orderRepository, orderRollupRepository,
+                transactionManager, Duration.ofHours(25));
+    }
+
+    @Test
+    @DisplayName("재구성은 그날 주문 행을 잠그고 대기 증분을 비운 뒤 집계를 다시 계산한다")
+    void rebuild_LocksOrdersBeforeRecounting() {
+        LocalDateTime start = DAY.atStartOfDay();
+        LocalDateTime end = DAY.plusDays(1).atStartOfDay();
+        when(orderRepository.streamExportRowsBetween(start, end)).thenReturn(Stream.empty());
+
+        orderRollupRebuildService.rebuild(DAY, DAY);
+
+        InOrder inOrder = inOrder(orderRepository, orderRollupRepository);
+        inOrder.verify(orderRepository).lockIdsCreatedBetween(start, end);
+        inOrder.verify(orderRepository).clearRollupPendingBetween(start, end);
+        inOrder.verify(orderRollupRepository).deleteByBucketStartRange(start, end);
+        inOrder.verify(orderRepository).streamExportRowsBetween(start, end);
+    }
+
+    @Test
+    @DisplayName("보정 작업은 최근 변경되었거나 증분이 남은 주문의 생성일을 모두 다시 계산한다")
+    void catchUp_RebuildsTouchedDays() {
+        LocalDate olderDay = DAY.minusDays(20);
+        when(orderRepository.findCreatedDatesToRollUp(any())).thenReturn(List.of(DAY, olderDay));
+        when(orderRepository.streamExportRowsBetween(any(), any())).thenAnswer(invocation -> Stream.empty());
+
+        orderRollupRebuildService.catchUp();
+
+        InOrder inOrder = inOrder(orderRollupRepository);
+        inOrder.verify(orderRollupRepository).deleteByBucketStartRange(olderDay.atStartOfDay(), olderDay.plusDays(1).atStartOfDay());
+        inOrder.verify(orderRollupRepository).deleteByBucketStartRange(DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay());
+        verify(orderRepository, times(2)).lockIdsCreatedBetween(any(), any());
+    }
+}
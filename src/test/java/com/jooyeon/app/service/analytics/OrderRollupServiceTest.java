@@ -0,0 +1,220 @@
+package com.jooyeon.app.service.analytics;
+
+import com.jooyeon.app.common.exception.ErrorCode;
+import com.jooyeon.app.common.exception.OrderException;
+import com.jooyeon.app.domain.entity.order.Order;
+import com.jooyeon.app.domain.entity.order.OrderItem;
+import com.jooyeon.app.domain.entity.order.OrderRollup;
+import com.jooyeon.app.domain.entity.order.OrderStatus;
+import com.jooyeon.app.domain.entity.order.RollupGranularity;
+import com.jooyeon.app.domain.entity.product.Product;
+import com.jooyeon.app.repository.OrderRepository;
+import com.jooyeon.app.repository.OrderRollupRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderRollupService 테스트")
+class OrderRollupServiceTest {
+
+    private static final LocalDateTime ORDERED_AT = LocalDateTime.of(2024, 3, 10, 14, 25, 30);
+
+    @Mock
+    private OrderRollupRepository orderRollupRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderRollupService orderRollupService;
+    private Order testOrder;
+
+    @BeforeEach
+    void setUp() {
+        orderRollupService = new OrderRollupService(orderRollupRepository, orderRepository, transactionManager);
+
+        testOrder = new Order();
+        testOrder.setId(1L);
+        testOrder.setStatus(OrderStatus.PAID);
+        testOrder.setCreatedAt(ORDERED_AT);
+        testOrder.setItems(Arrays.asList(
+                orderItem(1L, 2, "100.00"),
+                orderItem(1L, 1, "50.00"),
+                orderItem(2L, 3, "30.00")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("상품별 증감분 - 같은 상품의 여러 항목은 주문 1건으로 집계")
+    void deltasOf_GroupsItemsByProduct() {
+        List<OrderRollupDelta> deltas = OrderRollupService.deltasOf(testOrder, OrderStatus.PAID);
+
+        assertThat(deltas).hasSize(2);
+        assertThat(deltas.get(0).productId()).isEqualTo(1L);
+        assertThat(deltas.get(0).orderCount()).isEqualTo(1);
+        assertThat(deltas.get(0).units()).isEqualTo(3);
+        assertThat(deltas.get(0).revenue()).isEqualByComparingTo("150.00");
+        assertThat(deltas.get(1).productId()).isEqualTo(2L);
+        assertThat(deltas.get(1).units()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("신규 주문 - 기존 집계 행이 있으면 증분 UPDATE 만 수행")
+    void recordCreated_IncrementsExistingRows() {
+        when(orderRepository.claimRollupDelta(1L)).thenReturn(1);
+        when(orderRollupRepository.increment(any(), any(), anyLong(), any(), anyLong(), anyLong(), any(), any()))
+                .thenReturn(1);
+
+        orderRollupService.recordCreated(testOrder);
+
+        // 상품 2개 x (HOUR, DAY)
+        verify(orderRollupRepository, times(4))
+                .increment(any(), any(), anyLong(), any(), anyLong(), anyLong(), any(), any());
+        verify(orderRollupRepository).increment(eq(RollupGranularity.HOUR), eq(LocalDateTime.of(2024, 3, 10, 14, 0)),
+                eq(1L), eq(OrderStatus.PAID), eq(1L), eq(3L), any(), any());
+        verify(orderRollupRepository).increment(eq(RollupGranularity.DAY), eq(LocalDateTime.of(2024, 3, 10, 0, 0)),
+                eq(2L), eq(OrderStatus.PAID), eq(1L), eq(3L), any(), any());
+        verify(orderRollupRepository, never()).saveAndFlush(any(OrderRollup.class));
+    }
+
+    @Test
+    @DisplayName("신규 주문 - 집계 행이 없으면 새로 생성")
+    void recordCreated_InsertsMissingRows() {
+        when(orderRepository.claimRollupDelta(1L)).thenReturn(1);
+        when(orderRollupRepository.increment(any(), any(), anyLong(), any(), anyLong(), anyLong(), any(), any()))
+                .thenReturn(0);
+
+        orderRollupService.recordCreated(testOrder);
+
+        ArgumentCaptor<OrderRollup> captor = ArgumentCaptor.forClass(OrderRollup.class);
+        verify(orderRollupRepository, times(4)).saveAndFlush(captor.capture());
+        assertThat(captor.getAllValues()).extracting(OrderRollup::getGranularity)
+                .containsExactly(RollupGranularity.HOUR, RollupGranularity.DAY, RollupGranularity.HOUR, RollupGranularity.DAY);
+    }
+
+    @Test
+    @DisplayName("주문 취소 - 이전 상태에서 빼고 취소 상태에 더함")
+    void recordStatusChange_MovesBetweenStatuses() {
+        when(orderRepository.claimRollupDelta(1L)).thenReturn(1);
+        when(orderRollupRepository.increment(any(), any(), anyLong(), any(), anyLong(), anyLong(), any(), any()))
+                .thenReturn(1);
+        testOrder.setStatus(OrderStatus.CANCELLED);
+
+        orderRollupService.recordStatusChange(testOrder, OrderStatus.PAID);
+
+        verify(orderRollupRepository).increment(eq(RollupGranularity.DAY), any(), eq(1L), eq(OrderStatus.PAID),
+                eq(-1L), eq(-3L), eq(new BigDecimal("-150.00")), any());
+        verify(orderRollupRepository).increment(eq(RollupGranularity.DAY), any(), eq(1L), eq(OrderStatus.CANCELLED),
+                eq(1L), eq(3L), eq(new BigDecimal("150.00")), any());
+    }
+
+    @Test
+    @DisplayName("동시 INSERT 충돌 시 새 트랜잭션에서 재시도")
+    void recordCreated_RetriesOnUniqueViolation() {
+        when(orderRepository.claimRollupDelta(1L)).thenReturn(1);
+        when(orderRollupRepository.increment(any(), any(), anyLong(), any(), anyLong(), anyLong(), any(), any()))
+                .thenReturn(0)
+                .thenReturn(1);
+        when(orderRollupRepository.saveAndFlush(any(OrderRollup.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_order_rollups_bucket"));
+
+        orderRollupService.recordCreated(testOrder);
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+        verify(orderRollupRepository, times(1)).saveAndFlush(any(OrderRollup.class));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 이후에 반영")
+    void recordCreated_AfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        orderRollupService.recordCreated(testOrder);
+        verify(orderRollupRepository, never()).increment(any(), any(), anyLong(), any(), anyLong(), anyLong(), any(), any());
+
+        when(orderRepository.claimRollupDelta(1L)).thenReturn(1);
+        when(orderRollupRepository.increment(any(), any(), anyLong(), any(), anyLong(), anyLong(), any(), any()))
+                .thenReturn(1);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(orderRollupRepository, times(4))
+                .increment(any(), any(), anyLong(), any(), anyLong(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("주문 트랜잭션은 주문 행에 증분 대기 표시를 남긴다")
+    void recordCreated_MarksOrderPending() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        orderRollupService.recordCreated(testOrder);
+        testOrder.setStatus(OrderStatus.CANCELLED);
+        orderRollupService.recordStatusChange(testOrder, OrderStatus.PAID);
+        orderRollupService.recordStatusChange(testOrder, OrderStatus.CANCELLED);
+
+        assertThat(testOrder.getRollupPendingDeltas()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재구성이 대기 표시를 비운 주문의 늦은 증분은 반영하지 않는다")
+    void recordCreated_SkipsOrderAlreadyRebuilt() {
+        when(orderRepository.claimRollupDelta(1L)).thenReturn(0);
+
+        orderRollupService.recordCreated(testOrder);
+
+        verify(orderRollupRepository, never()).increment(any(), any(), anyLong(), any(), anyLong(), anyLong(), any(), any());
+        verify(orderRollupRepository, never()).saveAndFlush(any(OrderRollup.class));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("시간 단위 조회 기간 초과 시 예외")
+    void getRollups_HourlyRangeTooLong() {
+        assertThatThrownBy(() -> orderRollupService.getRollups(RollupGranularity.HOUR,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 1), null))
+                .isInstanceOf(OrderException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_ROLLUP_RANGE);
+    }
+
+    private OrderItem orderItem(Long productId, int quantity, String totalPrice) {
+        Product product = new Product();
+        product.setId(productId);
+
+        OrderItem item = new OrderItem();
+        item.setProduct(product);
+        item.setQuantity(quantity);
+        item.setTotalPrice(new BigDecimal(totalPrice));
+        return item;
+    }
+}
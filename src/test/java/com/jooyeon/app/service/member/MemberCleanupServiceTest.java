@@ -3,14 +3,17 @@ package com.jooyeon.app.service.member;
 import com.jooyeon.app.domain.entity.member.Member;
 import com.jooyeon.app.domain.entity.member.MemberStatus;
 import com.jooyeon.app.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
@@ -28,6 +31,9 @@ class MemberCleanupServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Spy
+    private MemberStatusCache memberStatusCache = new MemberStatusCache(new SimpleMeterRegistry(), 1 << 20, Duration.ofMinutes(5));
+
     @InjectMocks
     private MemberCleanupService memberCleanupService;
 
@@ -79,6 +85,25 @@ class MemberCleanupServiceTest {
         verify(memberRepository).delete(expiredMember2);
     }
 
+    @Test
+    @DisplayName("삭제된 회원은 회원 상태 캐시에서 제거된다")
+    void cleanupExpiredWithdrawnMembers_EvictsStatusCache() {
+        // given
+        memberStatusCache.putIfAbsent(1L, MemberStatus.WITHDRAWN);
+        memberStatusCache.putIfAbsent(3L, MemberStatus.WITHDRAWN);
+        when(memberRepository.countMembersWithdrawnBefore(eq(MemberStatus.WITHDRAWN), any(LocalDateTime.class)))
+                .thenReturn(1L);
+        when(memberRepository.findMembersWithdrawnBefore(eq(MemberStatus.WITHDRAWN), any(LocalDateTime.class)))
+                .thenReturn(Collections.singletonList(expiredMember1));
+
+        // when
+        memberCleanupService.cleanupExpiredWithdrawnMembers();
+
+        // then
+        assertThat(memberStatusCache.get(1L)).isNull();
+        assertThat(memberStatusCache.get(3L)).isEqualTo(MemberStatus.WITHDRAWN);
+    }
+
     @Test
     @DisplayName("삭제 대상 회원이 없을 때 정상적으로 처리된다")
     void cleanupExpiredWithdrawnMembers_NoTargetsFound() {
@@ -1,22 +1,28 @@
 package com.jooyeon.app.service.member;
 
+import com.jooyeon.app.common.encryption.EncryptionUtil;
 import com.jooyeon.app.common.exception.ErrorCode;
 import com.jooyeon.app.common.exception.MemberException;
 import com.jooyeon.app.domain.dto.member.MemberRegistrationDto;
 import com.jooyeon.app.domain.dto.member.MemberResponseDto;
+import com.jooyeon.app.domain.dto.member.MemberStatusView;
 import com.jooyeon.app.domain.dto.member.MemberWithdrawalRequestDto;
 import com.jooyeon.app.domain.entity.member.Member;
 import com.jooyeon.app.domain.entity.member.MemberStatus;
 import com.jooyeon.app.domain.entity.member.Gender;
 import com.jooyeon.app.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -32,6 +38,12 @@ class MemberServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private EncryptionUtil encryptionUtil;
+
+    @Spy
+    private MemberStatusCache memberStatusCache = new MemberStatusCache(new SimpleMeterRegistry(), 1 << 20, Duration.ofMinutes(5));
+
     @InjectMocks
     private MemberService memberService;
 
@@ -58,6 +70,7 @@ class MemberServiceTest {
         activeMember.setMemberStatus(MemberStatus.ACTIVE);
         activeMember.setCreatedAt(LocalDateTime.now());
         activeMember.setUpdatedAt(LocalDateTime.now());
+        activeMember.setVersion(3L);
 
         withdrawnMember = new Member();
         withdrawnMember.setId(2L);
@@ -99,6 +112,22 @@ class MemberServiceTest {
         verify(memberRepository, never()).save(any(Member.class));
     }
 
+    @Test
+    @DisplayName("이미 가입된 전화번호로 회원가입 시 예외가 발생한다")
+    void registerMember_DuplicatePhoneNumber() {
+        // given
+        when(memberRepository.existsByUserId(registrationDto.getUserId())).thenReturn(false);
+        when(encryptionUtil.blindIndex("01012345678")).thenReturn("phone-hash");
+        when(memberRepository.existsByPhoneNumberHash("phone-hash")).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> memberService.registerMember(registrationDto))
+                .isInstanceOf(MemberException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.MEMBER_ALREADY_EXISTS);
+
+        verify(memberRepository, never()).save(any(Member.class));
+    }
+
     @Test
     @DisplayName("userId로 회원 인증이 정상적으로 처리된다")
     void authenticateMember_Success() {
@@ -153,15 +182,36 @@ class MemberServiceTest {
         withdrawalRequest.setWithdrawalReason("개인 사정");
 
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(activeMember));
-        when(memberRepository.save(any(Member.class))).thenReturn(activeMember);
+        when(memberRepository.save(any(Member.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
         MemberResponseDto result = memberService.requestWithdrawal(memberId, withdrawalRequest);
 
         // then
         assertThat(result).isNotNull();
+        assertThat(result.getMemberId()).isEqualTo(memberId);
+        assertThat(result.getWithdrawalRequestedAt()).isNotNull();
+        assertThat(activeMember.getMemberStatus()).isEqualTo(MemberStatus.PENDING_WITHDRAWAL);
+        assertThat(activeMember.getWithdrawnAt()).isEqualTo(result.getWithdrawalRequestedAt());
         verify(memberRepository).findById(memberId);
-        verify(memberRepository).save(any(Member.class));
+        verify(memberRepository).save(activeMember);
+    }
+
+    @Test
+    @DisplayName("탈퇴 요청 중 회원 상태가 동시에 변경되면 실패한다")
+    void requestWithdrawal_ConcurrentUpdate() {
+        // given
+        Long memberId = 1L;
+        when(memberRepository.findById(memberId)).thenReturn(Optional.of(activeMember));
+        when(memberRepository.save(any(Member.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Member.class, memberId));
+
+        // when & then
+        assertThatThrownBy(() -> memberService.requestWithdrawal(memberId, new MemberWithdrawalRequestDto()))
+                .isInstanceOf(MemberException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.WITHDRAWAL_REQUEST_FAILED);
+
+        assertThat(memberStatusCache.get(memberId)).isNull();
     }
 
     @Test
@@ -215,14 +265,15 @@ class MemberServiceTest {
     void isMemberActive_Success() {
         // given
         Long memberId = 1L;
-        when(memberRepository.findById(memberId)).thenReturn(Optional.of(activeMember));
+        when(memberRepository.findStatusById(memberId)).thenReturn(Optional.of(statusView(activeMember)));
 
         // when
         boolean result = memberService.isMemberActive(memberId);
 
         // then
         assertThat(result).isTrue();
-        verify(memberRepository).findById(memberId);
+        verify(memberRepository).findStatusById(memberId);
+        verify(memberRepository, never()).findById(any());
     }
 
     @Test
@@ -230,14 +281,14 @@ class MemberServiceTest {
     void isMemberActive_InactiveMember() {
         // given
         Long memberId = 2L;
-        when(memberRepository.findById(memberId)).thenReturn(Optional.of(withdrawnMember));
+        when(memberRepository.findStatusById(memberId)).thenReturn(Optional.of(statusView(withdrawnMember)));
 
         // when
         boolean result = memberService.isMemberActive(memberId);
 
         // then
         assertThat(result).isFalse();
-        verify(memberRepository).findById(memberId);
+        verify(memberRepository).findStatusById(memberId);
     }
 
     @Test
@@ -245,14 +296,53 @@ class MemberServiceTest {
     void isMemberActive_MemberNotFound() {
         // given
         Long memberId = 999L;
-        when(memberRepository.findById(memberId)).thenReturn(Optional.empty());
+        when(memberRepository.findStatusById(memberId)).thenReturn(Optional.empty());
 
         // when
         boolean result = memberService.isMemberActive(memberId);
 
         // then
         assertThat(result).isFalse();
-        verify(memberRepository).findById(memberId);
+        verify(memberRepository).findStatusById(memberId);
+    }
+
+    @Test
+    @DisplayName("한 번 확인한 회원 상태는 캐시에서 판단한다")
+    void isMemberActive_CachedAfterFirstLookup() {
+        // given
+        Long memberId = 1L;
+        when(memberRepository.findStatusById(memberId)).thenReturn(Optional.of(statusView(activeMember)));
+
+        // when
+        boolean first = memberService.isMemberActive(memberId);
+        boolean second = memberService.isMemberActive(memberId);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(memberRepository, times(1)).findStatusById(memberId);
+    }
+
+    @Test
+    @DisplayName("탈퇴 요청과 취소는 회원 상태 캐시에 즉시 반영된다")
+    void withdrawalAndCancel_UpdateStatusCache() {
+        // given
+        Long memberId = 1L;
+        when(memberRepository.findStatusById(memberId)).thenReturn(Optional.of(statusView(activeMember)));
+        when(memberRepository.findById(memberId)).thenReturn(Optional.of(activeMember));
+        when(memberRepository.save(any(Member.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        assertThat(memberService.isMemberActive(memberId)).isTrue();
+
+        // when & then
+        memberService.requestWithdrawal(memberId, new MemberWithdrawalRequestDto());
+        assertThat(memberStatusCache.get(memberId)).isEqualTo(MemberStatus.PENDING_WITHDRAWAL);
+        assertThat(memberService.isMemberActive(memberId)).isFalse();
+
+        memberService.cancelWithdrawal(memberId);
+        assertThat(memberStatusCache.get(memberId)).isEqualTo(MemberStatus.ACTIVE);
+        assertThat(memberService.isMemberActive(memberId)).isTrue();
+
+        verify(memberRepository, times(1)).findStatusById(memberId);
     }
 
     @Test
@@ -285,4 +375,8 @@ class MemberServiceTest {
 
         verify(memberRepository).findById(memberId);
     }
-}
\ No newline at end of file
+
+    private static MemberStatusView statusView(Member member) {
+        return new MemberStatusView(member.getId(), member.getMemberStatus(), member.getVersion(), member.getWithdrawnAt());
+    }
+}
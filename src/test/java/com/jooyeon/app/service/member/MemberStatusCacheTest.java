@@ -0,0 +1,123 @@
+package com.jooyeon.app.service.member;
+
+import com.jooyeon.app.domain.entity.member.MemberStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MemberStatusCache 테스트")
+class MemberStatusCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong nanoTime;
+    private MemberStatusCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        nanoTime = new AtomicLong();
+        cache = new MemberStatusCache(meterRegistry, 1 << 16, TTL, nanoTime::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("조회 경로의 채우기는 이미 캐시된 상태를 덮어쓰지 않는다")
+    void putIfAbsent_KeepsExistingStatus() {
+        assertThat(cache.get(1000L)).isNull();
+
+        cache.putIfAbsent(1000L, MemberStatus.ACTIVE);
+        cache.putIfAbsent(1000L, MemberStatus.WITHDRAWN);
+
+        assertThat(cache.get(1000L)).isEqualTo(MemberStatus.ACTIVE);
+        assertThat(cache.get(1001L)).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(meterRegistry.get("member.status.cache.requests").tag("result", "hit").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("member.status.cache.requests").tag("result", "miss").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("상태 변경과 삭제는 커밋 이후에 반영된다")
+    void updateAndEvict_AppliedAfterCommit() {
+        cache.putIfAbsent(1000L, MemberStatus.ACTIVE);
+        cache.putIfAbsent(1001L, MemberStatus.ACTIVE);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.update(1000L, MemberStatus.PENDING_WITHDRAWAL);
+        cache.evict(1001L);
+        assertThat(cache.get(1000L)).isEqualTo(MemberStatus.ACTIVE);
+        assertThat(cache.get(1001L)).isEqualTo(MemberStatus.ACTIVE);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cache.get(1000L)).isEqualTo(MemberStatus.PENDING_WITHDRAWAL);
+        assertThat(cache.get(1001L)).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 회원 ID 는 캐시하지 않는다")
+    void outOfRangeIds_NotCached() {
+        cache.putIfAbsent(0L, MemberStatus.ACTIVE);
+        cache.putIfAbsent(-1L, MemberStatus.ACTIVE);
+        cache.update(1L << 16, MemberStatus.ACTIVE);
+
+        assertThat(cache.get(0L)).isNull();
+        assertThat(cache.get(-1L)).isNull();
+        assertThat(cache.get(1L << 16)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상태 청크는 처음 쓰일 때만 할당된다")
+    void chunks_AllocatedLazily() {
+        cache.evict(1000L);
+        assertThat(meterRegistry.get("member.status.cache.memory").gauge().value()).isZero();
+
+        cache.putIfAbsent(1000L, MemberStatus.ACTIVE);
+        cache.putIfAbsent(2000L, MemberStatus.ACTIVE);
+        cache.putIfAbsent(5000L, MemberStatus.ACTIVE);
+
+        assertThat(meterRegistry.get("member.status.cache.memory").gauge().value()).isEqualTo(2.0 * 4096);
+        assertThat(meterRegistry.get("member.status.cache.size").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 청크는 비어 있는 것으로 보고 조회 경로가 다시 채운다")
+    void expiredChunk_RefilledFromLookup() {
+        cache.putIfAbsent(1000L, MemberStatus.ACTIVE);
+        cache.putIfAbsent(1001L, MemberStatus.ACTIVE);
+
+        nanoTime.addAndGet(TTL.toNanos() - 1);
+        cache.putIfAbsent(1000L, MemberStatus.WITHDRAWN);
+        assertThat(cache.get(1000L)).isEqualTo(MemberStatus.ACTIVE);
+
+        nanoTime.addAndGet(1);
+        assertThat(cache.get(1000L)).isNull();
+        assertThat(cache.get(1001L)).isNull();
+
+        cache.putIfAbsent(1000L, MemberStatus.WITHDRAWN);
+        assertThat(cache.get(1000L)).isEqualTo(MemberStatus.WITHDRAWN);
+        assertThat(cache.get(1001L)).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(meterRegistry.get("member.status.cache.memory").gauge().value()).isEqualTo(4096.0);
+    }
+}
@@ -0,0 +1,113 @@
+package com.jooyeon.app.service.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jooyeon.app.common.exception.ErrorCode;
+import com.jooyeon.app.common.exception.OrderException;
+import com.jooyeon.app.domain.dto.order.OrderExportFormat;
+import com.jooyeon.app.domain.dto.order.OrderExportRow;
+import com.jooyeon.app.domain.entity.order.OrderStatus;
+import com.jooyeon.app.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderExportService 테스트")
+class OrderExportServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private OrderExportService orderExportService;
+    private AtomicBoolean streamClosed;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        orderExportService = new OrderExportService(orderRepository, objectMapper);
+        streamClosed = new AtomicBoolean(false);
+    }
+
+    @Test
+    @DisplayName("NDJSON - 행마다 한 줄의 JSON 기록, 기간은 종료일 다음 날 0시 미만")
+    void exportOrders_Ndjson() {
+        // given
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 31);
+        when(orderRepository.streamExportRowsByMemberId(1L, from.atStartOfDay(), LocalDate.of(2024, 2, 1).atStartOfDay()))
+                .thenReturn(rows());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = orderExportService.exportOrders(1L, from, to, OrderExportFormat.NDJSON, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"orderId\":10", "\"productName\":\"Laptop Computer\"", "\"orderedAt\":\"2024-01-05T10:00:00\"");
+        assertThat(lines[1]).contains("\"productName\":\"Mouse, \\\"Wireless\\\"\"");
+        assertThat(streamClosed).isTrue();
+    }
+
+    @Test
+    @DisplayName("CSV - 헤더와 이스케이프된 행 기록")
+    void exportOrders_Csv() {
+        // given
+        when(orderRepository.streamExportRowsByMemberId(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(rows());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        orderExportService.exportOrders(1L, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), OrderExportFormat.CSV, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).containsExactly(
+                "orderId,orderedAt,status,orderTotalAmount,paymentId,productId,productName,quantity,unitPrice,totalPrice",
+                "10,2024-01-05T10:00,PAID,1329.98,100,1,Laptop Computer,1,1299.99,1299.99",
+                "10,2024-01-05T10:00,PAID,1329.98,100,2,\"Mouse, \"\"Wireless\"\"\",1,29.99,29.99");
+        assertThat(streamClosed).isTrue();
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일 이후이면 예외")
+    void exportOrders_InvalidRange() {
+        assertThatThrownBy(() -> orderExportService.exportOrders(1L, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1),
+                OrderExportFormat.NDJSON, new ByteArrayOutputStream()))
+                .isInstanceOf(OrderException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_ORDER_EXPORT_RANGE);
+
+        verify(orderRepository, never()).streamExportRowsByMemberId(anyLong(), any(), any());
+    }
+
+    private Stream<OrderExportRow> rows() {
+        LocalDateTime orderedAt = LocalDateTime.of(2024, 1, 5, 10, 0);
+        return Stream.of(
+                new OrderExportRow(10L, orderedAt, OrderStatus.PAID, new BigDecimal("1329.98"), 100L,
+                        1L, "Laptop Computer", 1, new BigDecimal("1299.99"), new BigDecimal("1299.99")),
+                new OrderExportRow(10L, orderedAt, OrderStatus.PAID, new BigDecimal("1329.98"), 100L,
+                        2L, "Mouse, \"Wireless\"", 1, new BigDecimal("29.99"), new BigDecimal("29.99"))
+        ).onClose(() -> streamClosed.set(true));
+    }
+}
@@ -0,0 +1,175 @@
+package com.jooyeon.app.service.order;
+
+import com.jooyeon.app.domain.dto.order.OrderResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OrderHistoryCache 테스트")
+class OrderHistoryCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderHistoryCache orderHistoryCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        orderHistoryCache = new OrderHistoryCache(meterRegistry, 100, 3, 50, Duration.ofMinutes(10));
+        loadCount = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 페이지 재조회는 캐시에서 반환")
+    void getOrLoad_Hit() {
+        Pageable pageable = PageRequest.of(0, 20);
+
+        Page<OrderResponseDto> first = orderHistoryCache.getOrLoad(1L, pageable, loader(pageable));
+        Page<OrderResponseDto> second = orderHistoryCache.getOrLoad(1L, pageable, loader(pageable));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(requestCount("hit")).isEqualTo(1);
+        assertThat(requestCount("miss")).isEqualTo(1);
+        assertThat(meterRegistry.get("order.history.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("앞쪽 N 페이지를 벗어나거나 정렬이 지정되면 캐시하지 않음")
+    void getOrLoad_BypassUncacheablePages() {
+        Pageable deepPage = PageRequest.of(3, 20);
+        Pageable sorted = PageRequest.of(0, 20, Sort.by("totalAmount"));
+
+        orderHistoryCache.getOrLoad(1L, deepPage, loader(deepPage));
+        orderHistoryCache.getOrLoad(1L, deepPage, loader(deepPage));
+        orderHistoryCache.getOrLoad(1L, sorted, loader(sorted));
+
+        assertThat(loadCount.get()).isEqualTo(3);
+        assertThat(requestCount("bypass")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("회원 무효화 시 해당 회원의 페이지만 다시 조회")
+    void evict_OnlyTargetMember() {
+        Pageable pageable = PageRequest.of(0, 20);
+        orderHistoryCache.getOrLoad(1L, pageable, loader(pageable));
+        orderHistoryCache.getOrLoad(2L, pageable, loader(pageable));
+
+        orderHistoryCache.evict(1L);
+        orderHistoryCache.getOrLoad(1L, pageable, loader(pageable));
+        orderHistoryCache.getOrLoad(2L, pageable, loader(pageable));
+
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서의 무효화는 커밋 이후에 반영")
+    void evict_AfterCommit() {
+        Pageable pageable = PageRequest.of(0, 20);
+        orderHistoryCache.getOrLoad(1L, pageable, loader(pageable));
+
+        TransactionSynchronizationManager.initSynchronization();
+        orderHistoryCache.evict(1L);
+
+        // 커밋 전에는 기존 캐시 유지
+        orderHistoryCache.getOrLoad(1L, pageable, loader(pageable));
+        assertThat(loadCount.get()).isEqualTo(1);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        orderHistoryCache.getOrLoad(1L, pageable, loader(pageable));
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시 miss 는 한 번만 로드")
+    void getOrLoad_StampedeProtection() throws Exception {
+        Pageable pageable = PageRequest.of(0, 20);
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        Supplier<Page<OrderResponseDto>> slowLoader = () -> {
+            loaderStarted.countDown();
+            try {
+                releaseLoader.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return loader(pageable).get();
+        };
+
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<Page<OrderResponseDto>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> orderHistoryCache.getOrLoad(1L, pageable, slowLoader)));
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i < threadCount; i++) {
+                results.add(executor.submit(() -> orderHistoryCache.getOrLoad(1L, pageable, slowLoader)));
+            }
+            releaseLoader.countDown();
+
+            Page<OrderResponseDto> first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Page<OrderResponseDto>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+            assertThat(loadCount.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("로드 실패는 캐시하지 않음")
+    void getOrLoad_FailureNotCached() {
+        Pageable pageable = PageRequest.of(0, 20);
+
+        assertThatThrownBy(() -> orderHistoryCache.getOrLoad(1L, pageable, () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        orderHistoryCache.getOrLoad(1L, pageable, loader(pageable));
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    private Supplier<Page<OrderResponseDto>> loader(Pageable pageable) {
+        return () -> {
+            loadCount.incrementAndGet();
+            return new PageImpl<>(List.of(new OrderResponseDto()), pageable, 1);
+        };
+    }
+
+    private double requestCount(String result) {
+        return meterRegistry.get("order.history.cache.requests").tag("result", result).counter().count();
+    }
+}
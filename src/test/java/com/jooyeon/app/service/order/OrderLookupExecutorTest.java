@@ -0,0 +1,132 @@
+package com.jooyeon.app.service.order;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OrderLookupExecutor 테스트")
+class OrderLookupExecutorTest {
+
+    private ExecutorService pool;
+    private OrderLookupExecutor lookupExecutor;
+
+    @BeforeEach
+    void setUp() {
+        pool = Executors.newFixedThreadPool(1);
+        lookupExecutor = new OrderLookupExecutor(pool, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("모든 조회가 성공하면 결과를 그대로 사용할 수 있다")
+    void awaitAll_Success() {
+        CompletableFuture<String> member = lookupExecutor.submit(() -> "member");
+        CompletableFuture<Integer> products = lookupExecutor.submit(() -> 2);
+
+        lookupExecutor.awaitAll(member, products);
+
+        assertThat(member.join()).isEqualTo("member");
+        assertThat(products.join()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("하나가 실패하면 느린 조회를 기다리지 않고 원래 예외를 던지며 대기 중인 조회는 실행하지 않는다")
+    void awaitAll_FailFast() {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean queuedLookupRan = new AtomicBoolean();
+
+        CompletableFuture<String> failing = CompletableFuture.failedFuture(new IllegalArgumentException("member not found"));
+        CompletableFuture<String> slow = lookupExecutor.submit(() -> {
+            await(release);
+            return "slow";
+        });
+        CompletableFuture<String> queued = lookupExecutor.submit(() -> {
+            queuedLookupRan.set(true);
+            return "queued";
+        });
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> lookupExecutor.awaitAll(slow, failing, queued))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("member not found");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        release.countDown();
+
+        assertThat(elapsedMillis).isLessThan(1000);
+        assertThat(slow.isCancelled()).isTrue();
+        assertThat(queued.isCancelled()).isTrue();
+        assertThat(queuedLookupRan).isFalse();
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 끝나지 않으면 조회를 취소한다")
+    void awaitAll_Timeout() {
+        OrderLookupExecutor shortTimeout = new OrderLookupExecutor(pool, Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> slow = shortTimeout.submit(() -> {
+            await(release);
+            return "slow";
+        });
+
+        assertThatThrownBy(() -> shortTimeout.awaitAll(slow))
+                .isInstanceOf(IllegalStateException.class);
+        release.countDown();
+
+        assertThat(slow.isCancelled()).isTrue();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 실행 수와 대기 시간은 커넥션 풀 설정에서 정해진다")
+    void poolDerivedSettings() {
+        assertThat(OrderLookupExecutor.lookupParallelism(0, 10)).isEqualTo(5);
+        assertThat(OrderLookupExecutor.lookupParallelism(16, 10)).isEqualTo(9);
+        assertThat(OrderLookupExecutor.lookupParallelism(4, 10)).isEqualTo(4);
+        assertThat(OrderLookupExecutor.lookupParallelism(0, 1)).isEqualTo(1);
+
+        assertThat(OrderLookupExecutor.lookupTimeout(Duration.ZERO, Duration.ofSeconds(30)))
+                .isEqualTo(Duration.ofSeconds(30).plus(OrderLookupExecutor.LOOKUP_TIMEOUT_MARGIN));
+        assertThat(OrderLookupExecutor.lookupTimeout(Duration.ofSeconds(3), Duration.ofSeconds(30)))
+                .isEqualTo(Duration.ofSeconds(3));
+    }
+
+    @Test
+    @DisplayName("Java 21 미만에서 가상 스레드 모드를 켜면 플랫폼 스레드 풀로 대체한다")
+    void createExecutor_VirtualThreadsFallback() {
+        Executor fallback = OrderLookupExecutor.createExecutor(2, true, 17);
+        try {
+            assertThat(fallback).isInstanceOf(ExecutorService.class);
+
+            OrderLookupExecutor lookups = new OrderLookupExecutor(fallback, Duration.ofSeconds(5));
+            CompletableFuture<String> threadName = lookups.submit(() -> Thread.currentThread().getName());
+            lookups.awaitAll(threadName);
+            assertThat(threadName.join()).startsWith("order-lookup-");
+        } finally {
+            ((ExecutorService) fallback).shutdownNow();
+        }
+    }
+}
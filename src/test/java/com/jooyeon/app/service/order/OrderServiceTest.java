@@ -2,16 +2,23 @@ package com.jooyeon.app.service.order;
 
 import com.jooyeon.app.common.exception.ErrorCode;
 import com.jooyeon.app.common.exception.OrderException;
+import com.jooyeon.app.common.outbox.OutboxService;
 import com.jooyeon.app.domain.dto.order.OrderCreateRequestDto;
+import com.jooyeon.app.domain.dto.order.OrderCursor;
 import com.jooyeon.app.domain.dto.order.OrderResponseDto;
+import com.jooyeon.app.domain.dto.order.OrderSliceResponseDto;
+import com.jooyeon.app.domain.dto.outbox.OrderEventPayload;
+import com.jooyeon.app.domain.entity.common.OutboxEventType;
 import com.jooyeon.app.domain.entity.member.Member;
 import com.jooyeon.app.domain.entity.member.MemberStatus;
 import com.jooyeon.app.domain.entity.order.Order;
 import com.jooyeon.app.domain.entity.order.OrderItem;
 import com.jooyeon.app.domain.entity.order.OrderStatus;
+import com.jooyeon.app.domain.entity.payment.Payment;
 import com.jooyeon.app.domain.entity.product.Product;
 import com.jooyeon.app.domain.entity.product.ProductStatus;
 import com.jooyeon.app.repository.OrderRepository;
+import com.jooyeon.app.service.analytics.OrderRollupService;
 import com.jooyeon.app.service.member.MemberService;
 import com.jooyeon.app.service.payment.PaymentService;
 import com.jooyeon.app.service.product.ProductService;
@@ -21,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -28,11 +36,13 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -56,6 +66,21 @@ class OrderServiceTest {
     @Mock
     private PaymentService paymentService;
 
+    @Mock
+    private OrderSummaryService orderSummaryService;
+
+    @Mock
+    private OrderHistoryCache orderHistoryCache;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private OrderRollupService orderRollupService;
+
+    @Spy
+    private OrderLookupExecutor orderLookupExecutor = new OrderLookupExecutor(Runnable::run, Duration.ofSeconds(1));
+
     @InjectMocks
     private OrderService orderService;
 
@@ -131,14 +156,16 @@ class OrderServiceTest {
     @DisplayName("주문 생성 - 성공")
     void createOrder_Success() {
         // given
-        when(orderRepository.findByIdempotencyKey("test-order-123")).thenReturn(Optional.empty());
+        when(orderRepository.findWithItemsByIdempotencyKey("test-order-123")).thenReturn(Optional.empty());
         when(memberService.findMemberEntityById(1L)).thenReturn(testMember);
         when(productService.getProductsByIds(Arrays.asList(1L, 2L)))
                 .thenReturn(Arrays.asList(testProduct1, testProduct2));
         doNothing().when(productService).checkStockAvailability(anyLong(), anyInt());
         doNothing().when(productService).reserveStock(anyLong(), anyInt());
         when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
-        when(paymentService.processPayment(anyLong(), any(BigDecimal.class))).thenReturn(100L);
+        Payment payment = new Payment();
+        payment.setId(100L);
+        when(paymentService.processOrderPayment(anyLong())).thenReturn(payment);
 
         // when
         OrderResponseDto result = orderService.createOrder(1L, orderCreateRequest);
@@ -151,20 +178,24 @@ class OrderServiceTest {
         assertThat(result.getTotalAmount()).isEqualTo(new BigDecimal("130.00"));
         // assertThat(result.getIdempotencyKey()).isEqualTo("test-order-123"); // OrderResponseDto에 없음
 
-        verify(orderRepository).findByIdempotencyKey("test-order-123");
+        verify(orderRepository).findWithItemsByIdempotencyKey("test-order-123");
         verify(memberService).findMemberEntityById(1L);
         verify(productService).getProductsByIds(Arrays.asList(1L, 2L));
         verify(productService, times(2)).checkStockAvailability(anyLong(), anyInt());
         verify(productService, times(2)).reserveStock(anyLong(), anyInt());
-        verify(paymentService).processPayment(anyLong(), any(BigDecimal.class));
-        verify(orderRepository, times(2)).save(any(Order.class));
+        verify(paymentService).processOrderPayment(anyLong());
+        verify(orderRepository, times(1)).save(any(Order.class));
+        verify(orderSummaryService).record(any(Order.class));
+        verify(orderHistoryCache).evict(1L);
+        verify(outboxService).append(eq(OutboxEventType.ORDER_CREATED), eq(1L), any(OrderEventPayload.class));
+        verify(orderRollupService).recordCreated(testOrder);
     }
 
     @Test
     @DisplayName("주문 생성 - 멱등성 키 중복")
     void createOrder_DuplicateIdempotencyKey() {
         // given
-        when(orderRepository.findByIdempotencyKey("test-order-123")).thenReturn(Optional.of(testOrder));
+        when(orderRepository.findWithItemsByIdempotencyKey("test-order-123")).thenReturn(Optional.of(testOrder));
 
         // when
         OrderResponseDto result = orderService.createOrder(1L, orderCreateRequest);
@@ -174,17 +205,20 @@ class OrderServiceTest {
         assertThat(result.getOrderId()).isEqualTo(1L);
         // assertThat(result.getIdempotencyKey()).isEqualTo("test-order-123"); // OrderResponseDto에 없음
 
-        verify(orderRepository).findByIdempotencyKey("test-order-123");
+        verify(orderRepository).findWithItemsByIdempotencyKey("test-order-123");
+        // 멱등성을 먼저 확인하므로 회원/상품 조회와 쓰기가 모두 발생하지 않는다
         verify(memberService, never()).findMemberEntityById(anyLong());
         verify(productService, never()).getProductsByIds(anyList());
+        verify(productService, never()).reserveStock(anyLong(), anyInt());
         verify(orderRepository, never()).save(any(Order.class));
+        verify(orderSummaryService, never()).record(any(Order.class));
     }
 
     @Test
     @DisplayName("주문 생성 - 상품을 찾을 수 없음")
     void createOrder_ProductNotFound() {
         // given
-        when(orderRepository.findByIdempotencyKey("test-order-123")).thenReturn(Optional.empty());
+        when(orderRepository.findWithItemsByIdempotencyKey("test-order-123")).thenReturn(Optional.empty());
         when(memberService.findMemberEntityById(1L)).thenReturn(testMember);
         when(productService.getProductsByIds(Arrays.asList(1L, 2L)))
                 .thenReturn(Collections.singletonList(testProduct1)); // 상품 2가 없음
@@ -201,7 +235,7 @@ class OrderServiceTest {
     @DisplayName("주문 생성 - 재고 부족")
     void createOrder_InsufficientStock() {
         // given
-        when(orderRepository.findByIdempotencyKey("test-order-123")).thenReturn(Optional.empty());
+        when(orderRepository.findWithItemsByIdempotencyKey("test-order-123")).thenReturn(Optional.empty());
         when(memberService.findMemberEntityById(1L)).thenReturn(testMember);
         when(productService.getProductsByIds(Arrays.asList(1L, 2L)))
                 .thenReturn(Arrays.asList(testProduct1, testProduct2));
@@ -220,13 +254,13 @@ class OrderServiceTest {
     @DisplayName("회원 주문 목록 조회 - 성공")
     void getOrdersByMember_Success() {
         // given
+        passThroughOrderHistoryCache();
         Long memberId = 1L;
         Pageable pageable = PageRequest.of(0, 10);
-        List<Order> orders = Arrays.asList(testOrder);
-        Page<Order> orderPage = new PageImpl<>(orders, pageable, 1);
+        Page<Long> orderIdPage = new PageImpl<>(Arrays.asList(1L), pageable, 1);
 
-        when(orderRepository.findByMemberIdOrderByCreatedAtDesc(memberId, pageable))
-                .thenReturn(orderPage);
+        when(orderRepository.findIdsByMemberId(memberId, pageable)).thenReturn(orderIdPage);
+        when(orderRepository.findAllWithItemsByIdIn(Arrays.asList(1L))).thenReturn(Arrays.asList(testOrder));
 
         // when
         Page<OrderResponseDto> result = orderService.getOrdersByMember(memberId, pageable);
@@ -237,7 +271,80 @@ class OrderServiceTest {
         assertThat(result.getContent().get(0).getOrderId()).isEqualTo(1L);
         assertThat(result.getTotalElements()).isEqualTo(1);
 
-        verify(orderRepository).findByMemberIdOrderByCreatedAtDesc(memberId, pageable);
+        verify(orderRepository).findIdsByMemberId(memberId, pageable);
+        verify(orderRepository).findAllWithItemsByIdIn(Arrays.asList(1L));
+    }
+
+    @Test
+    @DisplayName("회원 주문 목록 조회 - 주문이 없으면 상세 조회를 생략")
+    void getOrdersByMember_Empty() {
+        // given
+        passThroughOrderHistoryCache();
+        Long memberId = 1L;
+        Pageable pageable = PageRequest.of(0, 10);
+        when(orderRepository.findIdsByMemberId(memberId, pageable))
+                .thenReturn(new PageImpl<>(Collections.emptyList(), pageable, 0));
+
+        // when
+        Page<OrderResponseDto> result = orderService.getOrdersByMember(memberId, pageable);
+
+        // then
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getTotalElements()).isZero();
+        verify(orderRepository, never()).findAllWithItemsByIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("커서 기반 주문 목록 조회 - 다음 페이지가 있으면 마지막 주문 기준 커서를 반환")
+    void getOrdersByMemberCursor_HasNext() {
+        // given
+        Long memberId = 1L;
+        when(orderRepository.findLatestIdsByMemberId(memberId, PageRequest.of(0, 2)))
+                .thenReturn(Arrays.asList(1L, 2L));
+        when(orderRepository.findAllWithItemsByIdIn(Arrays.asList(1L))).thenReturn(Arrays.asList(testOrder));
+
+        // when
+        OrderSliceResponseDto result = orderService.getOrdersByMemberCursor(memberId, null, 1);
+
+        // then
+        assertThat(result.getOrders()).hasSize(1);
+        assertThat(result.isHasNext()).isTrue();
+
+        OrderCursor nextCursor = OrderCursor.decode(result.getNextCursor());
+        assertThat(nextCursor.getOrderId()).isEqualTo(testOrder.getId());
+        assertThat(nextCursor.getCreatedAt()).isEqualTo(testOrder.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("커서 기반 주문 목록 조회 - 커서 이후 주문을 seek 조회")
+    void getOrdersByMemberCursor_SeekFromCursor() {
+        // given
+        Long memberId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        String cursor = new OrderCursor(createdAt, 10L).encode();
+        when(orderRepository.findIdsByMemberIdBefore(memberId, createdAt, 10L, PageRequest.of(0, 21)))
+                .thenReturn(Arrays.asList(1L));
+        when(orderRepository.findAllWithItemsByIdIn(Arrays.asList(1L))).thenReturn(Arrays.asList(testOrder));
+
+        // when
+        OrderSliceResponseDto result = orderService.getOrdersByMemberCursor(memberId, cursor, 20);
+
+        // then
+        assertThat(result.getOrders()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        verify(orderRepository, never()).findLatestIdsByMemberId(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("커서 기반 주문 목록 조회 - 잘못된 커서")
+    void getOrdersByMemberCursor_InvalidCursor() {
+        // when & then
+        assertThatThrownBy(() -> orderService.getOrdersByMemberCursor(1L, "not-a-cursor", 20))
+                .isInstanceOf(OrderException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_ORDER_CURSOR);
+
+        verify(orderRepository, never()).findAllWithItemsByIdIn(anyList());
     }
 
     @Test
@@ -246,7 +353,7 @@ class OrderServiceTest {
         // given
         Long orderId = 1L;
         Long memberId = 1L;
-        when(orderRepository.findByIdAndMemberId(orderId, memberId))
+        when(orderRepository.findWithItemsByIdAndMemberId(orderId, memberId))
                 .thenReturn(Optional.of(testOrder));
 
         // when
@@ -257,7 +364,7 @@ class OrderServiceTest {
         assertThat(result.getOrderId()).isEqualTo(orderId);
         assertThat(result.getMemberId()).isEqualTo(memberId);
 
-        verify(orderRepository).findByIdAndMemberId(orderId, memberId);
+        verify(orderRepository).findWithItemsByIdAndMemberId(orderId, memberId);
     }
 
     @Test
@@ -266,7 +373,7 @@ class OrderServiceTest {
         // given
         Long orderId = 999L;
         Long memberId = 1L;
-        when(orderRepository.findByIdAndMemberId(orderId, memberId))
+        when(orderRepository.findWithItemsByIdAndMemberId(orderId, memberId))
                 .thenReturn(Optional.empty());
 
         // when & then
@@ -274,7 +381,7 @@ class OrderServiceTest {
                 .isInstanceOf(OrderException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_NOT_FOUND);
 
-        verify(orderRepository).findByIdAndMemberId(orderId, memberId);
+        verify(orderRepository).findWithItemsByIdAndMemberId(orderId, memberId);
     }
 
     @Test
@@ -299,6 +406,10 @@ class OrderServiceTest {
         verify(paymentService).cancelPayment(100L);
         verify(productService, times(2)).releaseStock(anyLong(), anyInt());
         verify(orderRepository).save(testOrder);
+        verify(orderSummaryService).refresh(testOrder);
+        verify(orderHistoryCache).evict(memberId);
+        verify(outboxService).append(eq(OutboxEventType.ORDER_CANCELLED), eq(orderId), any(OrderEventPayload.class));
+        verify(orderRollupService).recordStatusChange(testOrder, OrderStatus.PAID);
         assertThat(testOrder.getStatus()).isEqualTo(OrderStatus.CANCELLED);
     }
 
@@ -385,5 +496,13 @@ class OrderServiceTest {
         verify(orderRepository).findByIdAndMemberId(orderId, memberId);
         verify(paymentService).cancelPayment(100L);
         verify(orderRepository, never()).save(any(Order.class));
+        verify(orderSummaryService, never()).refresh(any(Order.class));
+        verify(outboxService, never()).append(any(), anyLong(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void passThroughOrderHistoryCache() {
+        when(orderHistoryCache.getOrLoad(anyLong(), any(Pageable.class), any()))
+                .thenAnswer(invocation -> ((Supplier<Page<OrderResponseDto>>) invocation.getArgument(2)).get());
     }
-}
\ No newline at end of file
+}
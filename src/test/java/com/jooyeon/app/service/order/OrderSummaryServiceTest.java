@@ -0,0 +1,156 @@
+package com.jooyeon.app.service.order;
+
+import com.jooyeon.app.domain.dto.order.OrderSummaryResponseDto;
+import com.jooyeon.app.domain.entity.member.Member;
+import com.jooyeon.app.domain.entity.order.Order;
+import com.jooyeon.app.domain.entity.order.OrderItem;
+import com.jooyeon.app.domain.entity.order.OrderStatus;
+import com.jooyeon.app.domain.entity.order.OrderSummary;
+import com.jooyeon.app.domain.entity.product.Product;
+import com.jooyeon.app.repository.OrderSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderSummaryService 단위 테스트")
+class OrderSummaryServiceTest {
+
+    @Mock
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @InjectMocks
+    private OrderSummaryService orderSummaryService;
+
+    private Order testOrder;
+
+    @BeforeEach
+    void setUp() {
+        Member member = new Member();
+        member.setId(1L);
+
+        testOrder = new Order();
+        testOrder.setId(10L);
+        testOrder.setMember(member);
+        testOrder.setStatus(OrderStatus.PAID);
+        testOrder.setTotalAmount(new BigDecimal("130.00"));
+        testOrder.setPaymentId(100L);
+        testOrder.setCreatedAt(LocalDateTime.now());
+        testOrder.setUpdatedAt(LocalDateTime.now());
+        testOrder.setItems(Arrays.asList(orderItem("테스트 상품 1", 2), orderItem("테스트 상품 2", 1)));
+    }
+
+    @Test
+    @DisplayName("주문 요약 생성 - 상품 요약 렌더링")
+    void record_RendersItemSummary() {
+        // when
+        orderSummaryService.record(testOrder);
+
+        // then
+        ArgumentCaptor<OrderSummary> captor = ArgumentCaptor.forClass(OrderSummary.class);
+        verify(orderSummaryRepository).save(captor.capture());
+
+        OrderSummary summary = captor.getValue();
+        assertThat(summary.getOrderId()).isEqualTo(10L);
+        assertThat(summary.getMemberId()).isEqualTo(1L);
+        assertThat(summary.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(summary.getItemCount()).isEqualTo(2);
+        assertThat(summary.getTotalQuantity()).isEqualTo(3);
+        assertThat(summary.getItemSummary()).isEqualTo("테스트 상품 1 x2, 테스트 상품 2 x1");
+        assertThat(summary.isNew()).isTrue();
+    }
+
+    @Test
+    @DisplayName("주문 요약 생성 - 긴 상품 요약은 컬럼 길이로 잘림")
+    void record_TruncatesLongItemSummary() {
+        // given
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(orderItem("아주 긴 이름의 테스트 상품 " + i, 1));
+        }
+        testOrder.setItems(items);
+
+        // when
+        OrderSummary summary = OrderSummary.from(testOrder);
+
+        // then
+        assertThat(summary.getItemSummary()).hasSize(500).endsWith("...");
+        assertThat(summary.getItemCount()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("주문 요약 갱신 - 기존 요약은 변경 감지로 갱신")
+    void refresh_ExistingSummary() {
+        // given
+        OrderSummary existing = OrderSummary.from(testOrder);
+        when(orderSummaryRepository.findById(10L)).thenReturn(Optional.of(existing));
+        testOrder.setStatus(OrderStatus.CANCELLED);
+
+        // when
+        orderSummaryService.refresh(testOrder);
+
+        // then
+        assertThat(existing.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        verify(orderSummaryRepository, never()).save(any(OrderSummary.class));
+    }
+
+    @Test
+    @DisplayName("주문 요약 갱신 - 요약이 없는 기존 주문은 새로 생성")
+    void refresh_MissingSummary() {
+        // given
+        when(orderSummaryRepository.findById(10L)).thenReturn(Optional.empty());
+
+        // when
+        orderSummaryService.refresh(testOrder);
+
+        // then
+        verify(orderSummaryRepository).save(any(OrderSummary.class));
+    }
+
+    @Test
+    @DisplayName("주문 요약 목록 조회")
+    void getOrderSummariesByMember() {
+        // given
+        Pageable pageable = PageRequest.of(0, 20);
+        when(orderSummaryRepository.findByMemberIdOrderByCreatedAtDescOrderIdDesc(1L, pageable))
+                .thenReturn(new PageImpl<>(List.of(OrderSummary.from(testOrder)), pageable, 1));
+
+        // when
+        Page<OrderSummaryResponseDto> result = orderSummaryService.getOrderSummariesByMember(1L, pageable);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent().get(0).getOrderId()).isEqualTo(10L);
+        assertThat(result.getContent().get(0).getItemSummary()).isEqualTo("테스트 상품 1 x2, 테스트 상품 2 x1");
+    }
+
+    private OrderItem orderItem(String productName, int quantity) {
+        Product product = new Product();
+        product.setName(productName);
+
+        OrderItem item = new OrderItem();
+        item.setProduct(product);
+        item.setQuantity(quantity);
+        return item;
+    }
+}
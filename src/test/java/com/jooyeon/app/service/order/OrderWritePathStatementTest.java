@@ -0,0 +1,126 @@
+package com.jooyeon.app.service.order;
+
+import com.jooyeon.app.domain.dto.order.OrderCreateRequestDto;
+import com.jooyeon.app.domain.dto.order.OrderResponseDto;
+import com.jooyeon.app.domain.entity.member.Gender;
+import com.jooyeon.app.domain.entity.member.Member;
+import com.jooyeon.app.domain.entity.member.MemberStatus;
+import com.jooyeon.app.domain.entity.order.OrderStatus;
+import com.jooyeon.app.domain.entity.product.Product;
+import com.jooyeon.app.domain.entity.product.ProductStatus;
+import com.jooyeon.app.repository.MemberRepository;
+import com.jooyeon.app.repository.ProductRepository;
+import com.jooyeon.app.service.payment.PaymentGateway;
+import com.jooyeon.app.support.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest(properties = SqlStatementCounter.PROPERTY)
+@ActiveProfiles("test")
+@DisplayName("주문 생성 쓰기 경로 SQL 문 수 테스트")
+class OrderWritePathStatementTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @MockBean
+    private PaymentGateway paymentGateway;
+
+    private Long memberId;
+    private List<Long> productIds;
+
+    @BeforeEach
+    void setUp() {
+        given(paymentGateway.approve(any())).willReturn(true);
+
+        LocalDateTime now = LocalDateTime.now();
+        Member member = new Member();
+        member.setUserId("writePath" + UUID.randomUUID().toString().substring(0, 8));
+        member.setName("쓰기 경로 테스트");
+        member.setPhoneNumber(String.format("010-8%03d-%04d",
+                ThreadLocalRandom.current().nextInt(1_000), ThreadLocalRandom.current().nextInt(10_000)));
+        member.setGender(Gender.MALE);
+        member.setBirthDate("1990-01-01");
+        member.setMemberStatus(MemberStatus.ACTIVE);
+        member.setCreatedAt(now);
+        member.setUpdatedAt(now);
+        memberId = memberRepository.save(member).getId();
+
+        productIds = List.of(
+                createProduct("Laptop", "1299.99", now).getId(),
+                createProduct("Mouse", "29.99", now).getId(),
+                createProduct("Keyboard", "89.99", now).getId());
+    }
+
+    @Test
+    @DisplayName("다중 항목 주문 생성은 테이블별 한 번의 INSERT 와 한 번의 주문 UPDATE 로 커밋된다")
+    void createOrder_FlushesEachTableOnce() {
+        // given - 시퀀스 할당, 쿼리 플랜 캐시 등 최초 호출 비용 제외
+        orderService.createOrder(memberId, request());
+        SqlStatementCounter.clear();
+
+        // when
+        OrderResponseDto result = orderService.createOrder(memberId, request());
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(result.getItems()).hasSize(productIds.size());
+
+        // order_rollups 와 증분 대기 표시 확인은 커밋 이후 별도 트랜잭션에서 반영되므로 주문 쓰기 경로에서 제외
+        List<String> writes = SqlStatementCounter.statements().stream()
+                .map(sql -> sql.trim().toLowerCase(Locale.ROOT))
+                .filter(sql -> sql.startsWith("insert") || sql.startsWith("update") || sql.startsWith("delete"))
+                .filter(sql -> !sql.contains("order_rollups"))
+                .filter(sql -> !sql.contains("rollup_pending_deltas - 1"))
+                .collect(Collectors.toList());
+
+        // orders <-> payments 상호 참조로 결제 ID 는 결제 INSERT 이후에만 알 수 있어 주문 UPDATE 1회는 남는다
+        assertThat(writes).hasSize(6);
+        assertThat(writes).filteredOn(sql -> sql.startsWith("insert into orders")).hasSize(1);
+        assertThat(writes).filteredOn(sql -> sql.startsWith("insert into order_items")).hasSize(1);
+        assertThat(writes).filteredOn(sql -> sql.startsWith("insert into payments")).hasSize(1);
+        assertThat(writes).filteredOn(sql -> sql.startsWith("insert into outbox_events")).hasSize(1);
+        assertThat(writes).filteredOn(sql -> sql.startsWith("insert into order_summaries")).hasSize(1);
+        assertThat(writes).filteredOn(sql -> sql.startsWith("update orders")).hasSize(1);
+    }
+
+    private OrderCreateRequestDto request() {
+        List<OrderCreateRequestDto.OrderItemDto> items = productIds.stream()
+                .map(productId -> new OrderCreateRequestDto.OrderItemDto(productId, 1))
+                .collect(Collectors.toList());
+        return new OrderCreateRequestDto(UUID.randomUUID().toString(), items);
+    }
+
+    private Product createProduct(String name, String price, LocalDateTime now) {
+        Product product = new Product();
+        product.setName(name);
+        product.setPrice(new BigDecimal(price));
+        product.setStatus(ProductStatus.AVAILABLE);
+        product.setCreatedAt(now);
+        product.setUpdatedAt(now);
+        return productRepository.save(product);
+    }
+}
@@ -0,0 +1,132 @@
+package com.jooyeon.app.service.product;
+
+import com.jooyeon.app.domain.entity.product.Product;
+import com.jooyeon.app.domain.entity.product.ProductStatus;
+import com.jooyeon.app.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ProductCatalogCache 테스트")
+class ProductCatalogCacheTest {
+
+    private ProductRepository productRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private ProductCatalogCache productCatalogCache;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        productCatalogCache = new ProductCatalogCache(productRepository, meterRegistry, 1000, Duration.ofHours(1), false, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("단건 조회는 처음 한 번만 DB를 조회하고 복사본을 반환한다")
+    void get_CachesAfterFirstLoad() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product(1L)));
+
+        Product first = productCatalogCache.get(1L).orElseThrow();
+        Product second = productCatalogCache.get(1L).orElseThrow();
+
+        assertThat(second.getName()).isEqualTo("상품 1");
+        assertThat(second).isNotSameAs(first);
+        verify(productRepository, times(1)).findById(1L);
+        assertThat(productCatalogCache.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("없는 상품은 캐시하지 않는다")
+    void get_NotFound() {
+        when(productRepository.findById(9L)).thenReturn(Optional.empty());
+
+        assertThat(productCatalogCache.get(9L)).isEmpty();
+        assertThat(productCatalogCache.get(9L)).isEmpty();
+
+        verify(productRepository, times(2)).findById(9L);
+    }
+
+    @Test
+    @DisplayName("다건 조회는 캐시에 없는 ID만 한 번에 조회하고 요청 순서대로 반환한다")
+    void getAll_LoadsOnlyMisses() {
+        when(productRepository.findById(2L)).thenReturn(Optional.of(product(2L)));
+        productCatalogCache.get(2L);
+        when(productRepository.findAllById(anyList())).thenReturn(List.of(product(3L), product(1L)));
+
+        List<Product> products = productCatalogCache.getAll(List.of(3L, 2L, 1L, 4L));
+
+        assertThat(products).extracting(Product::getId).containsExactly(3L, 2L, 1L);
+        verify(productRepository).findAllById(List.of(3L, 1L, 4L));
+        assertThat(meterRegistry.get("product.catalog.cache.load").tag("type", "bulk").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모두 캐시에 있으면 DB를 조회하지 않는다")
+    void getAll_AllHits() {
+        when(productRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(product(1L), product(2L)), PageRequest.of(0, 2), 3))
+                .thenReturn(new PageImpl<>(List.of(product(3L)), PageRequest.of(1, 2), 3));
+
+        assertThat(productCatalogCache.warmUp()).isEqualTo(3);
+        List<Product> products = productCatalogCache.getAll(List.of(1L, 2L, 3L));
+
+        assertThat(products).hasSize(3);
+        verify(productRepository, never()).findAllById(anyList());
+        verify(productRepository, times(2)).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서의 무효화는 커밋 이후에 반영된다")
+    void invalidate_AfterCommit() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product(1L)));
+        productCatalogCache.get(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        productCatalogCache.invalidate(1L);
+        productCatalogCache.get(1L);
+        verify(productRepository, times(1)).findById(1L);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        productCatalogCache.get(1L);
+
+        verify(productRepository, times(2)).findById(1L);
+    }
+
+    private static Product product(Long id) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("상품 " + id);
+        product.setPrice(new BigDecimal("10.00"));
+        product.setStatus(ProductStatus.AVAILABLE);
+        return product;
+    }
+}
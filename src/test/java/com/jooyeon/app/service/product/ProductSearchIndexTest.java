@@ -0,0 +1,151 @@
+package com.jooyeon.app.service.product;
+
+import com.jooyeon.app.domain.entity.product.Product;
+import com.jooyeon.app.domain.entity.product.ProductStatus;
+import com.jooyeon.app.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ProductSearchIndex 테스트")
+class ProductSearchIndexTest {
+
+    private ProductRepository productRepository;
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        index = new ProductSearchIndex(productRepository, false, 1000);
+        index.upsertNow(1L, "무선 마우스", "저소음 클릭", ProductStatus.AVAILABLE);
+        index.upsertNow(2L, "마우스", "유선", ProductStatus.AVAILABLE);
+        index.upsertNow(3L, "게이밍 키보드", "무선 마우스 호환", ProductStatus.AVAILABLE);
+        index.upsertNow(4L, "마우스 패드", null, ProductStatus.UNAVAILABLE);
+        index.upsertNow(5L, "Wireless Mouse", "Silent click", ProductStatus.AVAILABLE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("상품명 일치 > 상품명 포함 > 설명 포함 순으로 정렬하고 상태로 거른다")
+    void search_Ranked() {
+        assertThat(index.search("마우스", ProductStatus.AVAILABLE, 10)).containsExactly(2L, 1L, 3L);
+        assertThat(index.search("마우스", null, 10)).containsExactly(2L, 4L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("공백과 대소문자를 무시한다")
+    void search_Normalized() {
+        assertThat(index.search("무선마우스", ProductStatus.AVAILABLE, 10)).containsExactly(1L, 3L);
+        assertThat(index.search("MOUSE", ProductStatus.AVAILABLE, 10)).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("모든 2-gram 을 포함해도 연속된 문자열이 아니면 제외한다")
+    void search_VerifiesSubstring() {
+        index.upsertNow(6L, "마우 우스", null, ProductStatus.AVAILABLE);
+        index.upsertNow(7L, "우스마우", null, ProductStatus.AVAILABLE);
+
+        assertThat(index.search("마우스", ProductStatus.AVAILABLE, 10)).doesNotContain(6L, 7L);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색은 상품명만 대상으로 한다")
+    void search_SingleCharacter() {
+        assertThat(index.search("키", ProductStatus.AVAILABLE, 10)).containsExactly(3L);
+        assertThat(index.search("음", ProductStatus.AVAILABLE, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결과 수를 제한한다")
+    void search_Limit() {
+        assertThat(index.search("마우스", ProductStatus.AVAILABLE, 2)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("상품 변경/삭제는 커밋 이후에 반영된다")
+    void upsertAndRemove_AfterCommit() {
+        Product renamed = new Product();
+        renamed.setId(2L);
+        renamed.setName("트랙볼");
+        renamed.setStatus(ProductStatus.AVAILABLE);
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.upsert(renamed);
+        index.remove(1L);
+        renamed.setName("변경 이후 값은 무시");
+        assertThat(index.search("마우스", ProductStatus.AVAILABLE, 10)).containsExactly(2L, 1L, 3L);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(index.search("마우스", ProductStatus.AVAILABLE, 10)).containsExactly(3L);
+        assertThat(index.search("트랙볼", ProductStatus.AVAILABLE, 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("tombstone 이 쌓이면 압축 후에도 같은 결과를 반환한다")
+    void compaction_KeepsResults() {
+        for (int i = 0; i < 10; i++) {
+            index.upsertNow(2L, "마우스", "유선 " + i, ProductStatus.AVAILABLE);
+        }
+
+        assertThat(index.size()).isEqualTo(5);
+        assertThat(index.search("마우스", ProductStatus.AVAILABLE, 10)).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("재구성은 DB 상태로 교체하므로 리스너 없이 삭제/변경된 상품도 반영된다")
+    void rebuild_ReplacesWithRepositoryState() {
+        when(productRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(
+                product(2L, "마우스"),
+                product(3L, "게이밍 키보드"))));
+
+        assertThat(index.rebuild()).isEqualTo(2);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("마우스", ProductStatus.AVAILABLE, 10)).containsExactly(2L);
+        assertThat(index.search("키보드", ProductStatus.AVAILABLE, 10)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("재구성 중 커밋된 변경은 읽어 온 이전 값보다 우선한다")
+    void rebuild_ReplaysChangesDuringRebuild() {
+        when(productRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+            index.upsertNow(2L, "트랙볼", null, ProductStatus.AVAILABLE);
+            index.upsertNow(6L, "마우스 번지", null, ProductStatus.AVAILABLE);
+            return new PageImpl<>(List.of(product(1L, "무선 마우스"), product(2L, "마우스")));
+        });
+
+        index.rebuild();
+
+        assertThat(index.search("마우스", ProductStatus.AVAILABLE, 10)).containsExactly(6L, 1L);
+        assertThat(index.search("트랙볼", ProductStatus.AVAILABLE, 10)).containsExactly(2L);
+    }
+
+    private static Product product(Long id, String name) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName(name);
+        product.setStatus(ProductStatus.AVAILABLE);
+        return product;
+    }
+}
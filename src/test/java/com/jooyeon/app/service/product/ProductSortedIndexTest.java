@@ -0,0 +1,183 @@
+package com.jooyeon.app.service.product;
+
+import com.jooyeon.app.domain.dto.product.ProductSortKey;
+import com.jooyeon.app.domain.entity.product.Product;
+import com.jooyeon.app.domain.entity.product.ProductStatus;
+import com.jooyeon.app.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductSortedIndex 테스트")
+class ProductSortedIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductSortedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSortedIndex(productRepository, false, 2);
+        when(productRepository.findSortKeysAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                key(1L, "Mouse", "29.99"),
+                key(2L, "Laptop", "1299.99")));
+        when(productRepository.findSortKeysAfter(eq(2L), any(Pageable.class))).thenReturn(List.of(
+                key(3L, "Keyboard", "89.99"),
+                key(4L, "Cable", "9.99")));
+        when(productRepository.findSortKeysAfter(eq(4L), any(Pageable.class))).thenReturn(List.of(
+                key(5L, "Monitor", "299.99"),
+                new ProductSortKey(6L, ProductStatus.UNAVAILABLE, new BigDecimal("49.99"), "Webcam")));
+        when(productRepository.findSortKeysAfter(eq(6L), any(Pageable.class))).thenReturn(List.of());
+
+        assertThat(index.rebuild()).isEqualTo(6);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("가격 범위는 양 끝을 포함하고 상태별로 나뉜다")
+    void findIdsByPriceRange_Inclusive() {
+        Page<Long> page = index.findIdsByPriceRange(ProductStatus.AVAILABLE,
+                new BigDecimal("29.99"), new BigDecimal("299.99"), PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).containsExactly(1L, 3L, 5L);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(index.findIdsByPriceRange(ProductStatus.UNAVAILABLE, null, null, PageRequest.of(0, 10)).getContent())
+                .containsExactly(6L);
+    }
+
+    @Test
+    @DisplayName("최소 단위 이하 범위는 최소값은 올림, 최대값은 내림으로 비교한다")
+    void findIdsByPriceRange_SubMinorUnitBounds() {
+        Page<Long> page = index.findIdsByPriceRange(ProductStatus.AVAILABLE,
+                new BigDecimal("29.985"), new BigDecimal("89.989"), PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("가격 내림차순 페이지와 전체 건수를 반환한다")
+    void findIdsByPriceRange_DescendingPage() {
+        Page<Long> first = index.findIdsByPriceRange(ProductStatus.AVAILABLE, null, null,
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "price")));
+        Page<Long> last = index.findIdsByPriceRange(ProductStatus.AVAILABLE, null, null,
+                PageRequest.of(2, 2, Sort.by(Sort.Direction.DESC, "price")));
+
+        assertThat(first.getContent()).containsExactly(2L, 5L);
+        assertThat(last.getContent()).containsExactly(4L);
+        assertThat(last.getTotalElements()).isEqualTo(5);
+        assertThat(index.findIdsByPriceRange(ProductStatus.AVAILABLE, null, null, PageRequest.of(3, 2)).getContent())
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("상품명 순, 역순 페이지를 반환한다")
+    void findIdsOrderByName() {
+        assertThat(index.findIdsOrderByName(ProductStatus.AVAILABLE, PageRequest.of(0, 3)).getContent())
+                .containsExactly(4L, 3L, 2L);
+        assertThat(index.findIdsOrderByName(ProductStatus.AVAILABLE,
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "name"))).getContent())
+                .containsExactly(1L, 5L);
+    }
+
+    @Test
+    @DisplayName("가격/상태 변경과 삭제는 커밋 이후 정렬 위치에 반영된다")
+    void upsertAndRemove_AfterCommit() {
+        Product laptop = product(2L, "Laptop", "19.99", ProductStatus.AVAILABLE);
+        Product webcam = product(6L, "Webcam", "49.99", ProductStatus.AVAILABLE);
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.upsert(laptop);
+        index.upsert(webcam);
+        index.remove(3L);
+        laptop.setPrice(new BigDecimal("5000.00"));
+        assertThat(index.findIdsByPriceRange(ProductStatus.AVAILABLE, null, null, PageRequest.of(0, 10)).getContent())
+                .containsExactly(4L, 1L, 3L, 5L, 2L);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(index.findIdsByPriceRange(ProductStatus.AVAILABLE, null, null, PageRequest.of(0, 10)).getContent())
+                .containsExactly(4L, 2L, 1L, 6L, 5L);
+        assertThat(index.findIdsOrderByName(ProductStatus.AVAILABLE, PageRequest.of(0, 10)).getContent())
+                .containsExactly(4L, 2L, 5L, 1L, 6L);
+        assertThat(index.findIdsByPriceRange(ProductStatus.UNAVAILABLE, null, null, PageRequest.of(0, 10)).getContent())
+                .isEmpty();
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("같은 가격은 상품 ID 순으로 정렬된다")
+    void samePrice_OrderedById() {
+        index.upsert(product(10L, "Mouse Pad", "29.99", ProductStatus.AVAILABLE));
+        index.upsert(product(0L, "Mouse Bungee", "29.99", ProductStatus.AVAILABLE));
+
+        assertThat(index.findIdsByPriceRange(ProductStatus.AVAILABLE,
+                new BigDecimal("29.99"), new BigDecimal("29.99"), PageRequest.of(0, 10)).getContent())
+                .containsExactly(0L, 1L, 10L);
+    }
+
+    @Test
+    @DisplayName("주기적 재구성은 리스너를 거치지 않은 삭제/가격 변경을 반영한다")
+    void refresh_ReflectsExternalChanges() {
+        when(productRepository.findSortKeysAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                key(1L, "Mouse", "9.99")));
+
+        index.refresh();
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.findIdsByPriceRange(ProductStatus.AVAILABLE, null, null, PageRequest.of(0, 10)).getContent())
+                .containsExactly(1L);
+        assertThat(index.findIdsByPriceRange(ProductStatus.UNAVAILABLE, null, null, PageRequest.of(0, 10)).getContent())
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("주기적 재구성이 실패하면 기존 색인을 유지한다")
+    void refresh_KeepsIndexOnFailure() {
+        when(productRepository.findSortKeysAfter(eq(0L), any(Pageable.class)))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        index.refresh();
+
+        assertThat(index.size()).isEqualTo(6);
+    }
+
+    private static ProductSortKey key(Long id, String name, String price) {
+        return new ProductSortKey(id, ProductStatus.AVAILABLE, new BigDecimal(price), name);
+    }
+
+    private static Product product(Long id, String name, String price, ProductStatus status) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName(name);
+        product.setPrice(new BigDecimal(price));
+        product.setStatus(status);
+        return product;
+    }
+}
@@ -0,0 +1,36 @@
+package db.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("V7 시퀀스 전환 마이그레이션 테스트")
+class V7__Use_sequence_idsTest {
+
+    @Test
+    @DisplayName("시퀀스는 기존 최대 ID 다음 값부터 할당되도록 시작한다")
+    void sequencesStartAfterExistingIds() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:v7" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        Flyway.configure().dataSource(dataSource).target("6").load().migrate();
+        jdbcTemplate.update("INSERT INTO products (id, name, price, status) VALUES (5000, '기존 상품', 10.00, 'AVAILABLE')");
+
+        Flyway.configure().dataSource(dataSource).target("7").load().migrate();
+
+        // 기존 데이터가 적은 테이블은 initialValue 부터, 많은 테이블은 MAX(id) + allocationSize 부터
+        assertThat(jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR members_seq", Long.class))
+                .isEqualTo(V7__Use_sequence_ids.INITIAL_VALUE);
+        long productsNext = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR products_seq", Long.class);
+        assertThat(productsNext).isEqualTo(5000L + V7__Use_sequence_ids.ALLOCATION_SIZE);
+        // pooled optimizer 의 첫 ID (값 - (allocationSize - 1)) 가 기존 ID 와 겹치지 않는다
+        assertThat(productsNext - (V7__Use_sequence_ids.ALLOCATION_SIZE - 1)).isEqualTo(5001L);
+    }
+}